@@ -0,0 +1,69 @@
+package org.zerock.mybackendapp.auth.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 검증 1회당 할당량 비교 (./gradlew jmh)
+ *
+ * parserPerCall : 변경 전 - 검증할 때마다 Jwts.parser()...build() 로 파서를 새로 생성
+ * sharedParser  : 변경 후 - 키당 한 번 만든 파서를 재사용
+ * jwtUtilVerify : JwtUtil.verify 전체 경로 (VerifiedToken 생성 포함)
+ *
+ * 결과의 gc.alloc.rate.norm (B/op) 값이 검증 1회당 할당 바이트 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParserBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLong";
+
+    private SecretKey secretKey;
+    private JwtParser sharedParser;
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        sharedParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        jwtUtil = new JwtUtil(JwtKeyRing.ofSecret(SECRET), 3600000L);
+        token = jwtUtil.generateAccessToken("benchmark", 1L, "USER");
+    }
+
+    @Benchmark
+    public Claims parserPerCall() {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return sharedParser
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public VerifiedToken jwtUtilVerify() {
+        return jwtUtil.verify(token);
+    }
+}
@@ -0,0 +1,72 @@
+package org.zerock.mybackendapp.auth.util;
+
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.KeyPair;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 링 서명 방식별 발급/검증 처리량 비교 (./gradlew jmh -Pjmh.includes=JwtSigningBenchmark)
+ *
+ * hs256* : 32바이트 HMAC 키 (HS256)
+ * eddsa* : Ed25519 키 쌍 (검증 노드는 공개키만 보유)
+ *
+ * 발급은 JwtUtil.generateAccessToken, 검증은 JwtUtil.verify 전체 경로로 측정 (kid 조회 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtSigningBenchmark {
+
+    private static final String HS256_SECRET = "benchmark-hs256-secret-32-bytes!";
+
+    private JwtUtil hs256;
+    private JwtUtil eddsa;
+    private String hs256Token;
+    private String eddsaToken;
+
+    @Setup
+    public void setUp() {
+        hs256 = new JwtUtil(new JwtKeyRing(
+                List.of(JwtKeyRing.RingKey.hmac("hs256", HS256_SECRET.getBytes(), Instant.EPOCH, null)),
+                Clock.systemUTC()), 3600000L);
+
+        KeyPair keyPair = Jwts.SIG.Ed25519.keyPair().build();
+        eddsa = new JwtUtil(new JwtKeyRing(
+                List.of(new JwtKeyRing.RingKey("ed25519", keyPair.getPrivate(), keyPair.getPublic(), Instant.EPOCH, null)),
+                Clock.systemUTC()), 3600000L);
+
+        hs256Token = hs256.generateAccessToken("benchmark", 1L, "USER");
+        eddsaToken = eddsa.generateAccessToken("benchmark", 1L, "USER");
+    }
+
+    @Benchmark
+    public String hs256Sign() {
+        return hs256.generateAccessToken("benchmark", 1L, "USER");
+    }
+
+    @Benchmark
+    public VerifiedToken hs256Verify() {
+        return hs256.verify(hs256Token);
+    }
+
+    @Benchmark
+    public String eddsaSign() {
+        return eddsa.generateAccessToken("benchmark", 1L, "USER");
+    }
+
+    @Benchmark
+    public VerifiedToken eddsaVerify() {
+        return eddsa.verify(eddsaToken);
+    }
+}
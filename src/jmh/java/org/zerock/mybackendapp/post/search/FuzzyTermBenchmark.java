@@ -0,0 +1,109 @@
+package org.zerock.mybackendapp.post.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오타 교정 한 번의 지연 시간과 후보 수 (./gradlew jmh -Pjmh.includes=FuzzyTermBenchmark)
+ *
+ * 사전은 영문 소문자 4~12자 무작위 단어 (시드 고정), 검색어는 사전 단어에 글자 하나를 바꾸거나 지우거나
+ * 인접한 두 글자를 바꾼 오타다
+ * correct    : 트라이그램 후보 생성 + 편집 거리 확인 전체
+ * candidates : 후보 생성만 (훑는 포스팅 수는 MAX_SCANNED_POSTINGS, 후보 수는 MAX_CANDIDATES가 상한)
+ *
+ * 사전 크기가 100배가 되어도 지연 시간이 상한 근처에서 멈추는지 본다
+ * 검색어별 평균 후보 수는 실행 끝에 출력한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FuzzyTermBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"10000", "1000000"})
+    private int terms;
+
+    private FuzzyTermIndex index;
+    private String[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new FuzzyTermIndex();
+        String[] words = new String[terms];
+        for(int i = 0; i < terms; i++) {
+            words[i] = randomWord(random);
+            index.add(words[i]);
+        }
+        queries = new String[QUERIES];
+        for(int i = 0; i < QUERIES; i++) {
+            queries[i] = typo(words[random.nextInt(terms)], random);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void printCandidates() {
+        long candidates = 0;
+        int corrected = 0;
+        for(String query : queries) {
+            candidates += index.candidates(query, FuzzyTermIndex.maxDistance(query)).size();
+            if(index.correct(query) != null) {
+                corrected++;
+            }
+        }
+        System.out.printf("%n[오타 교정] 사전 %d개, 검색어당 평균 후보 %.1f개, 교정 %d/%d%n",
+                index.size(), (double) candidates / QUERIES, corrected, QUERIES);
+    }
+
+    @Benchmark
+    public String correct() {
+        return index.correct(nextQuery());
+    }
+
+    @Benchmark
+    public int candidates() {
+        String query = nextQuery();
+        return index.candidates(query, FuzzyTermIndex.maxDistance(query)).size();
+    }
+
+    private String nextQuery() {
+        String query = queries[next];
+        next = (next + 1) & (QUERIES - 1);
+        return query;
+    }
+
+    private static String randomWord(Random random) {
+        char[] chars = new char[4 + random.nextInt(9)];
+        for(int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+
+    private static String typo(String word, Random random) {
+        StringBuilder builder = new StringBuilder(word);
+        int position = random.nextInt(word.length() - 1);
+        switch(random.nextInt(3)) {
+            case 0 -> builder.setCharAt(position, (char) ('a' + random.nextInt(26)));
+            case 1 -> builder.deleteCharAt(position);
+            default -> {
+                builder.setCharAt(position, word.charAt(position + 1));
+                builder.setCharAt(position + 1, word.charAt(position));
+            }
+        }
+        return builder.toString();
+    }
+}
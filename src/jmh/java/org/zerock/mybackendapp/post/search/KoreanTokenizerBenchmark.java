@@ -0,0 +1,126 @@
+package org.zerock.mybackendapp.post.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한글 게시글 토큰 분리 처리량과 색인 크기 (./gradlew jmh -Pjmh.includes=KoreanTokenizerBenchmark)
+ *
+ * 말뭉치는 명사 + 조사, 복합명사, 영문 용어를 섞어 만든 가짜 게시글 본문이다 (시드 고정)
+ * whitespaceSplit : 공백 기준 분리 + 소문자 String (기존 방식에 가까운 기준선)
+ * bigramTokenize  : PostTokenizer의 char 버퍼 경로 - 한글 2음절, 소문자 단어, 토큰당 할당 없음
+ * bigramCount     : 색인 경로 - 같은 토큰을 TermCounter로 세며 단어 종류마다 String 하나
+ *
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op)으로 비교하고
+ * 말뭉치 전체를 InMemoryPostSearchEngine에 색인한 크기(단어 수, 포스팅 바이트)는 실행 끝에 출력한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KoreanTokenizerBenchmark {
+
+    private static final String[] NOUNS = {
+            "스프링", "데이터베이스", "게시글", "인덱스", "트랜잭션", "캐시", "서버", "배포", "테스트", "검색",
+            "사용자", "인증", "토큰", "쿼리", "성능", "메모리", "스레드", "설정", "로그", "모니터링"};
+    private static final String[] PARTICLES = {"", "을", "를", "이", "가", "은", "는", "에서", "으로", "의", "와"};
+    private static final String[] VERBS = {"정리했다", "바꿨다", "확인했다", "줄였다", "배우자", "살펴보자"};
+    private static final String[] LATIN = {"Spring", "JPA", "Postgres", "Redis", "JVM", "GC", "HTTP/2", "p99"};
+
+    @Param({"1000", "10000"})
+    private int documents;
+
+    private List<String> corpus;
+    private int next;
+    private TermCounter counter;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        corpus = new ArrayList<>(documents);
+        for(int i = 0; i < documents; i++) {
+            corpus.add(sentence(random, 40 + random.nextInt(80)));
+        }
+        counter = new TermCounter();
+    }
+
+    // 말뭉치 전체를 색인했을 때의 크기 (처리량 측정과는 별개)
+    @TearDown(Level.Trial)
+    public void printIndexSize() {
+        InMemoryPostSearchEngine engine = new InMemoryPostSearchEngine(
+                null, new PostTitleSuggester(null, Duration.ofMinutes(1)), Duration.ofMinutes(1));
+        LocalDateTime now = LocalDateTime.now();
+        long textChars = 0;
+        for(int i = 0; i < corpus.size(); i++) {
+            String content = corpus.get(i);
+            textChars += content.length();
+            engine.index(new PostDocument((long) i + 1, content.substring(0, 20), content, 1L, "author", now, now));
+        }
+        System.out.printf("%n[색인 크기] 게시글 %d개, 본문 %dKB(문자), 단어 %d개, 포스팅 %dKB%n",
+                engine.postCount(), textChars * 2 / 1024, engine.termCount(), engine.postingBytes() / 1024);
+    }
+
+    @Benchmark
+    public void whitespaceSplit(Blackhole blackhole) {
+        for(String word : nextDocument().split("\\s+")) {
+            blackhole.consume(word.toLowerCase());
+        }
+    }
+
+    @Benchmark
+    public void bigramTokenize(Blackhole blackhole) {
+        PostTokenizer.current().tokenize(nextDocument(), (buffer, length) -> blackhole.consume(length));
+    }
+
+    @Benchmark
+    public void bigramCount(Blackhole blackhole) {
+        PostTokenizer.current().tokenize(nextDocument(), counter.clear());
+        blackhole.consume(counter.size());
+    }
+
+    private String nextDocument() {
+        String document = corpus.get(next);
+        next = next + 1 == corpus.size() ? 0 : next + 1;
+        return document;
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder(words * 6);
+        for(int i = 0; i < words; i++) {
+            if(i > 0) {
+                builder.append(' ');
+            }
+            int kind = random.nextInt(10);
+            if(kind < 5) {
+                builder.append(pick(random, NOUNS)).append(pick(random, PARTICLES));
+            } else if(kind < 7) {
+                // 복합명사 ("데이터베이스인덱스")
+                builder.append(pick(random, NOUNS)).append(pick(random, NOUNS));
+            } else if(kind < 9) {
+                builder.append(pick(random, LATIN)).append(random.nextBoolean() ? pick(random, PARTICLES) : "");
+            } else {
+                builder.append(pick(random, VERBS)).append('.');
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String pick(Random random, String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+}
@@ -0,0 +1,89 @@
+package org.zerock.mybackendapp.post.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제목 자동완성 한 번의 지연 시간 (./gradlew jmh -Pjmh.includes=TitleTrieBenchmark)
+ *
+ * 제목은 한글/영문 단어 2~5개를 이은 가짜 제목 (시드 고정), 접두어는 실제 제목의 앞 1~8글자다
+ * suggest : 정규화 + 접두어 길이만큼 내려가기 + 노드의 최신 목록 복사 (제목 수와 상관없이 일정해야 한다)
+ * put     : 새 제목 하나 추가 (지나는 노드마다 최신 목록에 끼워 넣기)
+ *
+ * 트라이 크기(제목 수, 노드 수)는 실행 끝에 출력한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TitleTrieBenchmark {
+
+    private static final String[] WORDS = {
+            "스프링", "데이터베이스", "게시글", "인덱스", "트랜잭션", "캐시", "배포", "테스트", "검색", "성능",
+            "Spring", "JPA", "Postgres", "Redis", "JVM", "Kotlin", "Docker", "입문", "정리", "회고"};
+    private static final int PREFIXES = 1024;
+
+    @Param({"10000", "1000000"})
+    private int titles;
+
+    private TitleTrie trie;
+    private String[] prefixes;
+    private int next;
+    private long nextId;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+        trie = new TitleTrie(PostTitleSuggester.MAX_SUGGESTIONS);
+        prefixes = new String[PREFIXES];
+        for(nextId = 1; nextId <= titles; nextId++) {
+            String title = randomTitle(random);
+            trie.put(new PostTitle(nextId, title, LocalDateTime.now(), null));
+            if(nextId <= PREFIXES) {
+                prefixes[(int) nextId - 1] = title.substring(0, Math.min(title.length(), 1 + random.nextInt(8)));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void printSize() {
+        System.out.printf("%n[제목 트라이] 제목 %d개, 노드 %d개%n", trie.size(), trie.nodeCount());
+    }
+
+    @Benchmark
+    public List<PostTitle> suggest() {
+        String prefix = prefixes[next];
+        next = (next + 1) & (PREFIXES - 1);
+        return trie.suggest(prefix, PostTitleSuggester.MAX_SUGGESTIONS);
+    }
+
+    @Benchmark
+    public void put() {
+        trie.put(new PostTitle(nextId++, randomTitle(random), LocalDateTime.now(), null));
+    }
+
+    private static String randomTitle(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int words = 2 + random.nextInt(4);
+        for(int i = 0; i < words; i++) {
+            if(i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -1,18 +1,32 @@
 package org.zerock.mybackendapp.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.zerock.mybackendapp.auth.dto.IntrospectRequest;
+import org.zerock.mybackendapp.auth.dto.IntrospectResponse;
+import org.zerock.mybackendapp.auth.dto.IntrospectionResult;
 import org.zerock.mybackendapp.auth.dto.LoginRequest;
 import org.zerock.mybackendapp.auth.dto.LoginResponse;
 import org.zerock.mybackendapp.auth.dto.RegisterRequest;
 import org.zerock.mybackendapp.auth.dto.TokenRefreshRequest;
 import org.zerock.mybackendapp.auth.service.AuthService;
+import org.zerock.mybackendapp.auth.service.LoginThrottle;
+import org.zerock.mybackendapp.auth.service.TokenIntrospector;
+import org.zerock.mybackendapp.auth.util.LoginThrottledException;
+import org.zerock.mybackendapp.auth.util.PasswordHashingRejectedException;
+import org.zerock.mybackendapp.auth.util.VerifiedToken;
 import org.zerock.mybackendapp.user.domain.User;
+import org.zerock.mybackendapp.user.dto.Availability;
+import org.zerock.mybackendapp.user.dto.UserSnapshot;
+import org.zerock.mybackendapp.user.service.UserService;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -22,6 +36,9 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginThrottle loginThrottle;
+    private final TokenIntrospector tokenIntrospector;
+    private final UserService userService;
 
     @PostMapping("/register")
     public ResponseEntity<?> register(@Validated @RequestBody RegisterRequest request) {
@@ -46,6 +63,28 @@ public class AuthController {
         } catch (IllegalArgumentException e) {
             log.error("회원가입 실패: {}", e.getMessage());
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (PasswordHashingRejectedException e) {
+            log.warn("회원가입 요청 거절 (패스워드 해싱 풀 포화): {}", e.getMessage());
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            log.error("예상치 못한 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "내부 서버 오류"));
+        }
+    }
+
+    // 가입 폼에서 입력 중에 호출하는 사용자명/이메일 사용 가능 여부 확인 (대부분 DB 조회 없이 응답)
+    @GetMapping("/availability")
+    public ResponseEntity<?> availability(@RequestParam(required = false) String username,
+                                          @RequestParam(required = false) String email) {
+        if((username == null || username.isBlank()) && (email == null || email.isBlank())) {
+            return ResponseEntity.badRequest().body(Map.of("error", "username 또는 email 중 하나는 필수입니다."));
+        }
+        try {
+            Availability availability = userService.checkAvailability(
+                    username == null || username.isBlank() ? null : username,
+                    email == null || email.isBlank() ? null : email);
+            return ResponseEntity.ok(availability);
         } catch (Exception e) {
             log.error("예상치 못한 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -54,11 +93,15 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Validated @RequestBody LoginRequest request) {
+    public ResponseEntity<?> login(@Validated @RequestBody LoginRequest request,
+                                   HttpServletRequest httpRequest) {
         try {
             log.info("=== 로그인 API 요청 ===");
             log.info("요청 데이터: username={}", request.getUsername());
 
+            // 시도 한도 확인: 서비스 호출(사용자 조회, BCrypt 검증, 트랜잭션)보다 먼저 거절해 커넥션과 해싱 CPU를 쓰지 않는다
+            loginThrottle.check(request.getUsername(), httpRequest.getRemoteAddr());
+
             LoginResponse response = authService.login(request);
 
             log.info("로그인 성공: username={}, userId={}",
@@ -67,8 +110,18 @@ public class AuthController {
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             log.error("로그인 실패: {}", e.getMessage());
+            loginThrottle.recordFailure(request.getUsername(), httpRequest.getRemoteAddr());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", e.getMessage()));
+        } catch (LoginThrottledException e) {
+            log.warn("로그인 요청 거절 (시도 한도 초과): {}", e.getMessage());
+            long retryAfterSeconds = Math.max(1L, (e.getRetryAfter().toMillis() + 999) / 1000);
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .body(Map.of("error", e.getMessage()));
+        } catch (PasswordHashingRejectedException e) {
+            log.warn("로그인 요청 거절 (패스워드 해싱 풀 포화): {}", e.getMessage());
+            return serviceUnavailable(e);
         } catch (Exception e) {
             log.error("예상치 못한 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -111,31 +164,28 @@ public class AuthController {
             String token = authHeader.substring(7);
             log.info("추출된 토큰 길이: {}", token.length());
 
-            boolean isValid = authService.validateToken(token);
-
-            if(isValid) {
-                User user = authService.getUserFromToken(token);
-
-                Map<String, Object> response = Map.of(
-                        "valid", true,
-                        "user", Map.of(
-                                "id", user.getId(),
-                                "username", user.getUsername(),
-                                "email", user.getEmail(),
-                                "role", user.getRole().name()
-                        )
-                );
-
-                log.info("토큰 검증 성공: username={}", user.getUsername());
-                return ResponseEntity.ok(response);
-            } else {
-                log.warn("토큰 검증 실패");
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(Map.of(
-                                "valid", false,
-                                "error", "유효하지 않은 토큰"
-                        ));
-            }
+            VerifiedToken verifiedToken = authService.verifyAccessToken(token);
+            UserSnapshot user = authService.getUserFromToken(verifiedToken);
+
+            Map<String, Object> response = Map.of(
+                    "valid", true,
+                    "user", Map.of(
+                            "id", user.id(),
+                            "username", user.username(),
+                            "email", user.email(),
+                            "role", user.role().name()
+                    )
+            );
+
+            log.info("토큰 검증 성공: username={}", user.username());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("토큰 검증 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of(
+                            "valid", false,
+                            "error", "유효하지 않은 토큰"
+                    ));
         } catch (Exception e) {
             log.error("토큰 검증 중 오류 발생: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -146,6 +196,50 @@ public class AuthController {
         }
     }
 
+    // 여러 토큰을 한 번에 검증 (게이트웨이/사이드카용, 클라이언트 키 인증과 호출 제한은 IntrospectionClientFilter). 결과는 요청 순서대로 반환
+    @PostMapping("/introspect")
+    public ResponseEntity<?> introspect(@Validated @RequestBody IntrospectRequest request) {
+        try {
+            log.info("=== 일괄 토큰 검증 API 요청: {}개 ===", request.getTokens().size());
+            List<IntrospectionResult> results = tokenIntrospector.introspect(request.getTokens());
+            return ResponseEntity.ok(new IntrospectResponse(results));
+        } catch (IllegalArgumentException e) {
+            log.warn("일괄 토큰 검증 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("예상치 못한 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "내부 서버 오류"));
+        }
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestHeader(value = "Authorization", required = false) String authHeader,
+                                    @RequestBody(required = false) TokenRefreshRequest request) {
+        try {
+            log.info("=== 로그아웃 API 요청 ===");
+
+            if(authHeader == null || !authHeader.startsWith("Bearer ")) {
+                log.warn("유효하지 않은 Authorization 헤더");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "인증이 필요합니다"));
+            }
+
+            VerifiedToken verifiedToken = authService.verifyAccessToken(authHeader.substring(7));
+            authService.logout(verifiedToken, request != null ? request.getRefreshToken() : null);
+
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            log.warn("로그아웃 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("예상치 못한 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "내부 서버 오류"));
+        }
+    }
+
     @GetMapping("/me")
     public ResponseEntity<?> getCurrentUser(@RequestHeader(value = "Authorization", required = false) String authHeader) {
         try {
@@ -158,18 +252,19 @@ public class AuthController {
             }
 
             String token = authHeader.substring(7);
-            User user = authService.getUserFromToken(token);
+            VerifiedToken verifiedToken = authService.verifyAccessToken(token);
+            UserSnapshot user = authService.getUserFromToken(verifiedToken);
 
             Map<String, Object> response = Map.of(
-                    "id", user.getId(),
-                    "username", user.getUsername(),
-                    "email", user.getEmail(),
-                    "role", user.getRole().name(),
-                    "createdAt", user.getCreatedAt(),
-                    "updatedAt", user.getUpdatedAt()
+                    "id", user.id(),
+                    "username", user.username(),
+                    "email", user.email(),
+                    "role", user.role().name(),
+                    "createdAt", user.createdAt(),
+                    "updatedAt", user.updatedAt()
             );
 
-            log.info("현재 사용자 정보 조회 성공: username={}", user.getUsername());
+            log.info("현재 사용자 정보 조회 성공: username={}", user.username());
             return ResponseEntity.ok(response);
 
         } catch(Exception e) {
@@ -179,4 +274,10 @@ public class AuthController {
         }
     }
 
+    private ResponseEntity<?> serviceUnavailable(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", e.getMessage()));
+    }
+
 }
@@ -0,0 +1,73 @@
+package org.zerock.mybackendapp.auth.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+// 발급된 리프레시 토큰 기록 (메모리 저장소의 write-through 대상, 재기동 후 복구용)
+// 같은 로그인에서 회전되어 나온 토큰들은 같은 familyId를 공유한다
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken implements Persistable<String> {
+
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Status status;
+
+    // jti를 직접 할당하므로 save()가 merge(추가 SELECT) 대신 persist를 쓰도록 새 엔티티 여부를 직접 관리
+    @Transient
+    private boolean isNew = true;
+
+    public static RefreshToken of(String jti, String familyId, Long userId, Instant expiresAt, Status status) {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.jti = jti;
+        refreshToken.familyId = familyId;
+        refreshToken.userId = userId;
+        refreshToken.expiresAt = expiresAt;
+        refreshToken.status = status;
+        return refreshToken;
+    }
+
+    @Override
+    public String getId() {
+        return jti;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+
+    // ACTIVE: 사용 가능, ROTATED: 이미 새 토큰으로 교체됨(재사용 시 탈취로 간주), REVOKED: 폐기됨
+    public enum Status {
+        ACTIVE, ROTATED, REVOKED
+    }
+}
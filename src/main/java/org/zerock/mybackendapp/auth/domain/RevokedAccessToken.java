@@ -0,0 +1,58 @@
+package org.zerock.mybackendapp.auth.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+// 만료 전에 폐기된 액세스 토큰 (기동 시 메모리 폐기 목록을 다시 만들기 위한 기록)
+@Entity
+@Table(name = "revoked_access_tokens", indexes = {
+        @Index(name = "idx_revoked_access_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_access_tokens_revoked_at", columnList = "revoked_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedAccessToken implements Persistable<String> {
+
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    // 다른 노드가 새로 폐기한 토큰을 주기적으로 가져갈 때 기준이 되는 시각 (DB 시계 기준, 컬럼 추가 전 행은 null)
+    @Column(name = "revoked_at")
+    private Instant revokedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public static RevokedAccessToken of(String jti, Instant expiresAt) {
+        RevokedAccessToken revokedAccessToken = new RevokedAccessToken();
+        revokedAccessToken.jti = jti;
+        revokedAccessToken.expiresAt = expiresAt;
+        revokedAccessToken.revokedAt = Instant.now();
+        return revokedAccessToken;
+    }
+
+    @Override
+    public String getId() {
+        return jti;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+}
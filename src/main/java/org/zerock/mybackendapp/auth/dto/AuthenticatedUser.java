@@ -0,0 +1,19 @@
+package org.zerock.mybackendapp.auth.dto;
+
+import org.zerock.mybackendapp.auth.util.VerifiedToken;
+
+import java.security.Principal;
+
+// 액세스 토큰 클레임만으로 만드는 인증 주체 (요청마다 users 테이블을 조회하지 않음)
+// User 엔티티가 필요한 핸들러만 id로 직접 조회한다
+public record AuthenticatedUser(Long id, String username, String role) implements Principal {
+
+    public static AuthenticatedUser from(VerifiedToken verifiedToken) {
+        return new AuthenticatedUser(verifiedToken.userId(), verifiedToken.subject(), verifiedToken.role());
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -0,0 +1,22 @@
+package org.zerock.mybackendapp.auth.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntrospectRequest {
+
+    @NotEmpty(message = "검증할 토큰은 하나 이상이어야 합니다")
+    private List<String> tokens;
+
+    public static IntrospectRequest of(List<String> tokens) {
+        return new IntrospectRequest(tokens);
+    }
+
+}
@@ -0,0 +1,6 @@
+package org.zerock.mybackendapp.auth.dto;
+
+import java.util.List;
+
+public record IntrospectResponse(List<IntrospectionResult> results) {
+}
@@ -0,0 +1,20 @@
+package org.zerock.mybackendapp.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.zerock.mybackendapp.auth.util.VerifiedToken;
+
+// 토큰 하나의 검증 결과 (요청 순서와 같은 위치에 담김). 무효 토큰은 {"valid":false} 만 내려간다
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record IntrospectionResult(boolean valid, Long userId, String role, Long exp) {
+
+    private static final IntrospectionResult INVALID = new IntrospectionResult(false, null, null, null);
+
+    public static IntrospectionResult valid(VerifiedToken verifiedToken) {
+        return new IntrospectionResult(true, verifiedToken.userId(), verifiedToken.role(),
+                verifiedToken.expiresAt().getEpochSecond());
+    }
+
+    public static IntrospectionResult invalid() {
+        return INVALID;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.zerock.mybackendapp.user.domain.User;
+import org.zerock.mybackendapp.user.dto.UserSnapshot;
 
 @Getter
 @NoArgsConstructor
@@ -34,4 +35,17 @@ public class LoginResponse {
         );
     }
 
+    public static LoginResponse of(UserSnapshot user, String accessToken, String refreshToken) {
+        log.info("로그인 응답 DTO 생성: username={}, userId={}", user.username(), user.id());
+
+        return new LoginResponse(
+                user.id(),
+                user.username(),
+                user.email(),
+                user.role().name(),
+                accessToken,
+                refreshToken
+        );
+    }
+
 }
@@ -0,0 +1,122 @@
+package org.zerock.mybackendapp.auth.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.zerock.mybackendapp.auth.util.GcraRateLimiter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+// 일괄 토큰 검증(POST /api/auth/introspect)은 게이트웨이/사이드카 전용
+// 설정된 클라이언트 키를 X-Introspect-Key 헤더로 보낸 요청만 INTROSPECT 권한으로 인증하고, 키별로 호출 빈도를 제한한다
+// 키가 틀리면 서명 검증 전에 401로 끝나므로 익명 호출자가 검증 CPU를 쓰게 하거나 토큰 유효성을 떠볼 수 없다
+@Component
+@Slf4j
+public class IntrospectionClientFilter extends OncePerRequestFilter {
+
+    public static final String PATH = "/api/auth/introspect";
+    public static final String KEY_HEADER = "X-Introspect-Key";
+    public static final String AUTHORITY = "INTROSPECT";
+
+    private static final String THROTTLE_MESSAGE = "일괄 토큰 검증 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final List<byte[]> clientKeys;
+    private final GcraRateLimiter byClient;
+    private final Counter rejected;
+    private final ObjectMapper objectMapper;
+
+    public IntrospectionClientFilter(ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${auth.introspect.client-keys:}") List<String> clientKeys,
+                                     @Value("${auth.introspect.rate-limit.burst:50}") int burst,
+                                     @Value("${auth.introspect.rate-limit.period:1s}") Duration period) {
+        this.objectMapper = objectMapper;
+        // 키 교체 중에는 이전 키와 새 키를 함께 설정할 수 있도록 여러 개를 받는다
+        this.clientKeys = clientKeys.stream()
+                .filter(key -> !key.isBlank())
+                .map(key -> key.trim().getBytes(StandardCharsets.UTF_8))
+                .toList();
+        this.byClient = new GcraRateLimiter(burst, period);
+        this.rejected = Counter.builder("auth.introspect.throttled")
+                .description("호출 한도 초과로 거절된 일괄 토큰 검증 요청 수")
+                .register(meterRegistry);
+
+        if(this.clientKeys.isEmpty()) {
+            log.warn("=== 일괄 토큰 검증 클라이언트 키가 없어 /api/auth/introspect 는 모든 요청을 거절합니다 ===");
+        } else {
+            log.info("=== 일괄 토큰 검증 클라이언트 키 {}개, 키별 {}회/{} ===", this.clientKeys.size(), burst, period);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        int client = findClient(request.getHeader(KEY_HEADER));
+        if(client < 0) {
+            // 인증 정보 없이 진행하면 SecurityConfig의 hasAuthority 규칙에서 401
+            log.warn("일괄 토큰 검증 클라이언트 키 불일치: remote={}", request.getRemoteAddr());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = byClient.tryAcquire(String.valueOf(client));
+        if(waitNanos > 0) {
+            rejected.increment();
+            log.warn("일괄 토큰 검증 호출 제한: client={}", client);
+            long retryAfterSeconds = Math.max(1L, (Duration.ofNanos(waitNanos).toMillis() + 999) / 1000);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getWriter(), Map.of("error", THROTTLE_MESSAGE));
+            return;
+        }
+
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                "introspect-client-" + client, null, List.of(new SimpleGrantedAuthority(AUTHORITY)));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || !request.getRequestURI().substring(request.getContextPath().length()).equals(PATH);
+    }
+
+    // 길이와 내용이 새어 나가지 않도록 상수 시간 비교 (모든 키를 끝까지 비교)
+    private int findClient(String presented) {
+        if(presented == null || presented.isEmpty()) {
+            return -1;
+        }
+        byte[] presentedBytes = presented.getBytes(StandardCharsets.UTF_8);
+        int found = -1;
+        for(int i = 0; i < clientKeys.size(); i++) {
+            if(MessageDigest.isEqual(clientKeys.get(i), presentedBytes) && found < 0) {
+                found = i;
+            }
+        }
+        return found;
+    }
+}
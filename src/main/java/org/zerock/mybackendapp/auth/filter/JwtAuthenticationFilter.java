@@ -13,8 +13,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.zerock.mybackendapp.auth.dto.AuthenticatedUser;
 import org.zerock.mybackendapp.auth.service.AuthService;
-import org.zerock.mybackendapp.user.domain.User;
+import org.zerock.mybackendapp.auth.util.VerifiedToken;
+import org.zerock.mybackendapp.config.PublicRoutes;
 
 import java.io.IOException;
 import java.util.List;
@@ -26,6 +28,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Lazy
     private final AuthService authService;
+    private final PublicRoutes publicRoutes;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -49,25 +52,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = authHeader.substring(7);
             log.info("토큰 추출 완료: 길이={}", token.length());
 
-            // 토큰 유효성 검증
-            if(!authService.validateToken(token)) {
-                log.warn("유효하지 않은 토큰");
-                filterChain.doFilter(request, response);
-                return;
-            }
+            // 토큰 유효성 검증 (서명 검증은 요청당 한 번)
+            VerifiedToken verifiedToken = authService.verifyAccessToken(token);
 
-            // 토큰에서 사용자 정보 추출
-            User user = authService.getUserFromToken(token);
+            // 토큰 클레임으로 인증 주체 생성 (DB 조회 없음)
+            AuthenticatedUser principal = AuthenticatedUser.from(verifiedToken);
             log.info("토큰에서 사용자 정보 추출: username={}, role={}",
-                    user.getUsername(), user.getRole());
+                    principal.username(), principal.role());
 
             // Spring Security 인증 객체 생성
             List<SimpleGrantedAuthority> authorities = List.of(
-                    new SimpleGrantedAuthority(user.getRole().toString())
+                    new SimpleGrantedAuthority(principal.role())
             );
 
             UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(user, null, authorities);
+                    new UsernamePasswordAuthenticationToken(principal, null, authorities);
 
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
@@ -75,7 +74,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
             log.info("Spring Security 인증 설정 완료: username={}, authorities={}",
-                    user.getUsername(), authorities);
+                    principal.username(), authorities);
         } catch (Exception e) {
             log.error("JWT 인증 처리 중 오류 발생: {}", e.getMessage());
             // 인증 실패해도 다음 필터로 진행 (Spring Security가 처리)
@@ -86,18 +85,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        String method = request.getMethod();
-
-        // 인증이 필요없는 경로들은 필터 적용 안함
-        boolean shouldSkip = path.startsWith("/api/auth/") ||
-                (path.equals("/api/users") && "GET".equals(method)) ||
-                (path.equals("/api/posts") && "GET".equals(method)) ||
-                (path.matches("/api/posts/\\d+") && "GET".equals(method)) ||
-                (path.equals("/api/posts/search") && "GET".equals(method));
+        // 인증이 필요없는 경로들은 필터 적용 안함 (SecurityConfig의 permitAll과 같은 표)
+        boolean shouldSkip = publicRoutes.matches(request);
 
         if(shouldSkip) {
-            log.info("JWT 필터 스킵: {} {}", method, path);
+            log.debug("JWT 필터 스킵: {} {}", request.getMethod(), request.getRequestURI());
         }
 
         return shouldSkip;
@@ -0,0 +1,37 @@
+package org.zerock.mybackendapp.auth.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.zerock.mybackendapp.auth.domain.RefreshToken;
+
+import java.time.Instant;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // ACTIVE인 경우에만 상태를 바꾸므로 여러 노드가 동시에 회전을 시도해도 한 번만 성공한다
+    @Modifying
+    @Transactional
+    @Query("update RefreshToken t set t.status = :to where t.jti = :jti and t.status = :from")
+    int updateStatus(@Param("jti") String jti,
+                     @Param("from") RefreshToken.Status from,
+                     @Param("to") RefreshToken.Status to);
+
+    // 로그아웃은 호출한 트랜잭션에 참여하고, 재사용 감지는 요청 트랜잭션이 끝난 뒤 별도 스레드에서 호출한다 (RefreshTokenStore)
+    @Modifying
+    @Transactional
+    @Query("update RefreshToken t set t.status = org.zerock.mybackendapp.auth.domain.RefreshToken.Status.REVOKED " +
+            "where t.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    // 만료된 행을 batchSize 개씩 지운다 (큰 DELETE 한 번으로 테이블을 오래 잠그지 않도록)
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM refresh_tokens WHERE jti IN " +
+            "(SELECT jti FROM refresh_tokens WHERE expires_at < :now LIMIT :batchSize)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") Instant now, @Param("batchSize") int batchSize);
+}
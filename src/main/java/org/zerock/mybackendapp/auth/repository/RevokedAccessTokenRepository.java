@@ -0,0 +1,34 @@
+package org.zerock.mybackendapp.auth.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.zerock.mybackendapp.auth.domain.RevokedAccessToken;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, String> {
+
+    List<RevokedAccessToken> findByExpiresAtAfter(Instant now);
+
+    List<RevokedAccessToken> findByRevokedAtAfterAndExpiresAtAfter(Instant since, Instant now);
+
+    // 같은 jti를 동시에 폐기해도 PK 충돌 예외 없이 한 건만 들어간다
+    // revoked_at은 노드마다 다른 시계 대신 DB 시각으로 기록해 동기화 기준을 하나로 맞춘다
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO revoked_access_tokens (jti, expires_at, revoked_at) VALUES (:jti, :expiresAt, now()) " +
+            "ON CONFLICT (jti) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("jti") String jti, @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM revoked_access_tokens WHERE jti IN " +
+            "(SELECT jti FROM revoked_access_tokens WHERE expires_at < :now LIMIT :batchSize)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") Instant now, @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,139 @@
+package org.zerock.mybackendapp.auth.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.zerock.mybackendapp.auth.domain.RevokedAccessToken;
+import org.zerock.mybackendapp.auth.repository.RevokedAccessTokenRepository;
+import org.zerock.mybackendapp.common.util.BloomFilter;
+import org.zerock.mybackendapp.common.util.TransactionCallbacks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 만료 전에 폐기된 액세스 토큰 목록 (jti 기준)
+// 요청마다 호출되므로 I/O 없이 Bloom filter → 정확한 맵 순서로 확인한다 (대부분의 토큰은 filter에서 바로 통과)
+// 폐기는 revoked_access_tokens 테이블에도 기록해 재기동 시 다시 적재한다
+// 메모리 맵과 filter는 호출한 트랜잭션이 커밋된 뒤에 반영하므로, 로그아웃이 롤백되면 토큰도 계속 유효하다
+// 다른 노드에서 로그아웃한 토큰은 sync()가 revoked_at 기준으로 주기적으로 가져온다 (최대 sync-interval만큼 늦게 반영)
+@Component
+@Slf4j
+public class AccessTokenRevocationList {
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final int purgeBatchSize;
+    private final Duration syncOverlap;
+
+    private final ConcurrentHashMap<String, Instant> revoked = new ConcurrentHashMap<>();
+    // Bloom filter는 원소를 지울 수 없으므로 만료 정리 때 새로 만들어 교체한다
+    private volatile BloomFilter filter;
+    // 지금까지 읽은 행 중 가장 늦은 revoked_at (동기화 high-water mark)
+    private volatile Instant syncedUntil = Instant.EPOCH;
+
+    public AccessTokenRevocationList(RevokedAccessTokenRepository revokedAccessTokenRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${auth.access-token-revocation.expected-insertions:10000}") int expectedInsertions,
+                                     @Value("${auth.access-token-revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                                     @Value("${auth.access-token-revocation.purge-batch-size:1000}") int purgeBatchSize,
+                                     @Value("${auth.access-token-revocation.sync-overlap:1m}") Duration syncOverlap) {
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.purgeBatchSize = purgeBatchSize;
+        this.syncOverlap = syncOverlap;
+        this.filter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+
+        Gauge.builder("auth.access-token.revoked", revoked, ConcurrentHashMap::size)
+                .description("메모리에 유지 중인 폐기된 액세스 토큰 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void load() {
+        Instant now = Instant.now();
+        for(RevokedAccessToken token : revokedAccessTokenRepository.findByExpiresAtAfter(now)) {
+            revoked.put(token.getJti(), token.getExpiresAt());
+            advanceSyncedUntil(token.getRevokedAt());
+        }
+        rebuildFilter();
+        log.info("=== 액세스 토큰 폐기 목록 적재: {}건 ===", revoked.size());
+    }
+
+    public boolean isRevoked(String jti) {
+        return filter.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    public void revoke(String jti, Instant expiresAt) {
+        if(!expiresAt.isAfter(Instant.now()) || revoked.containsKey(jti)) {
+            return;
+        }
+
+        // 동시에 같은 토큰으로 로그아웃해도 INSERT ... ON CONFLICT DO NOTHING이라 PK 충돌이 나지 않는다
+        revokedAccessTokenRepository.insertIfAbsent(jti, expiresAt);
+        TransactionCallbacks.afterCommit(() -> add(jti, expiresAt));
+
+        log.info("액세스 토큰 폐기: jti={}, 만료시간={}", jti, expiresAt);
+    }
+
+    // 다른 노드가 폐기한 토큰을 가져온다
+    // revoked_at은 INSERT 시점의 DB 시각이라 그보다 늦게 커밋된 행이 있을 수 있으므로 overlap만큼 겹쳐서 다시 읽는다
+    @Scheduled(fixedDelayString = "${auth.access-token-revocation.sync-interval:5s}")
+    public void sync() {
+        Instant since = syncedUntil.minus(syncOverlap);
+        int added = 0;
+        for(RevokedAccessToken token : revokedAccessTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(since, Instant.now())) {
+            if(!revoked.containsKey(token.getJti())) {
+                add(token.getJti(), token.getExpiresAt());
+                added++;
+            }
+            advanceSyncedUntil(token.getRevokedAt());
+        }
+
+        if(added > 0) {
+            log.debug("다른 노드의 액세스 토큰 폐기 반영: {}건", added);
+        }
+    }
+
+    // 만료 시각이 지난 토큰은 서명 검증 단계에서 이미 거절되므로 목록에서 빼고 filter를 다시 만든다
+    @Scheduled(fixedDelayString = "${auth.access-token-revocation.purge-interval:5m}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        rebuildFilter();
+
+        int deleted;
+        do {
+            deleted = revokedAccessTokenRepository.deleteExpiredBatch(now, purgeBatchSize);
+        } while(deleted == purgeBatchSize);
+
+        log.debug("액세스 토큰 폐기 목록 정리: {} → {}건", before, revoked.size());
+    }
+
+    private void add(String jti, Instant expiresAt) {
+        // 맵에 먼저 넣어야 filter 교체 중에도 rebuildFilter의 두 번째 순회가 이 jti를 놓치지 않는다
+        revoked.put(jti, expiresAt);
+        filter.put(jti);
+    }
+
+    private void advanceSyncedUntil(Instant revokedAt) {
+        if(revokedAt != null && revokedAt.isAfter(syncedUntil)) {
+            syncedUntil = revokedAt;
+        }
+    }
+
+    private void rebuildFilter() {
+        BloomFilter next = BloomFilter.create(Math.max(expectedInsertions, revoked.size() * 2), falsePositiveRate);
+        revoked.keySet().forEach(next::put);
+        filter = next;
+        // 첫 순회와 교체 사이에 이전 filter에만 들어간 jti를 새 filter에도 반영
+        revoked.keySet().forEach(next::put);
+    }
+}
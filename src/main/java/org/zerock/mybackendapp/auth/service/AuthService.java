@@ -1,5 +1,6 @@
 package org.zerock.mybackendapp.auth.service;
 
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -9,66 +10,73 @@ import org.zerock.mybackendapp.auth.dto.LoginRequest;
 import org.zerock.mybackendapp.auth.dto.LoginResponse;
 import org.zerock.mybackendapp.auth.dto.RegisterRequest;
 import org.zerock.mybackendapp.auth.util.JwtUtil;
+import org.zerock.mybackendapp.auth.util.PasswordHashingRejectedException;
+import org.zerock.mybackendapp.auth.util.VerifiedToken;
+import org.zerock.mybackendapp.auth.util.VerifiedTokenCache;
 import org.zerock.mybackendapp.user.domain.User;
+import org.zerock.mybackendapp.user.dto.UserSnapshot;
 import org.zerock.mybackendapp.user.repository.UserRepository;
+import org.zerock.mybackendapp.user.service.UserService;
+import org.zerock.mybackendapp.user.service.UserSnapshotCache;
 
+import java.util.function.Function;
+
+// 패스워드 해싱(BCrypt)은 수십 ms가 걸리고 해싱 풀에서 대기할 수도 있으므로 DB 커넥션을 잡은 채 실행하지 않는다
+// 그래서 클래스 단위 트랜잭션을 두지 않고, 회원가입/로그인은 짧은 조회 → 해싱 → 짧은 쓰기 트랜잭션으로 나눈다
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserService userService;
+    private final UserSnapshotCache userSnapshotCache;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AccessTokenRevocationList accessTokenRevocationList;
 
-    @Transactional
     public User register(RegisterRequest request) {
         log.info("=== 사용자 회원가입 시작 ===");
         log.info("회원가입 요청: username={}, email={}", request.getUsername(), request.getEmail());
 
-        // 중복 검증
-        if(userRepository.existsByUsername(request.getUsername())) {
-            log.warn("이미 존재하는 사용자명: {}", request.getUsername());
-            throw new IllegalArgumentException("이미 존재하는 사용자명입니다: " + request.getUsername());
-        }
-
-        if(userRepository.existsByEmail(request.getEmail())) {
-            log.warn("이미 존재하는 이메일: {}", request.getEmail());
-            throw new IllegalArgumentException("이미 존재하는 이메일입니다: " + request.getEmail());
-        }
-
-        // 사용자 생성 및 패스워드 인코딩
+        // 사용자 생성 및 패스워드 인코딩 (트랜잭션 밖)
         User user = User.of(request.getUsername(), request.getEmail(),
                             request.getPassword(), User.UserRole.USER);
 
         user.encodePassword(passwordEncoder);
 
-        User savedUser = userRepository.save(user);
+        // 중복 검증은 users의 unique 제약에 맡기고 INSERT 한 번으로 저장 (saveNewUser의 짧은 트랜잭션)
+        User savedUser = userService.saveNewUser(user);
         log.info("회원가입 완료: id={}, username={}", savedUser.getId(), savedUser.getUsername());
 
         return savedUser;
     }
 
+    // 시도 한도 확인(LoginThrottle)은 컨트롤러가 이 메서드를 부르기 전에 한다
     public LoginResponse login(LoginRequest request) {
         log.info("=== 사용자 로그인 시작 ===");
         log.info("로그인 요청: username={}", request.getUsername());
 
-        // 사용자 조회
+        // 사용자 조회 (리포지토리의 짧은 읽기 트랜잭션)
         User user = userRepository.findByUsername(request.getUsername())
                 .orElseThrow(() -> {
                     log.warn("존재하지 않는 사용자: username={}", request.getUsername());
                     return new IllegalArgumentException("사용자를 찾을 수 없습니다.");
                 });
 
-        // 패스워드 검증
+        // 패스워드 검증 (트랜잭션 밖)
         if(!user.matchesPassword(request.getPassword(), passwordEncoder)) {
             log.warn("패스워드 불일치: username={}", request.getUsername());
             throw new IllegalArgumentException("패스워드가 일치하지 않습니다.");
         }
 
-        // JWT 토큰 생성
-        String accessToken = jwtUtil.generateAccessToken(user.getUsername(), user.getId());
-        String refreshToken = jwtUtil.generateRefreshToken(user.getUsername());
+        // 저장된 해시의 cost가 현재 목표보다 낮으면 평문 패스워드를 알고 있는 지금 재해싱
+        rehashIfNeeded(user, request.getPassword());
+
+        // JWT 토큰 생성 (리프레시 토큰 등록은 저장소의 짧은 쓰기 트랜잭션)
+        String accessToken = jwtUtil.generateAccessToken(user.getUsername(), user.getId(), user.getRole().name());
+        String refreshToken = issueRefreshToken(user.getUsername(), user.getId(), null);
 
         log.info("로그인 성공: username={}, userId={}", user.getUsername(), user.getId());
         log.info("토큰 발급 완료: accessToken 길이={}, refreshToken 길이={}",
@@ -77,72 +85,135 @@ public class AuthService {
         return LoginResponse.of(user, accessToken, refreshToken);
     }
 
+    @Transactional
     public LoginResponse refreshToken(String refreshToken) {
         log.info("=== 토큰 갱신 시작 ===");
         log.info("리프레시 토큰 길이: {}", refreshToken.length());
 
-        // 리프레시 토큰 유효성 검증
-        if(!jwtUtil.isTokenValid(refreshToken)) {
-            log.warn("유효하지 않은 리프레시 토큰");
+        // 리프레시 토큰 유효성 검증 (한 번만 파싱)
+        // 리프레시 토큰은 회전되는 1회성 토큰이라 검증 캐시를 거치지 않는다
+        VerifiedToken verifiedToken = verify(refreshToken, jwtUtil::verify, "유효하지 않은 리프레시 토큰입니다.");
+        if(!verifiedToken.isRefreshToken() || verifiedToken.jti() == null) {
+            log.warn("리프레시 토큰이 아님: type={}, jti={}", verifiedToken.type(), verifiedToken.jti());
             throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
         }
 
-        // 사용자명 추출 및 사용자 조회
-        String username = jwtUtil.extractUsername(refreshToken);
-        User user = userRepository.findByUsername(username)
+        // 저장소에서 jti 한 번 조회로 회전 (재사용이면 패밀리 전체 폐기 후 예외)
+        RefreshTokenStore.Entry previous = refreshTokenStore.rotate(verifiedToken.jti());
+
+        // 사용자 조회 (스냅샷 캐시 우선)
+        Long userId = previous.userId();
+        UserSnapshot user = userSnapshotCache.getById(userId)
                 .orElseThrow(() -> {
-                    log.warn("토큰의 사용자를 찾을 수 없음: username={}", username);
+                    log.warn("토큰의 사용자를 찾을 수 없음: userId={}", userId);
                     return new IllegalArgumentException("사용자를 찾을 수 없습니다.");
                 });
 
-        // 새 액세스 토큰 생성
-        String newAccessToken = jwtUtil.generateAccessToken(user.getUsername(), user.getId());
-        String newRefreshToken = jwtUtil.generateRefreshToken(user.getUsername());
+        // 새 토큰 발급 (리프레시 토큰은 같은 패밀리로 회전)
+        String newAccessToken = jwtUtil.generateAccessToken(user.username(), user.id(), user.role().name());
+        String newRefreshToken = issueRefreshToken(user.username(), user.id(), previous.familyId());
 
-        log.info("토큰 갱신 완료: username={}, userId={}", user.getUsername(), user.getId());
+        log.info("토큰 갱신 완료: username={}, userId={}", user.username(), user.id());
 
         return LoginResponse.of(user, newAccessToken, newRefreshToken);
     }
 
-    public boolean validateToken(String token) {
+    // 메모리(검증 캐시, 폐기 목록)만 사용하므로 트랜잭션(=DB 커넥션)을 열지 않는다
+    public VerifiedToken verifyAccessToken(String token) {
         log.info("=== 토큰 검증 시작 ===");
         log.info("토큰 길이: {}", token.length());
 
-        try{
-            boolean isValid = jwtUtil.isTokenValid(token) && jwtUtil.isAccessToken(token);
-            log.info("토큰 검증 결과: valid={}", isValid);
+        // 같은 액세스 토큰은 만료 전까지 반복해서 들어오므로 검증 캐시를 먼저 확인
+        VerifiedToken verifiedToken = verify(token, verifiedTokenCache::verify, "유효하지 않은 토큰입니다.");
+        if(!verifiedToken.isAccessToken()) {
+            log.warn("액세스 토큰이 아님: type={}", verifiedToken.type());
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+        }
 
-            if(isValid){
-                String username = jwtUtil.extractUsername(token);
-                Long userId = jwtUtil.extractUserId(token);
-                log.info("토큰 정보 추출: username={}, userId={}", username, userId);
-            }
+        // 인증 주체를 클레임만으로 만들기 때문에 userId, role 클레임이 없는 토큰은 받지 않는다
+        // jti가 없으면 폐기 여부를 확인할 수 없으므로 함께 요구한다
+        if(verifiedToken.userId() == null || verifiedToken.role() == null || verifiedToken.jti() == null) {
+            log.warn("필수 클레임 누락: userId={}, role={}, jti={}",
+                    verifiedToken.userId(), verifiedToken.role(), verifiedToken.jti());
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+        }
 
-            return isValid;
-        } catch(Exception e){
-            log.error("토큰 검증 중 오류 발생: {}", e.getMessage());
-            return false;
+        // 폐기 목록 확인 (메모리 Bloom filter, I/O 없음)
+        if(accessTokenRevocationList.isRevoked(verifiedToken.jti())) {
+            log.warn("폐기된 액세스 토큰: jti={}, username={}", verifiedToken.jti(), verifiedToken.subject());
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
         }
-    }
 
-    public User getUserFromToken(String token) {
-        log.info("=== 토큰에서 사용자 정보 추출 시작 ===");
+        log.info("토큰 검증 완료: username={}, userId={}",
+                verifiedToken.subject(), verifiedToken.userId());
+        return verifiedToken;
+    }
 
-        if(!validateToken(token)) {
-            log.warn("유효하지 않은 토큰으로 사용자 추출 정보 시도");
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+    // 액세스 토큰을 만료 전에 폐기하고, 리프레시 토큰이 함께 오면 그 패밀리도 폐기
+    @Transactional
+    public void logout(VerifiedToken accessToken, String refreshToken) {
+        log.info("=== 로그아웃 시작: username={} ===", accessToken.subject());
+
+        // 리프레시 토큰을 먼저 검증해, 잘못된 요청이면 액세스 토큰 폐기도 기록하지 않는다
+        if(refreshToken != null && !refreshToken.isBlank()) {
+            VerifiedToken verifiedRefreshToken = verify(refreshToken, jwtUtil::verify, "유효하지 않은 리프레시 토큰입니다.");
+            if(!verifiedRefreshToken.isRefreshToken() || verifiedRefreshToken.jti() == null) {
+                throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
+            }
+            refreshTokenStore.revoke(verifiedRefreshToken.jti(), accessToken.userId());
         }
 
-        String username = jwtUtil.extractUsername(token);
-        User user = userRepository.findByUsername(username)
+        accessTokenRevocationList.revoke(accessToken.jti(), accessToken.expiresAt());
+
+        log.info("로그아웃 완료: username={}", accessToken.subject());
+    }
+
+    @Transactional(readOnly = true)
+    public UserSnapshot getUserFromToken(VerifiedToken verifiedToken) {
+        log.info("=== 토큰에서 사용자 정보 추출 시작 ===");
+
+        // 사용자 스냅샷 캐시를 먼저 확인하고, 없을 때만 DB 조회
+        Long userId = verifiedToken.userId();
+        UserSnapshot user = userSnapshotCache.getById(userId)
                 .orElseThrow(() -> {
-                    log.warn("토큰의 사용자를 찾을 수 없음: username={}", username);
+                    log.warn("토큰의 사용자를 찾을 수 없음: userId={}", userId);
                     return new IllegalArgumentException("사용자를 찾을 수 없습니다.");
                 });
 
         log.info("토큰에서 사용자 정보 추출 완료: username={}, userId={}",
-                user.getUsername(), user.getId());
+                user.username(), user.id());
 
         return user;
     }
+
+    private String issueRefreshToken(String username, Long userId, String familyId) {
+        RefreshTokenStore.Entry entry = refreshTokenStore.issue(userId, familyId);
+        return jwtUtil.generateRefreshToken(username, entry.jti(), entry.expiresAt());
+    }
+
+    // 해싱은 트랜잭션 밖에서 하고, 저장은 조건부 UPDATE 한 번의 짧은 트랜잭션으로 한다
+    // 엔티티를 병합(save)하지 않으므로 그 사이 다른 요청이 바꾼 이메일 등을 이전 값으로 덮어쓰지 않는다
+    private void rehashIfNeeded(User user, String rawPassword) {
+        String currentHash = user.getPassword();
+        if(!passwordEncoder.upgradeEncoding(currentHash)) {
+            return;
+        }
+        try {
+            String newHash = passwordEncoder.encode(rawPassword);
+            int updated = userRepository.updatePasswordIfUnchanged(user.getId(), currentHash, newHash);
+            log.info("패스워드 해시 cost 갱신: username={}, 반영={}건", user.getUsername(), updated);
+        } catch (PasswordHashingRejectedException e) {
+            // 재해싱은 다음 로그인 때 다시 시도하면 되므로 로그인 자체는 실패시키지 않는다
+            log.warn("패스워드 재해싱 보류: username={}, reason={}", user.getUsername(), e.getMessage());
+        }
+    }
+
+    private VerifiedToken verify(String token, Function<String, VerifiedToken> verifier, String errorMessage) {
+        try {
+            return verifier.apply(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("유효하지 않은 토큰: {}", e.getMessage());
+            throw new IllegalArgumentException(errorMessage);
+        }
+    }
 }
@@ -0,0 +1,101 @@
+package org.zerock.mybackendapp.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.zerock.mybackendapp.auth.util.GcraRateLimiter;
+import org.zerock.mybackendapp.auth.util.LoginThrottledException;
+
+import java.time.Duration;
+import java.util.Locale;
+
+// 로그인 시도를 클라이언트 IP, (IP + 사용자명)별 실패 횟수 두 기준으로 제한
+// 사용자 조회와 BCrypt 검증 전에 호출되므로 크리덴셜 스터핑 트래픽이 해싱 CPU를 소모하지 못한다
+// 실패 횟수를 사용자명만으로 세면 누구나 남의 계정을 일부러 틀려서 잠글 수 있으므로 IP와 묶어서 센다
+// 클라이언트 IP는 프록시 뒤에서도 실제 주소여야 하므로 server.forward-headers-strategy=native(신뢰 프록시의 X-Forwarded-For만 반영)를 전제로 한다
+@Component
+@Slf4j
+public class LoginThrottle {
+
+    private static final String THROTTLE_MESSAGE = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final GcraRateLimiter failuresByIpAndUsername;
+    private final GcraRateLimiter byIp;
+    private final Counter failureRejected;
+    private final Counter ipRejected;
+
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${auth.login-throttle.failure.burst:10}") int failureBurst,
+                         @Value("${auth.login-throttle.failure.period:1m}") Duration failurePeriod,
+                         @Value("${auth.login-throttle.ip.burst:100}") int ipBurst,
+                         @Value("${auth.login-throttle.ip.period:1m}") Duration ipPeriod) {
+        this.failuresByIpAndUsername = new GcraRateLimiter(failureBurst, failurePeriod);
+        this.byIp = new GcraRateLimiter(ipBurst, ipPeriod);
+
+        this.failureRejected = rejectedCounter(meterRegistry, "failure");
+        this.ipRejected = rejectedCounter(meterRegistry, "ip");
+        Gauge.builder("auth.login.throttle.keys", failuresByIpAndUsername, GcraRateLimiter::size)
+                .tag("key", "failure")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.throttle.keys", byIp, GcraRateLimiter::size)
+                .tag("key", "ip")
+                .register(meterRegistry);
+
+        log.info("=== 로그인 시도 제한 초기화: 실패(ip+username)={}회/{}, ip={}회/{} ===",
+                failureBurst, failurePeriod, ipBurst, ipPeriod);
+    }
+
+    public void check(String username, String clientIp) {
+        // IP 기준을 먼저 확인해 여러 계정을 돌아가며 시도하는 트래픽을 막는다
+        if(clientIp != null) {
+            long waitNanos = byIp.tryAcquire(clientIp);
+            if(waitNanos > 0) {
+                ipRejected.increment();
+                log.warn("로그인 시도 제한 (IP): ip={}", clientIp);
+                throw new LoginThrottledException(THROTTLE_MESSAGE, Duration.ofNanos(waitNanos));
+            }
+        }
+
+        // 실패 횟수는 여기서 소비하지 않고 확인만 한다 (성공한 로그인은 세지 않음)
+        // 동시에 진행 중인 시도만큼은 한도를 넘을 수 있지만, 그 뒤로는 실패가 기록되어 막힌다
+        if(username != null) {
+            long waitNanos = failuresByIpAndUsername.peek(failureKey(username, clientIp));
+            if(waitNanos > 0) {
+                failureRejected.increment();
+                log.warn("로그인 시도 제한 (실패 횟수): username={}, ip={}", username, clientIp);
+                throw new LoginThrottledException(THROTTLE_MESSAGE, Duration.ofNanos(waitNanos));
+            }
+        }
+    }
+
+    // 사용자명/패스워드가 틀린 경우에만 호출
+    public void recordFailure(String username, String clientIp) {
+        if(username != null) {
+            failuresByIpAndUsername.tryAcquire(failureKey(username, clientIp));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.login-throttle.sweep-interval:1m}")
+    public void evictIdle() {
+        int failures = failuresByIpAndUsername.evictIdle();
+        int ips = byIp.evictIdle();
+        if(failures > 0 || ips > 0) {
+            log.debug("로그인 제한 버킷 정리: 실패={}, ip={}", failures, ips);
+        }
+    }
+
+    private static String failureKey(String username, String clientIp) {
+        return clientIp + "|" + username.toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String key) {
+        return Counter.builder("auth.login.throttled")
+                .description("시도 한도 초과로 거절된 로그인 요청 수")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,213 @@
+package org.zerock.mybackendapp.auth.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.zerock.mybackendapp.auth.domain.RefreshToken;
+import org.zerock.mybackendapp.auth.domain.RefreshToken.Status;
+import org.zerock.mybackendapp.auth.repository.RefreshTokenRepository;
+import org.zerock.mybackendapp.common.util.TransactionCallbacks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 리프레시 토큰 레지스트리 (jti 키)
+// 조회는 메모리 맵에서 처리하고, 상태 전이는 refresh_tokens 테이블의 조건부 UPDATE가 기준이다
+// 메모리 맵은 호출한 트랜잭션이 커밋된 뒤에만 바꾸므로, 롤백되면 메모리와 테이블이 모두 이전 상태로 남는다
+// 메모리에 없는 jti(재기동 직후, 커밋 전 등)는 테이블에서 읽어 적재한다
+@Component
+@Slf4j
+public class RefreshTokenStore {
+
+    private static final String INVALID_MESSAGE = "유효하지 않은 리프레시 토큰입니다.";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration refreshTokenTtl;
+    private final int purgeBatchSize;
+
+    private final ConcurrentHashMap<String, Entry> tokens = new ConcurrentHashMap<>();
+    // 폐기된 패밀리 → 보관 기한. 패밀리 안의 토큰을 하나씩 찾아 바꾸지 않고 이 표시 하나로 모두 무효화 (O(1))
+    private final ConcurrentHashMap<String, Instant> revokedFamilies = new ConcurrentHashMap<>();
+    // 재사용 감지로 인한 테이블 폐기는 요청 트랜잭션이 끝난 뒤 이 스레드 하나에서 차례로 커밋한다
+    // (요청 커넥션을 쥔 채 REQUIRES_NEW로 하나 더 잡으면 재사용 토큰이 몰릴 때 풀이 바닥나므로, 추가 커넥션을 최대 1개로 묶는다)
+    private final ExecutorService revocationExecutor;
+    // 같은 패밀리의 재사용이 몰려도 테이블 폐기는 한 번만 대기열에 넣는다
+    private final Set<String> pendingRevocations = ConcurrentHashMap.newKeySet();
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                             @Value("${jwt.refresh-token-expiration:604800000}") long refreshTokenExpiration,
+                             @Value("${auth.refresh-token.purge-batch-size:1000}") int purgeBatchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenTtl = Duration.ofMillis(refreshTokenExpiration);
+        this.purgeBatchSize = purgeBatchSize;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("refresh-token-revoke-");
+        threadFactory.setDaemon(true);
+        this.revocationExecutor = Executors.newSingleThreadExecutor(threadFactory);
+
+        log.info("=== 리프레시 토큰 저장소 초기화: 만료시간={}, 정리 배치={} ===", refreshTokenTtl, purgeBatchSize);
+    }
+
+    // familyId가 null이면 새 로그인이므로 새 패밀리를 만든다
+    public Entry issue(Long userId, String familyId) {
+        Entry entry = new Entry(
+                UUID.randomUUID().toString(),
+                familyId != null ? familyId : UUID.randomUUID().toString(),
+                userId,
+                // JWT exp는 초 단위이므로 같은 값으로 맞춘다
+                Instant.now().plus(refreshTokenTtl).truncatedTo(ChronoUnit.SECONDS),
+                Status.ACTIVE
+        );
+
+        refreshTokenRepository.save(entry.toEntity());
+        TransactionCallbacks.afterCommit(() -> tokens.put(entry.jti(), entry));
+
+        log.debug("리프레시 토큰 등록: jti={}, familyId={}, userId={}", entry.jti(), entry.familyId(), userId);
+        return entry;
+    }
+
+    // 사용된 토큰을 ROTATED로 바꾸고 반환. 이미 회전된 토큰이 다시 오면 탈취로 보고 패밀리 전체를 폐기
+    public Entry rotate(String jti) {
+        Entry entry = find(jti);
+        if(entry == null) {
+            log.warn("등록되지 않은 리프레시 토큰: jti={}", jti);
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+        if(entry.isExpired(Instant.now())) {
+            log.warn("만료된 리프레시 토큰: jti={}", jti);
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+        if(entry.status() == Status.REVOKED || revokedFamilies.containsKey(entry.familyId())) {
+            log.warn("폐기된 리프레시 토큰: jti={}, familyId={}", jti, entry.familyId());
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+
+        // 테이블 조건부 UPDATE가 회전의 기준: 같은 행을 동시에 회전하려는 요청(다른 노드 포함)은 행 잠금에서 기다렸다가 0건이 된다
+        // 메모리는 커밋 후에만 ROTATED로 바꾼다. 바깥 트랜잭션이 롤백되면 테이블도 ACTIVE로 돌아가므로 같은 토큰으로 재시도할 수 있다
+        if(entry.status() != Status.ACTIVE
+                || refreshTokenRepository.updateStatus(jti, Status.ACTIVE, Status.ROTATED) != 1) {
+            log.warn("이미 사용된 리프레시 토큰 재사용 감지: jti={}, familyId={}", jti, entry.familyId());
+            revokeReusedFamily(entry.familyId());
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+        TransactionCallbacks.afterCommit(() ->
+                tokens.computeIfPresent(jti, (key, current) -> current.withStatus(Status.ROTATED)));
+
+        return entry;
+    }
+
+    // 로그아웃: 해당 사용자의 토큰일 때만 패밀리를 폐기 (다른 사용자의 토큰으로 남의 세션을 끊지 못하게)
+    public void revoke(String jti, Long userId) {
+        Entry entry = find(jti);
+        if(entry == null || !entry.userId().equals(userId)) {
+            log.warn("폐기할 수 없는 리프레시 토큰: jti={}, userId={}", jti, userId);
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+        revokeFamily(entry.familyId());
+    }
+
+    // 로그아웃: 호출한 트랜잭션 안에서 테이블을 바꾸고, 커밋되면 메모리에도 표시
+    public void revokeFamily(String familyId) {
+        int updated = refreshTokenRepository.revokeFamily(familyId);
+        TransactionCallbacks.afterCommit(() -> markRevoked(familyId));
+        log.warn("리프레시 토큰 패밀리 폐기: familyId={}, 테이블 반영={}건", familyId, updated);
+    }
+
+    // 재사용 감지: 요청 트랜잭션은 예외로 롤백되므로 메모리에는 바로 표시하고, 테이블은 트랜잭션이 끝난 뒤 별도 스레드에서 커밋
+    // 테이블 반영 전까지 다른 노드에서는 패밀리의 최신 토큰이 한 번 더 회전될 수 있지만, 반영 후에는 모두 거절된다
+    private void revokeReusedFamily(String familyId) {
+        markRevoked(familyId);
+        if(!pendingRevocations.add(familyId)) {
+            return;
+        }
+        TransactionCallbacks.afterCompletion(() -> revocationExecutor.execute(() -> {
+            try {
+                int updated = refreshTokenRepository.revokeFamily(familyId);
+                log.warn("리프레시 토큰 패밀리 폐기: familyId={}, 테이블 반영={}건", familyId, updated);
+            } catch (Exception e) {
+                log.error("리프레시 토큰 패밀리 테이블 폐기 실패: familyId={}", familyId, e);
+            } finally {
+                pendingRevocations.remove(familyId);
+            }
+        }));
+    }
+
+    private void markRevoked(String familyId) {
+        revokedFamilies.put(familyId, Instant.now().plus(refreshTokenTtl));
+    }
+
+    // 만료된 토큰을 메모리와 테이블에서 제거 (테이블은 배치 단위로 나눠 삭제)
+    @Scheduled(fixedDelayString = "${auth.refresh-token.purge-interval:10m}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        tokens.values().removeIf(entry -> entry.isExpired(now));
+        revokedFamilies.values().removeIf(retainUntil -> !retainUntil.isAfter(now));
+
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpiredBatch(now, purgeBatchSize);
+            total += deleted;
+        } while(deleted == purgeBatchSize);
+
+        if(total > 0) {
+            log.info("만료된 리프레시 토큰 정리: {}건", total);
+        }
+    }
+
+    // 대기 중인 테이블 폐기를 마치고 종료
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        revocationExecutor.shutdown();
+        if(!revocationExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("리프레시 토큰 패밀리 폐기 대기열을 모두 처리하지 못하고 종료: {}건", pendingRevocations.size());
+        }
+    }
+
+    private Entry find(String jti) {
+        Entry entry = tokens.get(jti);
+        if(entry != null) {
+            return entry;
+        }
+        // 재기동 등으로 메모리에 없으면 테이블에서 적재 (다른 스레드가 먼저 넣었다면 그 값을 사용)
+        return refreshTokenRepository.findById(jti)
+                .map(Entry::from)
+                .map(loaded -> {
+                    if(loaded.status() == Status.REVOKED) {
+                        revokedFamilies.putIfAbsent(loaded.familyId(), loaded.expiresAt());
+                    }
+                    Entry existing = tokens.putIfAbsent(jti, loaded);
+                    return existing != null ? existing : loaded;
+                })
+                .orElse(null);
+    }
+
+    public record Entry(String jti, String familyId, Long userId, Instant expiresAt, Status status) {
+
+        static Entry from(RefreshToken refreshToken) {
+            return new Entry(refreshToken.getJti(), refreshToken.getFamilyId(), refreshToken.getUserId(),
+                    refreshToken.getExpiresAt(), refreshToken.getStatus());
+        }
+
+        RefreshToken toEntity() {
+            return RefreshToken.of(jti, familyId, userId, expiresAt, status);
+        }
+
+        Entry withStatus(Status newStatus) {
+            return new Entry(jti, familyId, userId, expiresAt, newStatus);
+        }
+
+        boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+}
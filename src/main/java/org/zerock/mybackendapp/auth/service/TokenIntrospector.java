@@ -0,0 +1,124 @@
+package org.zerock.mybackendapp.auth.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.zerock.mybackendapp.auth.dto.IntrospectionResult;
+import org.zerock.mybackendapp.auth.util.VerifiedToken;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 게이트웨이/사이드카용 일괄 토큰 검증
+// 같은 토큰은 한 번만 검증하고(검증 캐시 경유), 서로 다른 토큰은 전용 풀에서 나눠 병렬로 검증한다
+@Component
+@Slf4j
+public class TokenIntrospector {
+
+    // 이보다 적으면 스레드 전환 비용이 더 커서 호출 스레드에서 바로 검증
+    private static final int PARALLEL_THRESHOLD = 8;
+
+    private final AuthService authService;
+    private final int maxTokens;
+    private final int parallelism;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService monitoredExecutor;
+
+    public TokenIntrospector(AuthService authService,
+                             MeterRegistry meterRegistry,
+                             @Value("${auth.introspect.max-tokens:100}") int maxTokens,
+                             @Value("${auth.introspect.pool-size:0}") int poolSize,
+                             @Value("${auth.introspect.queue-capacity:256}") int queueCapacity) {
+        this.authService = authService;
+        this.maxTokens = maxTokens;
+        this.parallelism = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        // 큐가 차면 호출 스레드가 직접 실행하므로 요청은 거절되지 않고 자연스럽게 느려진다
+        this.executor = new ThreadPoolExecutor(
+                parallelism, parallelism,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("token-introspect-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.monitoredExecutor = ExecutorServiceMetrics.monitor(meterRegistry, executor, "token.introspection");
+
+        log.info("=== 일괄 토큰 검증 초기화: 최대 토큰 수={}, 스레드={} ===", maxTokens, parallelism);
+    }
+
+    public List<IntrospectionResult> introspect(List<String> tokens) {
+        if(tokens.size() > maxTokens) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxTokens + "개의 토큰만 검증할 수 있습니다.");
+        }
+
+        // 중복 제거 (요청 순서 유지)
+        Map<String, IntrospectionResult> results = new LinkedHashMap<>();
+        for(String token : tokens) {
+            results.putIfAbsent(token, null);
+        }
+        List<String> distinct = new ArrayList<>(results.keySet());
+
+        if(distinct.size() < PARALLEL_THRESHOLD) {
+            distinct.forEach(token -> results.put(token, introspectOne(token)));
+        } else {
+            verifyInParallel(distinct, results);
+        }
+
+        log.info("일괄 토큰 검증 완료: 요청={}개, 고유={}개", tokens.size(), distinct.size());
+        return tokens.stream()
+                .map(results::get)
+                .toList();
+    }
+
+    // 토큰 하나당 작업을 만들지 않고 스레드 수만큼 구간을 나눠 제출
+    private void verifyInParallel(List<String> distinct, Map<String, IntrospectionResult> results) {
+        int chunks = Math.min(parallelism, distinct.size());
+        int chunkSize = (distinct.size() + chunks - 1) / chunks;
+
+        List<CompletableFuture<IntrospectionResult[]>> futures = new ArrayList<>(chunks);
+        for(int from = 0; from < distinct.size(); from += chunkSize) {
+            List<String> chunk = distinct.subList(from, Math.min(from + chunkSize, distinct.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                IntrospectionResult[] chunkResults = new IntrospectionResult[chunk.size()];
+                for(int i = 0; i < chunk.size(); i++) {
+                    chunkResults[i] = introspectOne(chunk.get(i));
+                }
+                return chunkResults;
+            }, monitoredExecutor));
+        }
+
+        int index = 0;
+        for(CompletableFuture<IntrospectionResult[]> future : futures) {
+            for(IntrospectionResult result : future.join()) {
+                results.put(distinct.get(index++), result);
+            }
+        }
+    }
+
+    private IntrospectionResult introspectOne(String token) {
+        if(token == null || token.isBlank()) {
+            return IntrospectionResult.invalid();
+        }
+        try {
+            VerifiedToken verifiedToken = authService.verifyAccessToken(token);
+            return IntrospectionResult.valid(verifiedToken);
+        } catch (IllegalArgumentException e) {
+            return IntrospectionResult.invalid();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
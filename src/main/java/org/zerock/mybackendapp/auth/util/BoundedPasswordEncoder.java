@@ -0,0 +1,142 @@
+package org.zerock.mybackendapp.auth.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// BCrypt 같은 느린 해싱을 요청 스레드가 아닌 크기 제한된 전용 스레드 풀에서 실행하는 PasswordEncoder
+// 풀과 대기 큐가 모두 차거나, 앞선 작업 수와 평균 해싱 시간으로 본 예상 완료 시간이 대기 제한을 넘으면
+// 즉시 PasswordHashingRejectedException을 던져 톰캣 워커 스레드가 제한 시간까지 묶이지 않게 한다
+// 메트릭: executor.queued(큐 길이), executor.idle(큐 대기 시간), executor(해싱 시간) {name=password.hashing}
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final String EXECUTOR_NAME = "password.hashing";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService monitoredExecutor;
+    private final Duration timeout;
+    private final Counter rejectedCounter;
+    // 최근 해싱 시간의 지수 이동 평균 (0이면 아직 측정값 없음). 대략적인 추정용이라 갱신 경쟁은 허용한다
+    private volatile long averageNanos;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate,
+                                  int poolSize,
+                                  int queueCapacity,
+                                  Duration timeout,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.monitoredExecutor = ExecutorServiceMetrics.monitor(meterRegistry, executor, EXECUTOR_NAME);
+        this.rejectedCounter = Counter.builder(EXECUTOR_NAME + ".rejected")
+                .description("패스워드 해싱 풀 포화로 거절된 요청 수")
+                .register(meterRegistry);
+
+        log.info("=== 패스워드 해싱 전용 풀 초기화: 스레드={}, 큐={}, 대기 제한={} ===",
+                poolSize, queueCapacity, timeout);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 해시 문자열만 확인하는 가벼운 연산이라 호출 스레드에서 실행
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        log.info("패스워드 해싱 전용 풀 종료");
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        if(estimatedCompletionNanos() > timeout.toNanos()) {
+            rejectedCounter.increment();
+            log.warn("패스워드 해싱 요청 거절 (예상 대기 시간 초과): 활성 스레드={}, 큐 길이={}, 평균 해싱 시간={}ms",
+                    executor.getActiveCount(), executor.getQueue().size(), averageNanos / 1_000_000);
+            throw new PasswordHashingRejectedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Future<T> future;
+        try {
+            future = monitoredExecutor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    recordDuration(System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("패스워드 해싱 요청 거절: 활성 스레드={}, 큐 길이={}",
+                    executor.getActiveCount(), executor.getQueue().size());
+            throw new PasswordHashingRejectedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            log.warn("패스워드 해싱 대기 시간 초과: {}", timeout);
+            throw new PasswordHashingRejectedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("패스워드 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("패스워드 처리 중 오류 발생", cause);
+        }
+    }
+
+    // 모든 스레드가 바쁘면 큐에 쌓인 작업이 스레드 수만큼씩 처리된 뒤에야 이 작업이 시작된다
+    private long estimatedCompletionNanos() {
+        long average = averageNanos;
+        int poolSize = executor.getMaximumPoolSize();
+        if(average == 0 || executor.getActiveCount() < poolSize) {
+            return average;
+        }
+        long rounds = executor.getQueue().size() / poolSize + 1;
+        return (rounds + 1) * average;
+    }
+
+    private void recordDuration(long nanos) {
+        long average = averageNanos;
+        averageNanos = average == 0 ? nanos : average + (nanos - average) / 8;
+    }
+}
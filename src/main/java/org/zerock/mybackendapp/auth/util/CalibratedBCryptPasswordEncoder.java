@@ -0,0 +1,75 @@
+package org.zerock.mybackendapp.auth.util;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 목표 해싱 시간에 맞춰 작업 계수(cost)를 정하는 BCrypt 인코더
+// 저장된 해시의 cost가 목표보다 낮을 때만 upgradeEncoding이 true를 반환해 로그인 시 재해싱되게 한다
+// (노드마다 보정 결과가 다를 수 있어, 높은 쪽도 바꾸면 노드를 오갈 때마다 같은 사용자를 번갈아 재해싱하게 된다)
+@Slf4j
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    public static final int MIN_STRENGTH = 4;
+    public static final int MAX_STRENGTH = 31;
+
+    // 보정 시 측정에 쓰는 기준 cost (너무 낮으면 측정 오차가 커지고, 높으면 기동이 느려짐)
+    private static final int PROBE_STRENGTH = 8;
+    private static final int PROBE_ROUNDS = 3;
+    private static final Pattern BCRYPT_COST_PATTERN = Pattern.compile("\\A\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    @Getter
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    // 기준 cost로 몇 번 해싱해 가장 빠른 시간을 재고, cost가 1 오를 때마다 시간이 두 배가 되는 점을 이용해 외삽
+    public static CalibratedBCryptPasswordEncoder calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_STRENGTH);
+        long bestNanos = Long.MAX_VALUE;
+        for(int i = 0; i < PROBE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration-probe");
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        int strength = strengthFor(targetLatency.toNanos(), bestNanos, minStrength, maxStrength);
+        log.info("=== BCrypt cost 보정 완료: 목표={}, cost {} 측정={}ms → cost={} ===",
+                targetLatency, PROBE_STRENGTH, bestNanos / 1_000_000.0, strength);
+        return new CalibratedBCryptPasswordEncoder(strength);
+    }
+
+    static int strengthFor(long targetNanos, long probeNanos, int minStrength, int maxStrength) {
+        int lower = Math.max(MIN_STRENGTH, minStrength);
+        int upper = Math.min(MAX_STRENGTH, maxStrength);
+        double ratio = (double) targetNanos / Math.max(1L, probeNanos);
+        int strength = PROBE_STRENGTH + (int) Math.round(Math.log(ratio) / Math.log(2));
+        return Math.max(lower, Math.min(upper, strength));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int storedStrength = strengthOf(encodedPassword);
+        if(storedStrength < 0) {
+            // BCrypt 형식이 아니면 판단할 수 없으므로 기본 동작(예외 또는 false)에 맡긴다
+            return super.upgradeEncoding(encodedPassword);
+        }
+        return storedStrength < strength;
+    }
+
+    // 해시 문자열($2a$NN$...)에서 cost를 읽는다. 형식이 다르면 -1
+    public static int strengthOf(String encodedPassword) {
+        if(encodedPassword == null) {
+            return -1;
+        }
+        Matcher matcher = BCRYPT_COST_PATTERN.matcher(encodedPassword);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+}
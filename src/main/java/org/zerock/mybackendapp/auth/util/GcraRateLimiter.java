@@ -0,0 +1,72 @@
+package org.zerock.mybackendapp.auth.util;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// GCRA(Generic Cell Rate Algorithm) 방식의 키별 토큰 버킷
+// 키마다 "이론적 도착 시각(TAT)" 하나만 AtomicLong으로 들고 CAS로 갱신하므로 전역 락이 없다
+// period 동안 burst 번까지 허용하고, period / burst 마다 한 번씩 다시 채워진다
+public class GcraRateLimiter {
+
+    private final ConcurrentHashMap<String, AtomicLong> theoreticalArrivals = new ConcurrentHashMap<>();
+    private final long emissionIntervalNanos;
+    private final long burstOffsetNanos;
+    private final LongSupplier nanoClock;
+
+    public GcraRateLimiter(int burst, Duration period) {
+        this(burst, period, System::nanoTime);
+    }
+
+    public GcraRateLimiter(int burst, Duration period, LongSupplier nanoClock) {
+        if(burst < 1) {
+            throw new IllegalArgumentException("burst는 1 이상이어야 합니다.");
+        }
+        this.emissionIntervalNanos = Math.max(1L, period.toNanos() / burst);
+        this.burstOffsetNanos = emissionIntervalNanos * burst;
+        this.nanoClock = nanoClock;
+    }
+
+    // 허용되면 0, 거절되면 다음 시도가 가능해질 때까지 남은 시간(나노초)을 반환
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong tat = theoreticalArrivals.computeIfAbsent(key, k -> new AtomicLong(now));
+        while(true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long waitNanos = next - now - burstOffsetNanos;
+            if(waitNanos > 0) {
+                return waitNanos;
+            }
+            if(tat.compareAndSet(current, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    // 소비하지 않고 지금 한 번 더 허용될지만 확인 (허용이면 0, 아니면 남은 대기 시간)
+    // 실패한 시도만 세는 경우처럼 확인과 소비 시점이 다를 때 사용
+    public long peek(String key) {
+        AtomicLong tat = theoreticalArrivals.get(key);
+        if(tat == null) {
+            return 0L;
+        }
+        long now = nanoClock.getAsLong();
+        long waitNanos = Math.max(tat.get(), now) + emissionIntervalNanos - now - burstOffsetNanos;
+        return Math.max(0L, waitNanos);
+    }
+
+    // 버킷이 다시 가득 찬(TAT가 지난) 키를 제거해 메모리를 회수
+    // 제거 직전에 참조를 얻은 요청은 떨어져 나간 버킷을 갱신하게 되지만, 그 한 번이 관대해질 뿐 정확성 문제는 없다
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int before = theoreticalArrivals.size();
+        theoreticalArrivals.values().removeIf(tat -> tat.get() - now <= 0);
+        return before - theoreticalArrivals.size();
+    }
+
+    public int size() {
+        return theoreticalArrivals.size();
+    }
+}
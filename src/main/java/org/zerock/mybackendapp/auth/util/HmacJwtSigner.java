@@ -0,0 +1,266 @@
+package org.zerock.mybackendapp.auth.util;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.Arrays;
+import java.util.Base64;
+
+// HMAC 키 전용 JWS 발급기 (로그인/토큰 갱신 때마다 두 번씩 호출되는 경로)
+// jjwt 빌더와 같은 형식(헤더 alg/kid, 같은 클레임)을 만들되
+// - 헤더는 키마다 한 번만 base64url로 인코딩해 두고
+// - 고정된 몇 개의 클레임은 Map/JSON 직렬화기 없이 바이트 버퍼에 바로 쓰고
+// - Mac은 스레드마다 하나씩 초기화해 재사용한다
+// 서명 결과는 jjwt 파서로 그대로 검증된다
+final class HmacJwtSigner {
+
+    private static final byte[] BASE64_URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    // 스레드마다 재사용하는 작업 버퍼 (클레임 JSON, 완성된 토큰)
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    private final byte[] encodedHeader;
+    private final int macLength;
+    private final ThreadLocal<Mac> mac;
+
+    HmacJwtSigner(String kid, SecretKey key) {
+        String algorithm = jwsAlgorithm(key);
+        String header = "{\"alg\":\"" + algorithm + "\",\"kid\":" + jsonString(kid) + "}";
+        this.encodedHeader = Base64.getUrlEncoder().withoutPadding()
+                .encode(header.getBytes(StandardCharsets.UTF_8));
+        this.mac = ThreadLocal.withInitial(() -> newMac(key));
+        this.macLength = mac.get().getMacLength();
+    }
+
+    static boolean supports(Key key) {
+        return key instanceof SecretKey && key.getAlgorithm().startsWith("HmacSHA");
+    }
+
+    // 클레임 순서는 기존 jjwt 빌더 호출 순서와 같다 (jti, sub, userId, role, type, iat, exp)
+    String signAccessToken(String jti, String subject, Long userId, String role, long issuedAt, long expiresAt) {
+        Buffers buffers = BUFFERS.get();
+        Json json = buffers.json.reset();
+        json.raw("{\"jti\":").string(jti)
+                .raw(",\"sub\":").string(subject);
+        if(userId != null) {
+            json.raw(",\"userId\":").number(userId);
+        }
+        if(role != null) {
+            json.raw(",\"role\":").string(role);
+        }
+        json.raw(",\"type\":").string(VerifiedToken.ACCESS_TYPE)
+                .raw(",\"iat\":").number(issuedAt)
+                .raw(",\"exp\":").number(expiresAt)
+                .raw("}");
+        return sign(buffers);
+    }
+
+    // 클레임 순서는 기존 jjwt 빌더 호출 순서와 같다 (sub, jti, type, iat, exp)
+    String signRefreshToken(String subject, String jti, long issuedAt, long expiresAt) {
+        Buffers buffers = BUFFERS.get();
+        Json json = buffers.json.reset();
+        json.raw("{\"sub\":").string(subject)
+                .raw(",\"jti\":").string(jti)
+                .raw(",\"type\":").string(VerifiedToken.REFRESH_TYPE)
+                .raw(",\"iat\":").number(issuedAt)
+                .raw(",\"exp\":").number(expiresAt)
+                .raw("}");
+        return sign(buffers);
+    }
+
+    // header.payload.signature 를 토큰 버퍼 하나에 이어 쓰고 마지막에 String 하나만 만든다
+    private String sign(Buffers buffers) {
+        Json json = buffers.json;
+        int signingInputLength = encodedHeader.length + 1 + encodedLength(json.length);
+        int tokenLength = signingInputLength + 1 + encodedLength(macLength);
+        byte[] token = buffers.token(tokenLength);
+
+        System.arraycopy(encodedHeader, 0, token, 0, encodedHeader.length);
+        int position = encodedHeader.length;
+        token[position++] = '.';
+        position = encodeBase64Url(json.bytes, json.length, token, position);
+
+        Mac threadMac = mac.get();
+        threadMac.update(token, 0, signingInputLength);
+        byte[] signature = buffers.signature(macLength);
+        try {
+            threadMac.doFinal(signature, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+
+        token[position++] = '.';
+        position = encodeBase64Url(signature, macLength, token, position);
+        return new String(token, 0, position, StandardCharsets.ISO_8859_1);
+    }
+
+    // jjwt는 HMAC 키의 JCA 알고리즘 이름으로 HS256/384/512를 고른다 (Keys.hmacShaKeyFor는 키 길이로 정함)
+    private static String jwsAlgorithm(SecretKey key) {
+        return switch(key.getAlgorithm()) {
+            case "HmacSHA256" -> "HS256";
+            case "HmacSHA384" -> "HS384";
+            case "HmacSHA512" -> "HS512";
+            default -> throw new IllegalArgumentException("지원하지 않는 HMAC 알고리즘: " + key.getAlgorithm());
+        };
+    }
+
+    private static Mac newMac(SecretKey key) {
+        try {
+            Mac mac = Mac.getInstance(key.getAlgorithm());
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 초기화 실패: " + key.getAlgorithm(), e);
+        }
+    }
+
+    private static String jsonString(String value) {
+        Json json = new Json().string(value);
+        return new String(json.bytes, 0, json.length, StandardCharsets.UTF_8);
+    }
+
+    private static int encodedLength(int length) {
+        return (length / 3) * 4 + (length % 3 == 0 ? 0 : length % 3 + 1);
+    }
+
+    // 패딩 없는 base64url. dst의 offset부터 쓰고 끝 위치를 반환
+    private static int encodeBase64Url(byte[] src, int length, byte[] dst, int offset) {
+        int i = 0;
+        int fullGroups = length - length % 3;
+        while(i < fullGroups) {
+            int bits = (src[i++] & 0xff) << 16 | (src[i++] & 0xff) << 8 | (src[i++] & 0xff);
+            dst[offset++] = BASE64_URL[(bits >>> 18) & 0x3f];
+            dst[offset++] = BASE64_URL[(bits >>> 12) & 0x3f];
+            dst[offset++] = BASE64_URL[(bits >>> 6) & 0x3f];
+            dst[offset++] = BASE64_URL[bits & 0x3f];
+        }
+        int remaining = length - fullGroups;
+        if(remaining == 1) {
+            int bits = (src[i] & 0xff) << 16;
+            dst[offset++] = BASE64_URL[(bits >>> 18) & 0x3f];
+            dst[offset++] = BASE64_URL[(bits >>> 12) & 0x3f];
+        } else if(remaining == 2) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8;
+            dst[offset++] = BASE64_URL[(bits >>> 18) & 0x3f];
+            dst[offset++] = BASE64_URL[(bits >>> 12) & 0x3f];
+            dst[offset++] = BASE64_URL[(bits >>> 6) & 0x3f];
+        }
+        return offset;
+    }
+
+    private static final class Buffers {
+        private final Json json = new Json();
+        private byte[] token = new byte[512];
+        private byte[] signature = new byte[64];
+
+        private byte[] token(int length) {
+            if(token.length < length) {
+                token = new byte[Math.max(length, token.length * 2)];
+            }
+            return token;
+        }
+
+        private byte[] signature(int length) {
+            if(signature.length < length) {
+                signature = new byte[length];
+            }
+            return signature;
+        }
+    }
+
+    // 클레임 값을 UTF-8 JSON으로 바로 쓰는 최소한의 버퍼
+    private static final class Json {
+        private byte[] bytes = new byte[256];
+        private int length;
+
+        private Json reset() {
+            length = 0;
+            return this;
+        }
+
+        // 이스케이프가 필요 없는 ASCII 리터럴
+        private Json raw(String ascii) {
+            ensure(ascii.length());
+            for(int i = 0; i < ascii.length(); i++) {
+                bytes[length++] = (byte) ascii.charAt(i);
+            }
+            return this;
+        }
+
+        private Json number(long value) {
+            ensure(20);
+            if(value < 0) {
+                bytes[length++] = '-';
+            }
+            int start = length;
+            // Long.MIN_VALUE도 처리되도록 음수 쪽에서 자릿수를 뽑는다
+            long remaining = value < 0 ? value : -value;
+            do {
+                bytes[length++] = (byte) ('0' - (remaining % 10));
+                remaining /= 10;
+            } while(remaining != 0);
+            reverse(start, length - 1);
+            return this;
+        }
+
+        private Json string(String value) {
+            // 최악의 경우 문자당 6바이트(\\u00XX) + 따옴표
+            ensure(value.length() * 6 + 2);
+            bytes[length++] = '"';
+            for(int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if(c == '"' || c == '\\') {
+                    bytes[length++] = '\\';
+                    bytes[length++] = (byte) c;
+                } else if(c < 0x20) {
+                    bytes[length++] = '\\';
+                    bytes[length++] = 'u';
+                    bytes[length++] = '0';
+                    bytes[length++] = '0';
+                    bytes[length++] = HEX[c >>> 4];
+                    bytes[length++] = HEX[c & 0xf];
+                } else if(c < 0x80) {
+                    bytes[length++] = (byte) c;
+                } else if(c < 0x800) {
+                    bytes[length++] = (byte) (0xc0 | (c >>> 6));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3f));
+                } else if(Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    bytes[length++] = (byte) (0xf0 | (codePoint >>> 18));
+                    bytes[length++] = (byte) (0x80 | ((codePoint >>> 12) & 0x3f));
+                    bytes[length++] = (byte) (0x80 | ((codePoint >>> 6) & 0x3f));
+                    bytes[length++] = (byte) (0x80 | (codePoint & 0x3f));
+                } else if(Character.isSurrogate(c)) {
+                    // 짝이 맞지 않는 서로게이트는 String.getBytes(UTF_8)처럼 '?'로 바꾼다
+                    bytes[length++] = '?';
+                } else {
+                    bytes[length++] = (byte) (0xe0 | (c >>> 12));
+                    bytes[length++] = (byte) (0x80 | ((c >>> 6) & 0x3f));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3f));
+                }
+            }
+            bytes[length++] = '"';
+            return this;
+        }
+
+        private void ensure(int additional) {
+            if(length + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(length + additional, bytes.length * 2));
+            }
+        }
+
+        private void reverse(int from, int to) {
+            while(from < to) {
+                byte tmp = bytes[from];
+                bytes[from++] = bytes[to];
+                bytes[to--] = tmp;
+            }
+        }
+    }
+}
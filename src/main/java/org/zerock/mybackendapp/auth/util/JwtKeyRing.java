@@ -0,0 +1,121 @@
+package org.zerock.mybackendapp.auth.util;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// kid로 구분되는 JWT 서명/검증 키 모음
+// - 서명: notBefore가 지난 키 중 가장 최근 키 (서명 키를 가진 경우만)
+// - 검증: 토큰 헤더의 kid로 키를 찾고, notAfter 전이면 허용
+// 새 키를 notBefore를 미래로 두고 먼저 배포하면 검증 노드가 미리 알게 되고,
+// 이전 키는 notAfter까지 남겨 두면 이미 발급된 토큰이 만료될 때까지 계속 검증된다
+// 키는 기동 시 한 번만 파싱하고 이후 조회는 Map 조회 한 번이다
+@Slf4j
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    // kid 헤더가 없는 토큰(키 링 도입 전 발급)과 jwt.secret 하나만 설정된 경우에 쓰는 kid
+    public static final String DEFAULT_KID = "default";
+
+    private final Map<String, RingKey> keysByKid;
+    private final List<RingKey> signingKeys;
+    private final Clock clock;
+
+    public JwtKeyRing(List<RingKey> keys, Clock clock) {
+        if(keys.isEmpty()) {
+            throw new IllegalArgumentException("JWT 키가 하나 이상 필요합니다.");
+        }
+        Map<String, RingKey> byKid = new LinkedHashMap<>();
+        for(RingKey key : keys) {
+            if(byKid.putIfAbsent(key.kid(), key) != null) {
+                throw new IllegalArgumentException("중복된 kid: " + key.kid());
+            }
+        }
+        this.keysByKid = Map.copyOf(byKid);
+        this.signingKeys = keys.stream()
+                .filter(RingKey::canSign)
+                .sorted(Comparator.comparing(RingKey::notBefore).reversed())
+                .toList();
+        this.clock = clock;
+
+        log.info("=== JWT 키 링 초기화: kid={}, 서명 가능 kid={} ===",
+                byKid.keySet(), signingKeys.stream().map(RingKey::kid).toList());
+    }
+
+    public static JwtKeyRing ofSecret(String secret) {
+        return new JwtKeyRing(List.of(RingKey.hmac(DEFAULT_KID, secret.getBytes(), Instant.EPOCH, null)), Clock.systemUTC());
+    }
+
+    // 지금 서명에 쓸 키. 서명 키가 없는 검증 전용 노드에서는 예외
+    public RingKey currentSigningKey() {
+        Instant now = clock.instant();
+        for(RingKey key : signingKeys) {
+            if(!key.notBefore().isAfter(now) && key.acceptsAt(now)) {
+                return key;
+            }
+        }
+        throw new IllegalStateException("현재 사용할 수 있는 JWT 서명 키가 없습니다.");
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId() != null ? header.getKeyId() : DEFAULT_KID;
+        RingKey key = keysByKid.get(kid);
+        if(key == null) {
+            throw new UnsupportedJwtException("알 수 없는 kid: " + kid);
+        }
+        if(!key.acceptsAt(clock.instant())) {
+            throw new UnsupportedJwtException("사용 기간이 끝난 kid: " + kid);
+        }
+        return key.verificationKey();
+    }
+
+    // signingKey가 null이면 검증 전용 (Ed25519 공개키만 가진 노드)
+    // notAfter가 null이면 만료 없음
+    public record RingKey(String kid, Key signingKey, Key verificationKey, Instant notBefore, Instant notAfter) {
+
+        public static RingKey hmac(String kid, byte[] secret, Instant notBefore, Instant notAfter) {
+            Key key = Keys.hmacShaKeyFor(secret);
+            return new RingKey(kid, key, key, notBefore, notAfter);
+        }
+
+        // 키는 base64 DER (공개키 X.509, 개인키 PKCS#8). 개인키가 없으면 검증 전용
+        public static RingKey ed25519(String kid, String privateKeyBase64, String publicKeyBase64,
+                                      Instant notBefore, Instant notAfter) {
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance("Ed25519");
+                PublicKey publicKey = keyFactory.generatePublic(
+                        new X509EncodedKeySpec(Base64.getDecoder().decode(publicKeyBase64)));
+                PrivateKey privateKey = privateKeyBase64 == null || privateKeyBase64.isBlank() ? null
+                        : keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privateKeyBase64)));
+                return new RingKey(kid, privateKey, publicKey, notBefore, notAfter);
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                throw new IllegalArgumentException("Ed25519 키를 읽을 수 없습니다: kid=" + kid, e);
+            }
+        }
+
+        public boolean canSign() {
+            return signingKey != null;
+        }
+
+        public boolean acceptsAt(Instant now) {
+            return notAfter == null || now.isBefore(notAfter);
+        }
+    }
+}
@@ -1,155 +1,122 @@
 package org.zerock.mybackendapp.auth.util;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @Slf4j
 public class JwtUtil {
 
-    private final SecretKey secretKey;
+    private final JwtKeyRing keyRing;
+    // JwtParser는 불변이고 스레드 안전하므로 한 번만 생성해서 재사용 (검증 키는 kid로 키 링에서 찾음)
+    private final JwtParser jwtParser;
     private final long accessTokenExpiration;
-    private final long refreshTokenExpiration;
-
-    public JwtUtil(@Value("${jwt.secret:myVerySecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLong}") String secret,
-                   @Value("${jwt.access-token-expiration:3600000}") long accessTokenExpiration,
-                   @Value("${jwt.refresh-token-expiration:604800000}") long refreshTokenExpiration) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+    private final ConcurrentHashMap<String, HmacJwtSigner> hmacSigners = new ConcurrentHashMap<>();
+
+    public JwtUtil(JwtKeyRing keyRing,
+                   @Value("${jwt.access-token-expiration:3600000}") long accessTokenExpiration) {
+        this.keyRing = keyRing;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(keyRing)
+                .build();
         this.accessTokenExpiration = accessTokenExpiration;
-        this.refreshTokenExpiration = refreshTokenExpiration;
 
         log.info("=== JWT 유틸리티 초기화 ===");
         log.info("액세스 토큰 만료기간: {}ms {}분", accessTokenExpiration, accessTokenExpiration / 60000);
-        log.info("리프레시 토큰 만료시간: {}ms ({}시간)", refreshTokenExpiration, refreshTokenExpiration / 3600000);
     }
 
-    public String generateAccessToken(String username, Long userId) {
-        Date now = new Date();
-        Date expiry = new Date(now.getTime() + accessTokenExpiration);
-
-        log.info("=== 액세스 토큰 생성 시작 ===");
-        log.info("사용자: username={}, userId={}", username, userId);
-        log.info("발급시간: {}", now);
-        log.info("만료시간: {}", expiry);
-
-        String token = Jwts.builder()
-                .subject(username)
-                .claim("userId", userId)
-                .claim("type", "access")
-                .issuedAt(now)
-                .expiration(expiry)
-                .signWith(secretKey)
-                .compact();
-
-        log.info("액세스 토큰 생성 완료: 길이={}", token.length());
+    // 로그인/토큰 갱신마다 호출되므로 HMAC 키는 HmacJwtSigner로 직접 서명하고, 그 외 키(Ed25519)는 jjwt 빌더를 쓴다
+    public String generateAccessToken(String username, Long userId, String role) {
+        long now = System.currentTimeMillis();
+        // JWT 날짜 클레임은 초 단위
+        long issuedAt = now / 1000;
+        long expiresAt = (now + accessTokenExpiration) / 1000;
+        String jti = UUID.randomUUID().toString();
+
+        JwtKeyRing.RingKey signingKey = keyRing.currentSigningKey();
+        HmacJwtSigner signer = hmacSigner(signingKey);
+        String token = signer != null
+                ? signer.signAccessToken(jti, username, userId, role, issuedAt, expiresAt)
+                : Jwts.builder()
+                        .header().keyId(signingKey.kid()).and()
+                        .id(jti)
+                        .subject(username)
+                        .claim("userId", userId)
+                        .claim("role", role)
+                        .claim("type", VerifiedToken.ACCESS_TYPE)
+                        .issuedAt(new Date(issuedAt * 1000))
+                        .expiration(new Date(expiresAt * 1000))
+                        .signWith(signingKey.signingKey())
+                        .compact();
+
+        log.debug("액세스 토큰 생성: username={}, userId={}, kid={}, exp={}", username, userId, signingKey.kid(), expiresAt);
         return token;
     }
 
-    public String generateRefreshToken(String username) {
-        Date now = new Date();
-        Date expiry = new Date(now.getTime() + refreshTokenExpiration);
-
-        log.info("=== 리프레시 토큰 생성 시작 ===");
-        log.info("사용자: username={}", username);
-        log.info("발급시간: {}", now);
-        log.info("만료시간: {}", expiry);
-
-        String token = Jwts.builder()
-                .subject(username)
-                .claim("type", "refresh")
-                .issuedAt(now)
-                .expiration(expiry)
-                .signWith(secretKey)
-                .compact();
-
-        log.info("리프레시 토큰 생성 완료: 길이={}", token.length());
+    // 만료 시각은 RefreshTokenStore에 기록된 값과 같아야 하므로 저장소가 정한 값을 받는다
+    public String generateRefreshToken(String username, String jti, Instant expiresAt) {
+        long issuedAt = System.currentTimeMillis() / 1000;
+        long expiresAtSeconds = expiresAt.getEpochSecond();
+
+        JwtKeyRing.RingKey signingKey = keyRing.currentSigningKey();
+        HmacJwtSigner signer = hmacSigner(signingKey);
+        String token = signer != null
+                ? signer.signRefreshToken(username, jti, issuedAt, expiresAtSeconds)
+                : Jwts.builder()
+                        .header().keyId(signingKey.kid()).and()
+                        .subject(username)
+                        .id(jti)
+                        .claim("type", VerifiedToken.REFRESH_TYPE)
+                        .issuedAt(new Date(issuedAt * 1000))
+                        .expiration(Date.from(expiresAt))
+                        .signWith(signingKey.signingKey())
+                        .compact();
+
+        log.debug("리프레시 토큰 생성: username={}, jti={}, kid={}, exp={}", username, jti, signingKey.kid(), expiresAtSeconds);
         return token;
     }
 
-    public String extractUsername(String token) {
-        log.info("=== 토큰에서 사용자명 추출 시작 ===");
-        try {
-            Claims claims = extractAllClaims(token);
-            String username = claims.getSubject();
-            log.info("사용자명 추출 성공: username={}", username);
-            return username;
-        } catch (Exception e) {
-            log.error("사용자명 추출 실패: {}", e.getMessage());
-            throw e;
+    // kid는 키 링 안에서 유일하므로 kid별로 발급기를 한 번만 만든다
+    private HmacJwtSigner hmacSigner(JwtKeyRing.RingKey signingKey) {
+        if(!HmacJwtSigner.supports(signingKey.signingKey())) {
+            return null;
         }
+        return hmacSigners.computeIfAbsent(signingKey.kid(),
+                kid -> new HmacJwtSigner(kid, (SecretKey) signingKey.signingKey()));
     }
 
-    public Long extractUserId(String token) {
-        log.info("=== 토큰에서 사용자 ID 추출 시작 ===");
-        try {
-            Claims claims = extractAllClaims(token);
-            Long userId = claims.get("userId", Long.class);
-            log.info("사용자 ID 추출 성공: userId={}", userId);
-            return userId;
-        } catch (Exception e) {
-            log.error("사용자 ID 추출 실패: {}", e.getMessage());
-            throw e;
-        }
-    }
-
-    public boolean isTokenValid(String token) {
-        log.info("=== 토큰 유효성 검증 시작 ===");
-        try {
-            Claims claims = extractAllClaims(token);
-            Date expiration = claims.getExpiration();
-            Date now = new Date();
-
-            boolean isValid = expiration.after(now);
-            log.info("토큰 유효성 검증 결과: valid={}, 만료시간={}, 현재시간={}",
-                    isValid, expiration, now);
-
-            return isValid;
-        } catch (ExpiredJwtException e) {
-            log.warn("토큰 만료: {}", e.getMessage());
-            return false;
-        } catch (JwtException e) {
-            log.error("토큰 유효성 검증 실패: {}", e.getMessage());
-            return false;
-        }
-    }
-
-    public boolean isAccessToken(String token) {
-        log.info("=== 토큰 타입 확인 시작 ===");
-        try {
-            Claims claims = extractAllClaims(token);
-            String type = claims.get("type", String.class);
-            boolean isAccess = "access".equals(type);
-            log.info("토큰 타입 확인: type={}, isAccessToken={}", type, isAccess);
-            return isAccess;
-        } catch (Exception e) {
-            log.error("토큰 타입 확인 실패: {}", e.getMessage());
-            return false;
-        }
+    // 서명/만료를 한 번만 검증하고 필요한 클레임을 모두 담아 반환
+    public VerifiedToken verify(String token) {
+        Claims claims = extractAllClaims(token);
+        VerifiedToken verifiedToken = VerifiedToken.from(claims);
+        log.debug("토큰 검증 완료: subject={}, type={}, 만료시간={}",
+                verifiedToken.subject(), verifiedToken.type(), verifiedToken.expiresAt());
+        return verifiedToken;
     }
 
     private Claims extractAllClaims(String token) {
-        log.info("토큰 파싱 시작: 토큰 길이={}", token.length());
+        log.debug("토큰 파싱 시작: 토큰 길이={}", token.length());
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
+            Claims claims = jwtParser
                     .parseSignedClaims(token)
                     .getPayload();
 
-            log.info("토큰 파싱 성공: subject={}, issuedAt={}, expiration={}",
+            log.debug("토큰 파싱 성공: subject={}, issuedAt={}, expiration={}",
                     claims.getSubject(), claims.getIssuedAt(), claims.getExpiration());
             return claims;
-        } catch (Exception e) {
-            log.error("토큰 파싱 실패: {}", e.getMessage());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("토큰 파싱 실패: {}", e.getMessage());
             throw e;
         }
     }
@@ -0,0 +1,17 @@
+package org.zerock.mybackendapp.auth.util;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+// 로그인 시도 한도를 넘겨 BCrypt 검증 전에 거절된 경우
+@Getter
+public class LoginThrottledException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public LoginThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,9 @@
+package org.zerock.mybackendapp.auth.util;
+
+// 패스워드 해싱 전용 스레드 풀이 포화 상태일 때 발생 (컨트롤러에서 503으로 응답)
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,35 @@
+package org.zerock.mybackendapp.auth.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+// 서명 검증이 끝난 토큰의 클레임 (한 번 파싱해서 요청 전체에서 재사용)
+public record VerifiedToken(String subject, Long userId, String role, String type, String jti, Instant expiresAt) {
+
+    public static final String ACCESS_TYPE = "access";
+    public static final String REFRESH_TYPE = "refresh";
+
+    static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.get("userId", Long.class),
+                claims.get("role", String.class),
+                claims.get("type", String.class),
+                claims.getId(),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    public boolean isAccessToken() {
+        return ACCESS_TYPE.equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return REFRESH_TYPE.equals(type);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,86 @@
+package org.zerock.mybackendapp.auth.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+// 검증이 끝난 토큰을 원문 토큰의 SHA-256 다이제스트로 캐싱
+// 각 엔트리는 토큰의 exp 시각이 되면 만료되고, 검증에 실패한 토큰은 캐싱하지 않는다
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final JwtUtil jwtUtil;
+    private final Cache<TokenDigest, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtUtil jwtUtil,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.verified-token-cache.maximum-size:100000}") long maximumSize) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((TokenDigest digest, VerifiedToken token) -> remainingLifetime(token)))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+
+        log.info("=== 토큰 검증 캐시 초기화: 최대 크기={} ===", maximumSize);
+    }
+
+    public VerifiedToken verify(String token) {
+        TokenDigest digest = TokenDigest.of(token);
+        VerifiedToken verifiedToken = cache.get(digest, key -> jwtUtil.verify(token));
+
+        // 캐시 만료 처리와 exp 사이의 시간차 방어 - 만료됐으면 JwtUtil이 예외를 던지도록 다시 검증
+        if(verifiedToken.isExpired(Instant.now())) {
+            cache.invalidate(digest);
+            return jwtUtil.verify(token);
+        }
+
+        return verifiedToken;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private static Duration remainingLifetime(VerifiedToken token) {
+        Duration remaining = Duration.between(Instant.now(), token.expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private record TokenDigest(long h0, long h1, long h2, long h3) {
+
+        static TokenDigest of(String token) {
+            byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new TokenDigest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+    }
+}
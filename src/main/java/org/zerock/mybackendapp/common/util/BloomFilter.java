@@ -0,0 +1,85 @@
+package org.zerock.mybackendapp.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 문자열 키용 스레드 안전 Bloom filter
+// mightContain이 false면 확실히 없는 키이고, true면 정확한 자료구조로 한 번 더 확인해야 한다
+// 비트는 AtomicLongArray에 두고 OR로만 켜므로 락 없이 동시에 put/mightContain 할 수 있다 (삭제는 지원하지 않음)
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long numBits;
+    private final int numHashes;
+
+    private BloomFilter(long numBits, int numHashes) {
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+        this.words = new AtomicLongArray((int) ((numBits + 63) >>> 6));
+    }
+
+    // 예상 원소 수와 목표 오탐률로 비트 수(m)와 해시 함수 수(k)를 정한다
+    public static BloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        if(expectedInsertions < 1) {
+            expectedInsertions = 1;
+        }
+        if(falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다: " + falsePositiveRate);
+        }
+        long numBits = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+        return new BloomFilter(numBits, numHashes);
+    }
+
+    public void put(CharSequence key) {
+        long hash = hash64(key);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+        for(int i = 0; i < numHashes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, numBits);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            // 이미 켜진 비트는 쓰지 않아 캐시 라인 경합을 줄인다
+            if((words.get(index) & mask) == 0) {
+                words.getAndAccumulate(index, mask, (current, m) -> current | m);
+            }
+        }
+    }
+
+    public boolean mightContain(CharSequence key) {
+        long hash = hash64(key);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+        for(int i = 0; i < numHashes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, numBits);
+            if((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return numBits;
+    }
+
+    public int hashCount() {
+        return numHashes;
+    }
+
+    // FNV-1a 64비트 후 비트 섞기 (문자 단위라 별도 인코딩/할당이 없다)
+    private static long hash64(CharSequence key) {
+        long hash = 0xCBF29CE484222325L;
+        for(int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
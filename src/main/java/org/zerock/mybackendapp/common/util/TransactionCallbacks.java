@@ -0,0 +1,41 @@
+package org.zerock.mybackendapp.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 결과에 맞춰 메모리 상태를 바꾸거나 후속 작업을 넘기기 위한 헬퍼
+// DB 변경이 롤백되면 메모리도 바뀌지 않아야 하므로, 트랜잭션 안에서는 커밋된 뒤에만 실행한다
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    // 진행 중인 트랜잭션이 있으면 커밋 후 실행, 없으면(변경이 이미 반영됨) 바로 실행
+    public static void afterCommit(Runnable action) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 진행 중인 트랜잭션이 있으면 커밋/롤백과 상관없이 끝난 뒤 실행, 없으면 바로 실행
+    // 이 시점에는 아직 바깥 트랜잭션의 커넥션이 반납되기 전이므로, DB 작업은 여기서 하지 말고 다른 스레드로 넘긴다
+    public static void afterCompletion(Runnable action) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,42 @@
+package org.zerock.mybackendapp.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.zerock.mybackendapp.auth.util.JwtKeyRing;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(JwtKeyRingProperties.class)
+@Slf4j
+public class JwtConfig {
+
+    @Bean
+    public JwtKeyRing jwtKeyRing(JwtKeyRingProperties properties,
+                                 @Value("${jwt.secret:myVerySecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLong}") String secret) {
+        if(properties.keys().isEmpty()) {
+            log.info("=== JWT 키 링 미설정: jwt.secret 단일 HMAC 키 사용 ===");
+            return JwtKeyRing.ofSecret(secret);
+        }
+
+        List<JwtKeyRing.RingKey> keys = properties.keys().stream()
+                .map(JwtConfig::toRingKey)
+                .toList();
+        return new JwtKeyRing(keys, Clock.systemUTC());
+    }
+
+    private static JwtKeyRing.RingKey toRingKey(JwtKeyRingProperties.Key key) {
+        Instant notBefore = key.notBefore() != null ? key.notBefore() : Instant.EPOCH;
+        String algorithm = key.algorithm() != null ? key.algorithm() : "HMAC";
+        return switch(algorithm.toUpperCase()) {
+            case "HMAC" -> JwtKeyRing.RingKey.hmac(key.kid(), key.secret().getBytes(), notBefore, key.notAfter());
+            case "ED25519" -> JwtKeyRing.RingKey.ed25519(key.kid(), key.privateKey(), key.publicKey(), notBefore, key.notAfter());
+            default -> throw new IllegalArgumentException("지원하지 않는 JWT 키 알고리즘: " + algorithm);
+        };
+    }
+}
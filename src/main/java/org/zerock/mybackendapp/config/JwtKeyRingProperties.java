@@ -0,0 +1,26 @@
+package org.zerock.mybackendapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Instant;
+import java.util.List;
+
+// jwt.key-ring.keys[n].* 설정
+// 비어 있으면 기존처럼 jwt.secret 하나로 HMAC 키 링을 만든다
+@ConfigurationProperties("jwt.key-ring")
+public record JwtKeyRingProperties(List<Key> keys) {
+
+    public JwtKeyRingProperties {
+        keys = keys == null ? List.of() : List.copyOf(keys);
+    }
+
+    // algorithm: HMAC(secret 사용) 또는 Ed25519(private-key/public-key 사용, private-key 생략 시 검증 전용)
+    public record Key(String kid,
+                      String algorithm,
+                      String secret,
+                      String privateKey,
+                      String publicKey,
+                      Instant notBefore,
+                      Instant notAfter) {
+    }
+}
@@ -0,0 +1,189 @@
+package org.zerock.mybackendapp.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 인증 없이 접근 가능한 경로 목록 (SecurityConfig의 permitAll과 JwtAuthenticationFilter의 스킵 판단이 함께 사용)
+// 기동 시 경로 세그먼트 트라이로 컴파일하고, 요청 경로는 문자열 인덱스로만 훑어서 매칭 시 객체를 만들지 않는다
+// 패턴 문법: 리터럴 세그먼트, {변수}(세그먼트 하나), 마지막 ** (나머지 전체, 0개 포함)
+@Component
+@Slf4j
+public class PublicRoutes implements RequestMatcher {
+
+    private static final List<Route> ROUTES = List.of(
+            // 인증 API는 토큰이 없거나 만료된 상태에서 호출하므로 공개 (logout/me/validate는 컨트롤러에서 직접 토큰 검증)
+            // 일괄 토큰 검증(/api/auth/introspect)은 게이트웨이 전용이라 제외 (IntrospectionClientFilter)
+            Route.of(HttpMethod.POST, "/api/auth/register"),
+            Route.of(HttpMethod.GET, "/api/auth/availability"),
+            Route.of(HttpMethod.POST, "/api/auth/login"),
+            Route.of(HttpMethod.POST, "/api/auth/refresh"),
+            Route.of(HttpMethod.POST, "/api/auth/validate"),
+            Route.of(HttpMethod.POST, "/api/auth/logout"),
+            Route.of(HttpMethod.GET, "/api/auth/me"),
+            Route.of(HttpMethod.GET, "/api/users"),                       // 사용자 목록 조회
+            Route.of(HttpMethod.GET, "/api/users/{id}"),                  // 사용자 상세 조회
+            Route.of(HttpMethod.GET, "/api/users/username/{username}"),   // 사용자명으로 조회
+            Route.of(HttpMethod.GET, "/api/posts"),                       // 게시글 목록 조회
+            Route.of(HttpMethod.GET, "/api/posts/{id}"),                  // 게시글 상세 조회
+            Route.of(HttpMethod.GET, "/api/posts/author/{authorId}"),     // 작성자별 게시글 조회
+            Route.of(HttpMethod.GET, "/api/posts/search"),                // 게시글 검색
+            Route.of(HttpMethod.GET, "/api/posts/suggest")                // 게시글 제목 자동완성
+    );
+
+    private static final int ANY_METHOD = ~0;
+    private static final int UNKNOWN_METHOD = 1 << 30;
+
+    private final Node root = new Node();
+
+    public PublicRoutes() {
+        for(Route route : ROUTES) {
+            add(route);
+        }
+        log.info("=== 공개 경로 테이블 컴파일: {}개 ===", ROUTES.size());
+    }
+
+    public List<Route> routes() {
+        return ROUTES;
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return matches(request.getMethod(), request.getRequestURI(), request.getContextPath().length());
+    }
+
+    public boolean matches(String method, String path) {
+        return matches(method, path, 0);
+    }
+
+    private boolean matches(String method, String path, int start) {
+        if(path == null || path.length() <= start || path.charAt(start) != '/') {
+            return false;
+        }
+        return match(root, path, start, methodBit(method));
+    }
+
+    // 리터럴 자식을 먼저 시도하고 실패하면 변수 자식으로 되돌아간다 (예: /api/posts/search 와 /api/posts/{id})
+    private static boolean match(Node node, String path, int pos, int method) {
+        if((node.wildcardMethods & method) != 0) {
+            return true;
+        }
+        int length = path.length();
+        if(pos == length) {
+            return (node.terminalMethods & method) != 0;
+        }
+        if(path.charAt(pos) != '/') {
+            return false;
+        }
+
+        int segmentStart = pos + 1;
+        int segmentEnd = path.indexOf('/', segmentStart);
+        if(segmentEnd < 0) {
+            segmentEnd = length;
+        }
+        int segmentLength = segmentEnd - segmentStart;
+        if(segmentLength == 0) {
+            return false;
+        }
+
+        for(int i = 0; i < node.literals.length; i++) {
+            String literal = node.literals[i];
+            if(literal.length() == segmentLength
+                    && path.regionMatches(segmentStart, literal, 0, segmentLength)
+                    && match(node.literalChildren[i], path, segmentEnd, method)) {
+                return true;
+            }
+        }
+        return node.variableChild != null && match(node.variableChild, path, segmentEnd, method);
+    }
+
+    private void add(Route route) {
+        Node node = root;
+        String[] segments = route.pattern().substring(1).split("/");
+        for(int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if(segment.equals("**")) {
+                if(i != segments.length - 1) {
+                    throw new IllegalArgumentException("** 는 마지막 세그먼트에만 올 수 있습니다: " + route.pattern());
+                }
+                node.wildcardMethods |= route.methodBits();
+                return;
+            }
+            node = segment.startsWith("{") && segment.endsWith("}") ? node.variable() : node.literal(segment);
+        }
+        node.terminalMethods |= route.methodBits();
+    }
+
+    // String switch는 hashCode 비교라 요청마다 할당이 없다
+    private static int methodBit(String method) {
+        if(method == null) {
+            return UNKNOWN_METHOD;
+        }
+        return switch(method) {
+            case "GET" -> 1;
+            case "HEAD" -> 1 << 1;
+            case "POST" -> 1 << 2;
+            case "PUT" -> 1 << 3;
+            case "PATCH" -> 1 << 4;
+            case "DELETE" -> 1 << 5;
+            case "OPTIONS" -> 1 << 6;
+            case "TRACE" -> 1 << 7;
+            default -> UNKNOWN_METHOD;
+        };
+    }
+
+    // method가 null이면 모든 메서드
+    public record Route(HttpMethod method, String pattern) {
+
+        public static Route of(HttpMethod method, String pattern) {
+            return new Route(method, pattern);
+        }
+
+        public static Route any(String pattern) {
+            return new Route(null, pattern);
+        }
+
+        int methodBits() {
+            return method == null ? ANY_METHOD : methodBit(method.name());
+        }
+
+        @Override
+        public String toString() {
+            return (method == null ? "*" : method.name()) + " " + pattern;
+        }
+    }
+
+    private static final class Node {
+        private String[] literals = new String[0];
+        private Node[] literalChildren = new Node[0];
+        private Node variableChild;
+        private int terminalMethods;
+        private int wildcardMethods;
+
+        private Node literal(String segment) {
+            for(int i = 0; i < literals.length; i++) {
+                if(literals[i].equals(segment)) {
+                    return literalChildren[i];
+                }
+            }
+            Node child = new Node();
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            literalChildren = Arrays.copyOf(literalChildren, literalChildren.length + 1);
+            literals[literals.length - 1] = segment;
+            literalChildren[literalChildren.length - 1] = child;
+            return child;
+        }
+
+        private Node variable() {
+            if(variableChild == null) {
+                variableChild = new Node();
+            }
+            return variableChild;
+        }
+    }
+}
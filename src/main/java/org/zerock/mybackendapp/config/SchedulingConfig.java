@@ -0,0 +1,10 @@
+package org.zerock.mybackendapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 인메모리 상태 정리(로그인 제한 버킷 등) 같은 주기 작업 활성화
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,6 +1,8 @@
 package org.zerock.mybackendapp.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -9,26 +11,47 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.zerock.mybackendapp.auth.filter.IntrospectionClientFilter;
 import org.zerock.mybackendapp.auth.filter.JwtAuthenticationFilter;
+import org.zerock.mybackendapp.auth.util.BoundedPasswordEncoder;
+import org.zerock.mybackendapp.auth.util.CalibratedBCryptPasswordEncoder;
+
+import java.time.Duration;
 
 @Configuration
 @EnableWebSecurity
 @Slf4j
 public class SecurityConfig {
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                                  @Value("${auth.password-hashing.pool-size:0}") int poolSize,
+                                                  @Value("${auth.password-hashing.queue-capacity:64}") int queueCapacity,
+                                                  @Value("${auth.password-hashing.timeout:1s}") Duration timeout,
+                                                  @Value("${auth.bcrypt.strength:0}") int strength,
+                                                  @Value("${auth.bcrypt.target-latency:50ms}") Duration targetLatency,
+                                                  @Value("${auth.bcrypt.min-strength:10}") int minStrength,
+                                                  @Value("${auth.bcrypt.max-strength:14}") int maxStrength) {
         log.info("=== PasswordEncoder 빈 등록 ===");
-        return new BCryptPasswordEncoder();
+
+        // strength가 지정되면 그대로 쓰고, 0이면 기동 시 목표 해싱 시간에 맞춰 cost를 보정
+        CalibratedBCryptPasswordEncoder bcrypt = strength > 0
+                ? new CalibratedBCryptPasswordEncoder(strength)
+                : CalibratedBCryptPasswordEncoder.calibrate(targetLatency, minStrength, maxStrength);
+
+        // BCrypt는 요청 스레드가 아닌 전용 풀에서 실행 (0이면 CPU 코어 수)
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(bcrypt, threads, queueCapacity, timeout, meterRegistry);
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           JwtAuthenticationFilter jwtAuthenticationFilter,
+                                           IntrospectionClientFilter introspectionClientFilter,
+                                           PublicRoutes publicRoutes) throws Exception {
         log.info("=== Spring Security 설정 시작 ===");
 
         http
@@ -41,15 +64,11 @@ public class SecurityConfig {
 
                 // 권한 설정
                 .authorizeHttpRequests(authz -> authz
-                        // 인증 없이 접근 가능한 경로들
-                        .requestMatchers("/api/auth/**").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/users").permitAll() // 사용자 목록 조회는 누구나 가능
-                        .requestMatchers(HttpMethod.GET, "/api/users/{id}").permitAll() // 사용자 상세 조회는 누구나 가능
-                        .requestMatchers(HttpMethod.GET, "/api/users/username/{username}").permitAll() // 사용자명으로 조회는 누구나 가능
-                        .requestMatchers(HttpMethod.GET, "/api/posts").permitAll() // 게시글 목록 조회는 누구나 가능
-                        .requestMatchers(HttpMethod.GET, "/api/posts/{id}").permitAll() // 게시글 상세 조회는 누구나 가능
-                        .requestMatchers(HttpMethod.GET, "/api/posts/author/{authorId}").permitAll() // 작성자별 게시글 조회는 누구나 가능
-                        .requestMatchers(HttpMethod.GET, "/api/posts/search").permitAll() // 게시글 검색은 누구나 가능
+                        // 일괄 토큰 검증은 클라이언트 키로 인증된 게이트웨이/사이드카만 (사용자 JWT로는 불가)
+                        .requestMatchers(HttpMethod.POST, IntrospectionClientFilter.PATH)
+                        .hasAuthority(IntrospectionClientFilter.AUTHORITY)
+                        // 인증 없이 접근 가능한 경로들 (PublicRoutes 한 곳에서 관리, JWT 필터도 같은 표로 스킵)
+                        .requestMatchers(publicRoutes).permitAll()
                         // 나머지는 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -59,14 +78,17 @@ public class SecurityConfig {
                         .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
                 )
 
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // JWT 필터 뒤에 두어 클라이언트 키 인증이 함께 온 사용자 토큰보다 우선한다
+                .addFilterAfter(introspectionClientFilter, JwtAuthenticationFilter.class);
 
 
             log.info("Spring Security 설정 완료");
             log.info("- CSRF: 비활성화");
             log.info("- 세션: STATELESS");
-            log.info("- 인증 불필요 경로: /api/auth/**, GET /api/users, GET /api/posts/**");
+            log.info("- 인증 불필요 경로: {}", publicRoutes.routes());
             log.info("- JWT 필터: UsernamePasswordAuthenticationFilter 이전에 추가");
+            log.info("- 일괄 토큰 검증: 클라이언트 키 인증 필요 ({})", IntrospectionClientFilter.PATH);
             log.info("- 인증 실패 시: 401 Unauthorized 반환");
 
             return http.build();
@@ -6,9 +6,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.zerock.mybackendapp.post.domain.Post;
+import org.zerock.mybackendapp.post.dto.CursorPage;
+import org.zerock.mybackendapp.post.dto.PostSearchResult;
+import org.zerock.mybackendapp.post.dto.PostSummary;
 import org.zerock.mybackendapp.post.service.PostService;
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -52,14 +54,22 @@ public class PostController {
         }
     };
 
+    // 최신순 게시글 목록 (커서 기반). 다음 페이지는 응답의 nextCursor를 cursor로 넘겨 조회
+    // 목록에는 본문이 없고 excerpt=true면 앞부분만 포함된다. 전체 본문은 GET /api/posts/{id}
     @GetMapping
-    public ResponseEntity<List<Post>> getAllPosts() {
-        log.info("=== 모든 게시글 조회 요청 ===");
+    public ResponseEntity<?> getPosts(@RequestParam(value = "limit", required = false) Integer limit,
+                                      @RequestParam(value = "cursor", required = false) String cursor,
+                                      @RequestParam(value = "excerpt", defaultValue = "false") boolean excerpt) {
+        log.info("=== 게시글 목록 조회 요청: limit={}, cursor={} ===", limit, cursor);
 
-        List<Post> posts = postService.getAllPosts();
-        log.info("게시글 조회 완료: {} 개", posts.size());
-
-        return ResponseEntity.ok(posts);
+        try {
+            CursorPage<PostSummary> page = postService.getPosts(limit, cursor, excerpt);
+            log.info("게시글 목록 조회 완료: {} 개", page.items().size());
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            log.error("게시글 목록 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
     @GetMapping("/{id}")
@@ -77,28 +87,52 @@ public class PostController {
                 });
     }
 
+    // 작성자별 최신순 게시글 (커서 기반). 없는 작성자는 빈 목록
     @GetMapping("/author/{authorId}")
-    public ResponseEntity<List<Post>> getPostsByAuthorId(@PathVariable("authorId") Long authorId) {
+    public ResponseEntity<?> getPostsByAuthorId(@PathVariable("authorId") Long authorId,
+                                                @RequestParam(value = "limit", required = false) Integer limit,
+                                                @RequestParam(value = "cursor", required = false) String cursor,
+                                                @RequestParam(value = "excerpt", defaultValue = "false") boolean excerpt) {
         log.info("=== 작성자별 게시글 조회: {} ===", authorId);
 
         try {
-            List<Post> posts = postService.getPostsByAuthor(authorId);
-            log.info("작성자별 게시글 조회 완료: {} 개", posts.size());
-            return ResponseEntity.ok(posts);
+            CursorPage<PostSummary> page = postService.getPostsByAuthor(authorId, limit, cursor, excerpt);
+            log.info("작성자별 게시글 조회 완료: {} 개", page.items().size());
+            return ResponseEntity.ok(page);
         } catch (IllegalArgumentException e) {
             log.error("작성자별 게시글 조회 실패: {}", e.getMessage());
-            return ResponseEntity.badRequest().build();
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
 
+    // 제목/본문 전문 검색 (관련도순). 다음 페이지는 응답의 nextOffset을 offset으로 넘겨 조회
     @GetMapping("/search")
-    public ResponseEntity<List<Post>> searchPostsByTitle(@RequestParam("keyword") String keyword) {
-        log.info("=== 제목으로 게시글 검색: {} ===", keyword);
+    public ResponseEntity<?> searchPosts(@RequestParam("keyword") String keyword,
+                                         @RequestParam(value = "limit", required = false) Integer limit,
+                                         @RequestParam(value = "offset", required = false) Integer offset,
+                                         @RequestParam(value = "excerpt", defaultValue = "false") boolean excerpt) {
+        log.info("=== 게시글 검색: keyword={}, limit={}, offset={} ===", keyword, limit, offset);
 
-        List<Post> posts = postService.searchPostsByTitle(keyword);
-        log.info("검색 결과: {} 개", posts.size());
+        try {
+            PostSearchResult result = postService.searchPosts(keyword, limit, offset, excerpt);
+            log.info("검색 결과: {} 개", result.items().size());
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            log.error("게시글 검색 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
 
-        return ResponseEntity.ok(posts);
+    // 제목 자동완성 (정규화한 제목이 prefix로 시작하는 게시글 최신순). prefix가 비어 있으면 빈 목록
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggestTitles(@RequestParam(value = "prefix", defaultValue = "") String prefix,
+                                           @RequestParam(value = "limit", required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(postService.suggestTitles(prefix, limit));
+        } catch (IllegalArgumentException e) {
+            log.error("제목 자동완성 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
     @PutMapping("/{id}")
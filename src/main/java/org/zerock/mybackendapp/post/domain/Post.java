@@ -8,9 +8,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.zerock.mybackendapp.user.domain.User;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "posts")
+// 목록/작성자별 조회는 (created_at, id) 내림차순 키셋 페이지네이션이므로 같은 순서의 인덱스를 둔다
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_created_at_id", columnList = "created_at DESC, id DESC"),
+        @Index(name = "idx_posts_author_created_at_id", columnList = "author_id, created_at DESC, id DESC"),
+        // 노드별 메모리 색인이 다른 노드의 변경을 따라잡을 때 updated_at 범위로 읽는다
+        @Index(name = "idx_posts_updated_at", columnList = "updated_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Slf4j
@@ -90,7 +97,7 @@ public class Post {
     @PrePersist
     protected void onCreate() {
         log.info("게시글 엔티티 저장: title={}, author={}", title, author.getUsername());
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = now();
         createdAt = now;
         updatedAt = now;
     }
@@ -98,7 +105,13 @@ public class Post {
     @PreUpdate
     protected void onUpdate() {
         log.info("게시글 엔티티 업데이트: title={}", title);
-        updatedAt = LocalDateTime.now();
+        updatedAt = now();
+    }
+
+    // PostgreSQL timestamp는 마이크로초까지 저장하므로 메모리 값도 맞춰 둔다
+    // (저장 직후 엔티티로 만든 커서와 DB 값이 달라 경계의 게시글이 중복/누락되지 않도록)
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     @Override
@@ -0,0 +1,7 @@
+package org.zerock.mybackendapp.post.dto;
+
+import java.util.List;
+
+// 커서 기반 페이지. nextCursor가 null이면 마지막 페이지
+public record CursorPage<T>(List<T> items, String nextCursor) {
+}
@@ -0,0 +1,33 @@
+package org.zerock.mybackendapp.post.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 게시글 목록의 다음 페이지 시작 위치 (마지막으로 받은 게시글의 createdAt, id)
+// 클라이언트에는 내용을 알 수 없는 base64url 문자열로만 내려준다
+public record PostCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String INVALID_MESSAGE = "유효하지 않은 커서입니다.";
+
+    public String encode() {
+        String raw = createdAt + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(',');
+            if(separator < 0) {
+                throw new IllegalArgumentException(INVALID_MESSAGE);
+            }
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException, base64 오류 포함
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+    }
+}
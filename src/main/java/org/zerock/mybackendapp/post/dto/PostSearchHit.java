@@ -0,0 +1,19 @@
+package org.zerock.mybackendapp.post.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+// 검색 결과 한 건. score가 높을수록 검색어와 관련이 크다
+// snippet: 본문에서 검색어가 나온 부분 (<em>으로 강조, 메모리 검색 엔진만 제공)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PostSearchHit(Long id,
+                            String title,
+                            Long authorId,
+                            String authorUsername,
+                            String excerpt,
+                            LocalDateTime createdAt,
+                            LocalDateTime updatedAt,
+                            double score,
+                            String snippet) {
+}
@@ -0,0 +1,16 @@
+package org.zerock.mybackendapp.post.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// 관련도순 검색 결과 페이지. nextOffset이 null이면 마지막 페이지
+// correctedKeyword: 원래 검색어로는 결과가 없어 오타를 고친 검색어로 찾았을 때만 내려준다 (다음 페이지도 이 검색어로)
+public record PostSearchResult(List<PostSearchHit> items,
+                               Integer nextOffset,
+                               @JsonInclude(JsonInclude.Include.NON_NULL) String correctedKeyword) {
+
+    public PostSearchResult(List<PostSearchHit> items, Integer nextOffset) {
+        this(items, nextOffset, null);
+    }
+}
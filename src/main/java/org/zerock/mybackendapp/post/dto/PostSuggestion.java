@@ -0,0 +1,5 @@
+package org.zerock.mybackendapp.post.dto;
+
+// 제목 자동완성 항목
+public record PostSuggestion(Long id, String title) {
+}
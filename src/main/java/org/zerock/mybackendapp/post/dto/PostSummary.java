@@ -0,0 +1,24 @@
+package org.zerock.mybackendapp.post.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+// 목록 응답용 게시글 요약 (본문 제외). 리포지토리 쿼리에서 필요한 컬럼만 바로 선택해 만든다
+// 전체 본문은 GET /api/posts/{id} 에서만 내려준다
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PostSummary(Long id,
+                          String title,
+                          Long authorId,
+                          String authorUsername,
+                          String excerpt,
+                          LocalDateTime createdAt,
+                          LocalDateTime updatedAt) {
+
+    public PostSummary {
+        // 발췌를 요청하지 않으면 쿼리가 길이 0으로 잘라 빈 문자열이 오므로 응답에서 빠지도록 null로 둔다
+        if(excerpt != null && excerpt.isEmpty()) {
+            excerpt = null;
+        }
+    }
+}
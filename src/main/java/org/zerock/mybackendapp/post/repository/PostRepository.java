@@ -1,20 +1,163 @@
 package org.zerock.mybackendapp.post.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.zerock.mybackendapp.post.domain.Post;
+import org.zerock.mybackendapp.post.dto.PostSearchHit;
+import org.zerock.mybackendapp.post.dto.PostSummary;
+import org.zerock.mybackendapp.post.search.PostDocument;
+import org.zerock.mybackendapp.post.search.PostTitle;
 import org.zerock.mybackendapp.user.domain.User;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    // 목록 조회는 엔티티 대신 요약만 선택한다 (본문 TEXT는 excerptLength 글자까지만 잘라서 읽음)
+    String SELECT_SUMMARY = "select new org.zerock.mybackendapp.post.dto.PostSummary(" +
+            "p.id, p.title, a.id, a.username, substring(p.content, 1, :excerptLength), p.createdAt, p.updatedAt) " +
+            "from Post p join p.author a ";
+
+    String SEARCH_SELECT = "select p.id, p.title, u.id as author_id, u.username, " +
+            "case when :excerptLength > 0 then left(p.content, :excerptLength) end as excerpt, " +
+            "p.created_at, p.updated_at, " +
+            "cast(ts_rank(p.search_vector, q.query) + similarity(p.title, :keyword) as double precision) as score " +
+            "from posts p " +
+            "join users u on u.id = p.author_id " +
+            "cross join websearch_to_tsquery('simple', :keyword) as q(query) ";
+    String SEARCH_ORDER = "order by score desc, p.created_at desc, p.id desc " +
+            "limit :limit offset :offset";
+
+    // 트라이그램 인덱스는 3글자 이상일 때만 후보를 좁힐 수 있다 (그보다 짧으면 ILIKE가 전체 스캔이 됨)
+    int MIN_SUBSTRING_LENGTH = 3;
+
+    // 단건 조회/수정 응답은 엔티티를 그대로 직렬화하므로 작성자를 같은 쿼리에서 조인해 온다
+    // (open-in-view가 꺼져 있어 트랜잭션 밖에서 지연 로딩할 수 없고, 프록시가 JSON에 섞이지도 않는다)
+    @EntityGraph(attributePaths = "author")
+    Optional<Post> findWithAuthorById(Long id);
+
     List<Post> findByAuthor(User Author);
 
     List<Post> findByTitleContaining(String keyword);
 
     List<Post> findAllByOrderByCreatedAtDesc();
 
-    List<Post> findByAuthorOrderByCreatedAtDesc(User Author);
+    // 전문 검색: 검색 벡터(GIN) 또는 제목 부분 문자열(트라이그램 GIN)로 후보를 찾고 관련도순으로 정렬
+    // 점수 = ts_rank(제목 가중치 A, 본문 B) + 제목 트라이그램 유사도, 같은 점수는 최신순
+    // search_vector 컬럼과 인덱스는 schema.sql에서 만든다
+    @Query(value = SEARCH_SELECT +
+            "where p.search_vector @@ q.query or p.title ilike :pattern escape '\\' " +
+            SEARCH_ORDER,
+            nativeQuery = true)
+    List<Object[]> searchRows(@Param("keyword") String keyword,
+                              @Param("pattern") String pattern,
+                              @Param("excerptLength") int excerptLength,
+                              @Param("limit") int limit,
+                              @Param("offset") int offset);
+
+    // 1~2글자 검색어용: ILIKE 대신 제목 한글 2-gram 벡터(GIN)로 단어 중간의 2글자도 찾는다 (title_bigrams는 schema.sql)
+    // 파라미터 조건(length(:keyword) >= 3)으로 ILIKE를 막으면 일반(generic) 플랜에 스캔이 남을 수 있어 쿼리를 분리했다
+    @Query(value = SEARCH_SELECT +
+            "where p.search_vector @@ q.query or p.title_bigrams @@ q.query " +
+            SEARCH_ORDER,
+            nativeQuery = true)
+    List<Object[]> searchShortRows(@Param("keyword") String keyword,
+                                   @Param("excerptLength") int excerptLength,
+                                   @Param("limit") int limit,
+                                   @Param("offset") int offset);
+
+    default List<PostSearchHit> search(String keyword, int excerptLength, int limit, int offset) {
+        List<Object[]> rows = keyword.codePointCount(0, keyword.length()) >= MIN_SUBSTRING_LENGTH
+                ? searchRows(keyword, "%" + escapeLike(keyword) + "%", excerptLength, limit, offset)
+                : searchShortRows(keyword, excerptLength, limit, offset);
+        return rows.stream()
+                .map(row -> new PostSearchHit(
+                        ((Number) row[0]).longValue(),
+                        (String) row[1],
+                        ((Number) row[2]).longValue(),
+                        (String) row[3],
+                        (String) row[4],
+                        toLocalDateTime(row[5]),
+                        toLocalDateTime(row[6]),
+                        ((Number) row[7]).doubleValue(),
+                        null))
+                .toList();
+    }
+
+    // 검색어의 %, _ 는 와일드카드가 아니라 글자로 찾는다
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    // 네이티브 쿼리의 timestamp 컬럼은 드라이버/Hibernate 설정에 따라 Timestamp 또는 LocalDateTime으로 온다
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+
+    // 메모리 검색 색인 적재용. 트랜잭션 안에서 커서로 나눠 읽으므로 전체를 한 번에 메모리에 올리지 않는다
+    @Query("select new org.zerock.mybackendapp.post.search.PostDocument(" +
+            "p.id, p.title, p.content, a.id, a.username, p.createdAt, p.updatedAt) " +
+            "from Post p join p.author a")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<PostDocument> streamAllDocuments();
+
+    // 메모리 검색 색인 따라잡기용: 다른 노드에서 since 이후에 생성/수정된 게시글 (idx_posts_updated_at)
+    @Query("select new org.zerock.mybackendapp.post.search.PostDocument(" +
+            "p.id, p.title, p.content, a.id, a.username, p.createdAt, p.updatedAt) " +
+            "from Post p join p.author a where p.updatedAt >= :since")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<PostDocument> streamDocumentsUpdatedSince(@Param("since") LocalDateTime since);
+
+    // 다른 노드에서 삭제된 게시글을 찾기 위한 전체 ID (PK 인덱스만 읽는다)
+    @Query("select p.id from Post p")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    Stream<Long> streamAllIds();
+
+    // 제목 자동완성 트라이 적재용 (본문 없이 제목과 시각만)
+    @Query("select new org.zerock.mybackendapp.post.search.PostTitle(p.id, p.title, p.createdAt, p.updatedAt) " +
+            "from Post p")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<PostTitle> streamAllTitles();
+
+    // 제목 자동완성 따라잡기용: 다른 노드에서 since 이후에 생성/수정된 게시글 제목 (idx_posts_updated_at)
+    @Query("select new org.zerock.mybackendapp.post.search.PostTitle(p.id, p.title, p.createdAt, p.updatedAt) " +
+            "from Post p where p.updatedAt >= :since")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<PostTitle> streamTitlesUpdatedSince(@Param("since") LocalDateTime since);
+
+    // 키셋 페이지네이션: OFFSET 없이 (created_at, id) 인덱스를 커서 위치부터 읽으므로 깊은 페이지도 첫 페이지와 비용이 같다
+    @Query(SELECT_SUMMARY + "order by p.createdAt desc, p.id desc")
+    List<PostSummary> findFirstPage(@Param("excerptLength") int excerptLength, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "where (p.createdAt, p.id) < (:createdAt, :id) order by p.createdAt desc, p.id desc")
+    List<PostSummary> findPageBefore(@Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     @Param("excerptLength") int excerptLength,
+                                     Pageable pageable);
+
+    // 작성자별 키셋 페이지네이션. 작성자를 미리 조회하지 않고 posts.author_id로 바로 거른다
+    @Query(SELECT_SUMMARY + "where p.author.id = :authorId order by p.createdAt desc, p.id desc")
+    List<PostSummary> findFirstPageByAuthorId(@Param("authorId") Long authorId,
+                                              @Param("excerptLength") int excerptLength,
+                                              Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "where p.author.id = :authorId and (p.createdAt, p.id) < (:createdAt, :id) " +
+            "order by p.createdAt desc, p.id desc")
+    List<PostSummary> findPageByAuthorIdBefore(@Param("authorId") Long authorId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               @Param("excerptLength") int excerptLength,
+                                               Pageable pageable);
 }
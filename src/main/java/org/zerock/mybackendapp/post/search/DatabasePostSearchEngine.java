@@ -0,0 +1,35 @@
+package org.zerock.mybackendapp.post.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.zerock.mybackendapp.post.dto.PostSearchHit;
+import org.zerock.mybackendapp.post.repository.PostRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+// PostgreSQL 검색 벡터/트라이그램 인덱스로 검색 (schema.sql)
+// 오타 교정(correct)은 DB 대신 PostTitleSuggester가 메모리에 유지하는 제목 단어 사전으로 한다 (pg_trgm으로 고치려면 전체 제목을 훑어야 함)
+@Component
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "database", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DatabasePostSearchEngine implements PostSearchEngine {
+
+    private final PostRepository postRepository;
+    private final PostTitleSuggester postTitleSuggester;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostSearchHit> search(String keyword, int excerptLength, int limit, int offset) {
+        return postRepository.search(keyword, excerptLength, limit, offset);
+    }
+
+    // 본문 단어 색인은 DB에만 있으므로 제목 단어 사전에 없는 단어는 모두 교정 대상으로 본다
+    // (원래 검색어로 결과가 없을 때만 불리므로 본문에만 나온 단어가 바뀌어도 빈 결과보다 나쁘지 않다)
+    @Override
+    public Optional<String> correct(String keyword) {
+        return postTitleSuggester.correct(keyword, word -> false);
+    }
+}
@@ -0,0 +1,283 @@
+package org.zerock.mybackendapp.post.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 제목 단어 사전 + 트라이그램 색인 (검색 결과가 없을 때 오타 교정용)
+// 1) 검색어 단어의 트라이그램 중 포스팅이 짧은 것부터 3k+1개만 훑어 후보를 모은다
+//    편집 한 번은 트라이그램을 최대 3개 망가뜨리므로, 거리 k 이내인 단어는 이 중 하나에는 반드시 들어 있다
+// 2) 공유 트라이그램이 많은 후보부터 MAX_CANDIDATES개만 Damerau-Levenshtein 거리로 확인한다 (k를 넘으면 바로 중단)
+// 훑는 포스팅 수와 확인하는 후보 수에 상한이 있어 사전이 커져도 검색어 하나의 비용은 일정하다
+// 쓰기는 한 스레드씩(PostTitleSuggester의 쓰기 잠금) 하고, 읽기는 잠금 없이 한다
+// 쓰이지 않게 된 단어(문서 수 0)는 사전에서 바로 빼고, 트라이그램 목록에서는 죽은 항목이 절반을 넘을 때 한꺼번에 걷어낸다
+// (목록마다 매번 지우면 흔한 트라이그램 목록을 삭제마다 복사해야 하므로, 죽은 항목이 훑기 상한을 차지하는 비율만 절반 이하로 묶는다)
+final class FuzzyTermIndex {
+
+    // 이보다 짧은 단어는 교정하지 않는다 (두세 글자 중 하나가 틀리면 다른 단어와 구분이 안 된다)
+    static final int MIN_WORD_LENGTH = 3;
+    // 검색어 하나에 훑는 최대 포스팅 수 / 거리를 계산하는 최대 후보 수
+    static final int MAX_SCANNED_POSTINGS = 20_000;
+    static final int MAX_CANDIDATES = 200;
+
+    // 단어 앞뒤 경계 표시 (토큰에는 글자/숫자만 있으므로 겹치지 않는다)
+    private static final char BOUNDARY = 0;
+
+    private final ConcurrentHashMap<String, Term> terms = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, TermList> trigrams = new ConcurrentHashMap<>();
+
+    // 제목 하나에 나온 단어마다 한 번씩 부른다
+    void add(String word) {
+        Term term = terms.get(word);
+        if(term == null) {
+            term = new Term(word);
+            terms.put(word, term);
+            for(long trigram : trigrams(word)) {
+                trigrams.computeIfAbsent(trigram, key -> new TermList()).add(term);
+            }
+        }
+        term.documents++;
+    }
+
+    void remove(String word) {
+        Term term = terms.get(word);
+        if(term == null) {
+            return;
+        }
+        term.documents--;
+        if(term.documents > 0) {
+            return;
+        }
+        terms.remove(word);
+        for(long trigram : trigrams(word)) {
+            TermList list = trigrams.get(trigram);
+            if(list != null && list.markDead()) {
+                trigrams.remove(trigram);
+            }
+        }
+    }
+
+    boolean contains(String word) {
+        Term term = terms.get(word);
+        return term != null && term.documents > 0;
+    }
+
+    // 하나 이상의 제목에 남아 있는 단어 수
+    int size() {
+        return terms.size();
+    }
+
+    // 트라이그램 목록 항목 수 합계 (아직 걷어내지 않은 죽은 항목 포함)
+    int postingCount() {
+        int count = 0;
+        for(TermList list : trigrams.values()) {
+            count += list.size;
+        }
+        return count;
+    }
+
+    // 편집 거리가 가장 가까운 단어 (같으면 더 많은 게시글에 나온 단어). 없으면 null
+    String correct(String word) {
+        int maxDistance = maxDistance(word);
+        if(maxDistance == 0) {
+            return null;
+        }
+        Term best = null;
+        int bestDistance = maxDistance;
+        for(Term candidate : candidates(word, maxDistance)) {
+            if(candidate.text.equals(word)) {
+                continue;
+            }
+            int distance = distance(word, candidate.text, bestDistance);
+            if(distance > bestDistance) {
+                continue;
+            }
+            if(best == null || distance < bestDistance
+                    || candidate.documents > best.documents
+                    || candidate.documents == best.documents && candidate.text.compareTo(best.text) < 0) {
+                best = candidate;
+                bestDistance = distance;
+            }
+        }
+        return best == null ? null : best.text;
+    }
+
+    // 거리를 계산할 후보 (공유 트라이그램이 많은 순, 최대 MAX_CANDIDATES개)
+    List<Term> candidates(String word, int maxDistance) {
+        long[] grams = trigrams(word);
+        TermList[] lists = new TermList[grams.length];
+        for(int i = 0; i < grams.length; i++) {
+            lists[i] = trigrams.get(grams[i]);
+        }
+        // 없는 트라이그램은 크기 0으로 보고 앞에 둔다 (그 자리에서 어떤 단어도 나오지 않는다)
+        Arrays.sort(lists, (a, b) -> Integer.compare(a == null ? 0 : a.size, b == null ? 0 : b.size));
+
+        int prefix = Math.min(lists.length, 3 * maxDistance + 1);
+        Map<Term, int[]> shared = new HashMap<>();
+        int budget = MAX_SCANNED_POSTINGS;
+        for(int i = 0; i < prefix && budget > 0; i++) {
+            TermList list = lists[i];
+            if(list == null) {
+                continue;
+            }
+            // 정리 중에는 size와 items가 서로 다른 시점의 값일 수 있으므로 배열 길이로 자르고 빈 칸은 건너뛴다
+            Term[] items = list.items;
+            int size = Math.min(list.size, items.length);
+            int scan = Math.min(size, budget);
+            budget -= scan;
+            for(int j = 0; j < scan; j++) {
+                Term term = items[j];
+                if(term != null && term.documents > 0 && Math.abs(term.text.length() - word.length()) <= maxDistance) {
+                    shared.computeIfAbsent(term, key -> new int[1])[0]++;
+                }
+            }
+        }
+
+        List<Map.Entry<Term, int[]>> ranked = new ArrayList<>(shared.entrySet());
+        ranked.sort((a, b) -> Integer.compare(b.getValue()[0], a.getValue()[0]));
+        List<Term> candidates = new ArrayList<>(Math.min(ranked.size(), MAX_CANDIDATES));
+        for(int i = 0; i < ranked.size() && i < MAX_CANDIDATES; i++) {
+            candidates.add(ranked.get(i).getKey());
+        }
+        return candidates;
+    }
+
+    // 짧은 단어는 한 글자, 긴 단어는 두 글자까지 틀려도 고친다
+    static int maxDistance(String word) {
+        if(word.length() < MIN_WORD_LENGTH) {
+            return 0;
+        }
+        return word.length() <= 5 ? 1 : 2;
+    }
+
+    // 인접한 두 글자 바꿈을 한 번으로 세는 편집 거리 (optimal string alignment)
+    // |i - j| <= max 인 띠만 계산하고, 한 행의 최솟값이 max를 넘으면 max + 1을 반환한다
+    static int distance(String a, String b, int max) {
+        int n = a.length();
+        int m = b.length();
+        if(Math.abs(n - m) > max) {
+            return max + 1;
+        }
+        int over = max + 1;
+        int[] beforePrevious = new int[m + 1];
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for(int j = 0; j <= m; j++) {
+            previous[j] = Math.min(j, over);
+        }
+
+        for(int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - max);
+            int to = Math.min(m, i + max);
+            current[from - 1] = from == 1 ? Math.min(i, over) : over;
+            if(to < m) {
+                current[to + 1] = over;
+            }
+            int rowMin = current[from - 1];
+            char ca = a.charAt(i - 1);
+            for(int j = from; j <= to; j++) {
+                char cb = b.charAt(j - 1);
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1),
+                        previous[j - 1] + (ca == cb ? 0 : 1));
+                if(i > 1 && j > 1 && ca == b.charAt(j - 2) && a.charAt(i - 2) == cb) {
+                    value = Math.min(value, beforePrevious[j - 2] + 1);
+                }
+                current[j] = Math.min(value, over);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if(rowMin > max) {
+                return over;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[m];
+    }
+
+    // 앞뒤에 경계 문자를 붙인 트라이그램 (중복 제거). 세 글자를 long 하나에 담는다
+    static long[] trigrams(String word) {
+        int length = word.length();
+        long[] grams = new long[length];
+        int count = 0;
+        for(int i = -1; i < length - 1; i++) {
+            long gram = (long) charAt(word, i) << 32 | (long) charAt(word, i + 1) << 16 | charAt(word, i + 2);
+            boolean duplicate = false;
+            for(int j = 0; j < count && !duplicate; j++) {
+                duplicate = grams[j] == gram;
+            }
+            if(!duplicate) {
+                grams[count++] = gram;
+            }
+        }
+        return count == grams.length ? grams : Arrays.copyOf(grams, count);
+    }
+
+    private static char charAt(String word, int index) {
+        return index < 0 || index >= word.length() ? BOUNDARY : word.charAt(index);
+    }
+
+    static final class Term {
+        private final String text;
+        // 이 단어가 제목에 나온 게시글 수
+        private volatile int documents;
+
+        private Term(String text) {
+            this.text = text;
+        }
+
+        String text() {
+            return text;
+        }
+    }
+
+    // 뒤에 붙이는 목록. 원소를 쓰고 나서 size를 올리므로 읽는 쪽은 size만큼은 항상 볼 수 있다
+    // 죽은 항목은 새 배열로 옮겨 담아 걷어내므로, 읽는 쪽이 들고 있는 이전 배열은 바뀌지 않는다
+    private static final class TermList {
+        private volatile Term[] items = new Term[4];
+        private volatile int size;
+        // 아직 걷어내지 않은 죽은 항목 수 (쓰는 스레드만 사용)
+        private int dead;
+
+        private void add(Term term) {
+            Term[] array = items;
+            if(size == array.length) {
+                array = Arrays.copyOf(array, size * 2);
+            }
+            array[size] = term;
+            items = array;
+            size = size + 1;
+        }
+
+        // 항목 하나가 죽었음을 기록하고, 절반을 넘으면 살아 있는 항목만 남긴다. 목록이 비면 true
+        private boolean markDead() {
+            dead++;
+            if(dead * 2 <= size) {
+                return false;
+            }
+            Term[] array = items;
+            int length = size;
+            int alive = 0;
+            for(int i = 0; i < length; i++) {
+                if(array[i].documents > 0) {
+                    alive++;
+                }
+            }
+            Term[] live = new Term[Math.max(4, alive)];
+            int count = 0;
+            for(int i = 0; i < length; i++) {
+                if(array[i].documents > 0) {
+                    live[count++] = array[i];
+                }
+            }
+            items = live;
+            size = count;
+            dead = 0;
+            return count == 0;
+        }
+    }
+}
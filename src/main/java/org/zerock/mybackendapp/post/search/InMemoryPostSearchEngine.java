@@ -0,0 +1,363 @@
+package org.zerock.mybackendapp.post.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.zerock.mybackendapp.post.dto.PostSearchHit;
+import org.zerock.mybackendapp.post.repository.PostRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// 게시글 제목/본문 역색인 + BM25 순위 (post.search.engine=memory)
+// 토큰은 PostTokenizer 규칙(한글 2음절, 소문자 단어)을 따르고, 검색어의 모든 토큰을 포함한 게시글만 찾는다
+// (한글 검색어는 2음절로 쪼개지므로 일부 음절만 겹치는 게시글이 섞이지 않도록 AND로 묶는다)
+// 색인에 없는 검색어 단어는 제목 단어 사전(PostTitleSuggester)에서 가장 가까운 단어로 고쳐 줄 수 있다
+// 기동 시 게시글 전체를 스트리밍해 색인하고, 이후에는 커밋된 생성/수정/삭제 이벤트로 게시글 단위로 갱신한다
+// 포스팅 목록은 불변(PostingList)이라 검색은 잠금 없이 ConcurrentHashMap만 읽고, 쓰기끼리만 writeLock으로 순서를 맞춘다
+// 한 게시글의 갱신이 단어별로 차례로 보이므로 검색 결과는 잠시 이전/이후 상태가 섞일 수 있다
+// 노드마다 자기 색인을 가지므로 다른 노드에서 바뀐 게시글은 catchUp()이 updated_at 기준으로 주기적으로 다시 읽고(sync-interval),
+// 다른 노드에서 삭제된 게시글은 reconcileDeletions()가 DB의 ID 전체와 대조해 뺀다(reconcile-interval)
+@Component
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "memory")
+@Slf4j
+public class InMemoryPostSearchEngine implements PostSearchEngine {
+
+    // BM25 파라미터 (일반적인 기본값)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 제목에 나온 단어는 본문보다 이만큼 더 센다
+    private static final int TITLE_BOOST = 3;
+    private static final int SNIPPET_LENGTH = 120;
+
+    private static final Comparator<Scored> RANKING = Comparator.comparingDouble(Scored::score)
+            .thenComparing(scored -> scored.post().document().createdAt())
+            .thenComparingLong(scored -> scored.post().document().id());
+
+    private final PostRepository postRepository;
+    private final PostTitleSuggester postTitleSuggester;
+    private final PostSyncCursor syncCursor;
+
+    private final ConcurrentHashMap<String, PostingList> postings = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, IndexedPost> posts = new ConcurrentHashMap<>();
+    private final AtomicLong totalLength = new AtomicLong();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // writeLock 안에서만 쓰는 단어 빈도 버퍼 (새 내용, 이전 내용)
+    private final TermCounter currentTerms = new TermCounter();
+    private final TermCounter previousTerms = new TermCounter();
+
+    // 삭제 전에 읽기 시작한 적재/따라잡기 스트림이 삭제된 게시글을 다시 넣지 않도록 기억해 둔다 (ID는 재사용되지 않음)
+    // 그런 스트림이 끝났을 만큼 지난 항목은 reconcileDeletions()가 정리한다
+    private final ConcurrentHashMap<Long, LocalDateTime> recentlyDeleted = new ConcurrentHashMap<>();
+    private volatile boolean loading;
+
+    public InMemoryPostSearchEngine(PostRepository postRepository,
+                                    PostTitleSuggester postTitleSuggester,
+                                    @Value("${post.search.sync-overlap:1m}") Duration syncOverlap) {
+        this.postRepository = postRepository;
+        this.postTitleSuggester = postTitleSuggester;
+        this.syncCursor = new PostSyncCursor(syncOverlap);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        log.info("=== 게시글 검색 색인 적재 시작 ===");
+        long started = System.nanoTime();
+        loading = true;
+        syncCursor.start(LocalDateTime.now());
+        try(Stream<PostDocument> documents = postRepository.streamAllDocuments()) {
+            documents.forEach(document -> {
+                index(document);
+                syncCursor.advance(document.updatedAt());
+            });
+            compact();
+        } finally {
+            loading = false;
+        }
+        log.info("=== 게시글 검색 색인 적재 완료: 게시글 {}개, 단어 {}개, 포스팅 {}KB, {}ms ===",
+                posts.size(), postings.size(), postingBytes() / 1024, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangeEvent event) {
+        if(event.isDeleted()) {
+            remove(event.postId());
+        } else {
+            index(event.document());
+        }
+    }
+
+    // 다른 노드에서 생성/수정된 게시글 반영. 겹쳐 읽은 게시글은 내용이 같으면 index()가 건너뛴다
+    @Scheduled(fixedDelayString = "${post.search.sync-interval:10s}")
+    @Transactional(readOnly = true)
+    public void catchUp() {
+        if(loading || !syncCursor.isStarted()) {
+            return;
+        }
+        int read = 0;
+        try(Stream<PostDocument> documents = postRepository.streamDocumentsUpdatedSince(syncCursor.since())) {
+            for(Iterator<PostDocument> it = documents.iterator(); it.hasNext(); read++) {
+                PostDocument document = it.next();
+                index(document);
+                syncCursor.advance(document.updatedAt());
+            }
+        }
+        log.debug("게시글 검색 색인 따라잡기: {}건 확인", read);
+    }
+
+    // 다른 노드에서 삭제된 게시글 제거. 대조 중에 새로 생긴 게시글을 지우지 않도록 최근에 바뀐 게시글은 다음 대조로 미룬다
+    @Scheduled(fixedDelayString = "${post.search.reconcile-interval:5m}")
+    @Transactional(readOnly = true)
+    public void reconcileDeletions() {
+        if(loading || !syncCursor.isStarted()) {
+            return;
+        }
+        LocalDateTime cutoff = syncCursor.deletionCutoff(LocalDateTime.now());
+        recentlyDeleted.values().removeIf(deletedAt -> deletedAt.isBefore(cutoff));
+        long[] liveIds;
+        try(Stream<Long> ids = postRepository.streamAllIds()) {
+            liveIds = PostSyncCursor.liveIds(ids);
+        }
+
+        int removed = 0;
+        for(IndexedPost post : posts.values()) {
+            PostDocument document = post.document();
+            if(document.updatedAt().isBefore(cutoff) && !PostSyncCursor.isLive(liveIds, document.id())) {
+                remove(document.id());
+                removed++;
+            }
+        }
+        if(removed > 0) {
+            log.info("다른 노드에서 삭제된 게시글을 검색 색인에서 제거: {}건", removed);
+        }
+    }
+
+    public void index(PostDocument document) {
+        writeLock.lock();
+        try {
+            if(recentlyDeleted.containsKey(document.id())) {
+                return;
+            }
+            IndexedPost previous = posts.get(document.id());
+            // 적재/따라잡기 스트림이 이벤트로 이미 반영된 최신 내용을 덮어쓰지 않도록
+            if(previous != null && previous.document().updatedAt().isAfter(document.updatedAt())) {
+                return;
+            }
+            // 따라잡기는 겹치는 구간을 매번 다시 읽으므로 바뀌지 않은 게시글은 다시 색인하지 않는다
+            if(previous != null && previous.document().equals(document)) {
+                return;
+            }
+
+            TermCounter frequencies = countTerms(document, currentTerms);
+            int length = frequencies.total();
+            long docId = document.id();
+
+            for(int i = 0; i < frequencies.size(); i++) {
+                int frequency = frequencies.count(i);
+                postings.compute(frequencies.term(i),
+                        (key, list) -> (list == null ? PostingList.EMPTY : list).with(docId, frequency));
+            }
+            if(previous != null) {
+                TermCounter previousFrequencies = countTerms(previous.document(), previousTerms);
+                for(int i = 0; i < previousFrequencies.size(); i++) {
+                    String term = previousFrequencies.term(i);
+                    if(!frequencies.contains(term)) {
+                        removePosting(term, docId);
+                    }
+                }
+            }
+
+            posts.put(docId, new IndexedPost(document, length));
+            totalLength.addAndGet(length - (previous == null ? 0 : previous.length()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        writeLock.lock();
+        try {
+            recentlyDeleted.put(postId, LocalDateTime.now());
+            // 게시글을 먼저 빼면 검색은 남은 포스팅을 건너뛴다
+            IndexedPost previous = posts.remove(postId);
+            if(previous == null) {
+                return;
+            }
+            TermCounter previousFrequencies = countTerms(previous.document(), previousTerms);
+            for(int i = 0; i < previousFrequencies.size(); i++) {
+                removePosting(previousFrequencies.term(i), postId);
+            }
+            totalLength.addAndGet(-previous.length());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<PostSearchHit> search(String keyword, int excerptLength, int limit, int offset) {
+        Set<String> terms = new LinkedHashSet<>(PostTokenizer.tokenize(keyword));
+        int postCount = posts.size();
+        if(terms.isEmpty() || postCount == 0) {
+            return List.of();
+        }
+        double averageLength = Math.max(1.0, (double) totalLength.get() / postCount);
+
+        // 포스팅이 짧은 단어부터 훑어 후보를 줄인다. 하나라도 없는 단어가 있으면 결과가 없다
+        List<PostingList> lists = new ArrayList<>(terms.size());
+        for(String term : terms) {
+            PostingList list = postings.get(term);
+            if(list == null) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        // [점수, 일치한 단어 수]
+        Map<Long, double[]> scores = new HashMap<>();
+        for(int i = 0; i < lists.size(); i++) {
+            PostingList list = lists.get(i);
+            boolean first = i == 0;
+            int matched = i;
+            double idf = Math.log(1 + (postCount - list.size() + 0.5) / (list.size() + 0.5));
+            list.forEach((docId, frequency) -> {
+                double[] score = first ? scores.computeIfAbsent(docId, id -> new double[2]) : scores.get(docId);
+                // 앞선 단어 중 하나라도 빠진 게시글은 건너뛴다
+                if(score == null || score[1] != matched) {
+                    return;
+                }
+                IndexedPost post = posts.get(docId);
+                if(post == null) {
+                    return;
+                }
+                double norm = K1 * (1 - B + B * post.length() / averageLength);
+                score[0] += idf * frequency * (K1 + 1) / (frequency + norm);
+                score[1]++;
+            });
+        }
+
+        // offset + limit 개만 남기는 최소 힙
+        int wanted = offset + limit;
+        PriorityQueue<Scored> top = new PriorityQueue<>(Math.max(1, Math.min(wanted, scores.size())), RANKING);
+        scores.forEach((docId, score) -> {
+            if(score[1] != lists.size()) {
+                return;
+            }
+            IndexedPost post = posts.get(docId);
+            if(post == null) {
+                return;
+            }
+            Scored scored = new Scored(post, score[0]);
+            if(top.size() < wanted) {
+                top.add(scored);
+            } else if(RANKING.compare(scored, top.peek()) > 0) {
+                top.poll();
+                top.add(scored);
+            }
+        });
+
+        List<Scored> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING.reversed());
+        if(offset >= ranked.size()) {
+            return List.of();
+        }
+        return ranked.subList(offset, ranked.size()).stream()
+                .map(scored -> toHit(scored, terms, excerptLength))
+                .toList();
+    }
+
+    @Override
+    public Optional<String> correct(String keyword) {
+        return postTitleSuggester.correct(keyword, this::isIndexed);
+    }
+
+    // 뒤에 붙이기용 여유 공간을 정리한다
+    private void compact() {
+        writeLock.lock();
+        try {
+            postings.replaceAll((term, list) -> list.compact());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    int postCount() {
+        return posts.size();
+    }
+
+    int termCount() {
+        return postings.size();
+    }
+
+    long postingBytes() {
+        return postings.values().stream().mapToLong(PostingList::sizeInBytes).sum();
+    }
+
+    // 단어의 토큰이 모두 색인에 있으면 고치지 않는다 (본문에만 나온 단어 포함)
+    private boolean isIndexed(String word) {
+        for(String term : PostTokenizer.tokenize(word)) {
+            if(!postings.containsKey(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void removePosting(String term, long docId) {
+        postings.computeIfPresent(term, (key, list) -> {
+            PostingList next = list.without(docId);
+            return next.isEmpty() ? null : next;
+        });
+    }
+
+    // 토큰마다 String을 만들지 않고 단어 종류마다 한 번만 만든다
+    private static TermCounter countTerms(PostDocument document, TermCounter counter) {
+        PostTokenizer tokenizer = PostTokenizer.current();
+        counter.clear();
+        if(document.title() != null) {
+            tokenizer.tokenize(document.title(), counter.weight(TITLE_BOOST));
+        }
+        if(document.content() != null) {
+            tokenizer.tokenize(document.content(), counter.weight(1));
+        }
+        return counter;
+    }
+
+    private static PostSearchHit toHit(Scored scored, Set<String> terms, int excerptLength) {
+        PostDocument document = scored.post().document();
+        String excerpt = excerptLength > 0
+                ? document.content().substring(0, Math.min(excerptLength, document.content().length()))
+                : null;
+        return new PostSearchHit(document.id(), document.title(), document.authorId(), document.authorUsername(),
+                excerpt, document.createdAt(), document.updatedAt(), scored.score(),
+                SnippetHighlighter.highlight(document.content(), terms, SNIPPET_LENGTH));
+    }
+
+    // length: 제목 가중치를 반영한 단어 수 (BM25 문서 길이)
+    private record IndexedPost(PostDocument document, int length) {
+    }
+
+    private record Scored(IndexedPost post, double score) {
+    }
+}
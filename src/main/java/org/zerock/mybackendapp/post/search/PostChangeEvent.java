@@ -0,0 +1,18 @@
+package org.zerock.mybackendapp.post.search;
+
+// 게시글 생성/수정/삭제 알림. 커밋된 변경만 검색 색인에 반영한다
+// 삭제 이벤트는 document가 null
+public record PostChangeEvent(Long postId, PostDocument document) {
+
+    public static PostChangeEvent saved(PostDocument document) {
+        return new PostChangeEvent(document.id(), document);
+    }
+
+    public static PostChangeEvent deleted(Long postId) {
+        return new PostChangeEvent(postId, null);
+    }
+
+    public boolean isDeleted() {
+        return document == null;
+    }
+}
@@ -0,0 +1,21 @@
+package org.zerock.mybackendapp.post.search;
+
+import org.zerock.mybackendapp.post.domain.Post;
+
+import java.time.LocalDateTime;
+
+// 검색 색인에 넣는 게시글 내용 (엔티티와 분리해 트랜잭션 밖에서도 안전하게 쓴다)
+public record PostDocument(Long id,
+                           String title,
+                           String content,
+                           Long authorId,
+                           String authorUsername,
+                           LocalDateTime createdAt,
+                           LocalDateTime updatedAt) {
+
+    public static PostDocument from(Post post) {
+        return new PostDocument(post.getId(), post.getTitle(), post.getContent(),
+                post.getAuthor().getId(), post.getAuthor().getUsername(),
+                post.getCreatedAt(), post.getUpdatedAt());
+    }
+}
@@ -0,0 +1,21 @@
+package org.zerock.mybackendapp.post.search;
+
+import org.zerock.mybackendapp.post.dto.PostSearchHit;
+
+import java.util.List;
+import java.util.Optional;
+
+// 게시글 검색 엔진 (post.search.engine=database | memory)
+// database: PostgreSQL 전문 검색 인덱스 (기본값)
+// memory: 애플리케이션 메모리의 역색인 + BM25 (검색 부하를 DB에 주지 않는 배포용)
+public interface PostSearchEngine {
+
+    // 관련도순 offset부터 limit개. excerptLength가 0이면 발췌 없음
+    List<PostSearchHit> search(String keyword, int excerptLength, int limit, int offset);
+
+    // 오타를 고친 검색어 (검색 결과가 없을 때 한 번 더 찾아볼 용도). 고칠 단어가 없거나 지원하지 않으면 빈 값
+    // 두 엔진 모두 PostTitleSuggester의 제목 단어 사전으로 고친다
+    default Optional<String> correct(String keyword) {
+        return Optional.empty();
+    }
+}
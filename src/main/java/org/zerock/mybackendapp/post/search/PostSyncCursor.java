@@ -0,0 +1,58 @@
+package org.zerock.mybackendapp.post.search;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+// 다른 노드에서 바뀐 게시글을 따라잡기 위한 기준 시각 (노드별 메모리 색인/트라이 공용)
+// 이벤트는 자기 노드의 커밋만 알려 주므로, 주기적으로 updated_at이 기준 시각 이후인 게시글을 다시 읽는다
+// updated_at은 글을 쓴 노드의 시계로 찍히고 커밋은 그보다 늦으므로 마지막으로 본 시각에서 overlap만큼 겹쳐서 읽는다
+// (overlap은 노드 간 시계 차이 + 가장 긴 게시글 쓰기 트랜잭션보다 길어야 한다)
+// 삭제는 흔적이 남지 않으므로 DB에 남은 ID 전체와 대조해서 찾는다
+final class PostSyncCursor {
+
+    private final Duration overlap;
+    // DB에서 읽은 게시글 중 가장 늦은 updated_at (null이면 아직 적재 전)
+    private volatile LocalDateTime seenUntil;
+
+    PostSyncCursor(Duration overlap) {
+        this.overlap = overlap;
+    }
+
+    // 적재를 시작할 때 부른다. 게시글이 하나도 없어도 이 시각부터 따라잡는다
+    void start(LocalDateTime now) {
+        seenUntil = now;
+    }
+
+    boolean isStarted() {
+        return seenUntil != null;
+    }
+
+    // 적재/따라잡기 스트림에서 읽은 게시글마다 부른다 (이벤트로 받은 게시글은 넣지 않는다)
+    synchronized void advance(LocalDateTime updatedAt) {
+        if(updatedAt != null && (seenUntil == null || updatedAt.isAfter(seenUntil))) {
+            seenUntil = updatedAt;
+        }
+    }
+
+    LocalDateTime since() {
+        return seenUntil.minus(overlap);
+    }
+
+    // 이보다 최근에 바뀐 게시글은 ID 대조에서 빠져 있어도 지우지 않는다 (대조 중에 다른 노드가 만든 게시글일 수 있음)
+    LocalDateTime deletionCutoff(LocalDateTime now) {
+        return now.minus(overlap);
+    }
+
+    // DB에 남아 있는 게시글 ID (정렬된 배열이라 게시글 수가 많아도 박싱된 Set보다 훨씬 작다)
+    static long[] liveIds(Stream<Long> ids) {
+        long[] sorted = ids.mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    static boolean isLive(long[] liveIds, long id) {
+        return Arrays.binarySearch(liveIds, id) >= 0;
+    }
+}
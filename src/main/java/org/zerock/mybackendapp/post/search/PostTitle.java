@@ -0,0 +1,11 @@
+package org.zerock.mybackendapp.post.search;
+
+import java.time.LocalDateTime;
+
+// 제목 자동완성에 넣는 게시글 (본문 없이 제목과 정렬/갱신 판단용 시각만)
+public record PostTitle(Long id, String title, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    public static PostTitle from(PostDocument document) {
+        return new PostTitle(document.id(), document.title(), document.createdAt(), document.updatedAt());
+    }
+}
@@ -0,0 +1,234 @@
+package org.zerock.mybackendapp.post.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.zerock.mybackendapp.post.dto.PostSuggestion;
+import org.zerock.mybackendapp.post.repository.PostRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+// 게시글 제목 자동완성 + 제목 단어 사전(오타 교정) (검색 엔진 설정과 상관없이 항상 메모리에서 답한다)
+// 제목 단어 사전(FuzzyTermIndex)도 같은 적재/이벤트/따라잡기로 유지하므로 database, memory 엔진 모두 correct()에 쓴다
+// 기동 시 제목만 스트리밍해 트라이를 만들고, 이후에는 커밋된 생성/수정/삭제 이벤트로 갱신한다
+// 검색은 읽기 잠금 안에서 접두어 길이만큼 트라이를 내려가 노드에 저장된 최신 목록을 자른다
+// 노드마다 자기 트라이를 가지므로 다른 노드에서 바뀐 게시글은 검색 색인과 같은 방식(PostSyncCursor)으로 따라잡는다
+// (catchUp: updated_at 기준 주기적 재조회, reconcileDeletions: DB의 ID 전체와 대조)
+@Component
+@Slf4j
+public class PostTitleSuggester {
+
+    // 한 번에 돌려주는 최대 제목 수 (트라이 노드마다 이만큼 들고 있다)
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private final PostRepository postRepository;
+    private final TitleTrie trie = new TitleTrie(MAX_SUGGESTIONS);
+    // 쓰기는 트라이와 함께 writeLock 안에서만, 읽기(correct)는 잠금 없이
+    private final FuzzyTermIndex titleWords = new FuzzyTermIndex();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PostSyncCursor syncCursor;
+
+    // 삭제 전에 읽기 시작한 적재/따라잡기 스트림이 삭제된 게시글을 다시 넣지 않도록 기억해 둔다 (ID는 재사용되지 않음)
+    // 그런 스트림이 끝났을 만큼 지난 항목은 reconcileDeletions()가 정리한다
+    private final ConcurrentHashMap<Long, LocalDateTime> recentlyDeleted = new ConcurrentHashMap<>();
+    private volatile boolean loading;
+
+    public PostTitleSuggester(PostRepository postRepository,
+                              @Value("${post.search.sync-overlap:1m}") Duration syncOverlap) {
+        this.postRepository = postRepository;
+        this.syncCursor = new PostSyncCursor(syncOverlap);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        log.info("=== 제목 자동완성 트라이 적재 시작 ===");
+        long started = System.nanoTime();
+        loading = true;
+        syncCursor.start(LocalDateTime.now());
+        try(Stream<PostTitle> titles = postRepository.streamAllTitles()) {
+            titles.forEach(title -> {
+                put(title);
+                syncCursor.advance(title.updatedAt());
+            });
+        } finally {
+            loading = false;
+        }
+        log.info("=== 제목 자동완성 트라이 적재 완료: 제목 {}개, 노드 {}개, 제목 단어 {}개, {}ms ===",
+                size(), nodeCount(), titleWordCount(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangeEvent event) {
+        if(event.isDeleted()) {
+            remove(event.postId());
+        } else {
+            put(PostTitle.from(event.document()));
+        }
+    }
+
+    // 다른 노드에서 생성/수정된 게시글 반영. 겹쳐 읽은 제목은 바뀌지 않았으면 put()이 건너뛴다
+    @Scheduled(fixedDelayString = "${post.search.sync-interval:10s}")
+    @Transactional(readOnly = true)
+    public void catchUp() {
+        if(loading || !syncCursor.isStarted()) {
+            return;
+        }
+        int read = 0;
+        try(Stream<PostTitle> titles = postRepository.streamTitlesUpdatedSince(syncCursor.since())) {
+            for(Iterator<PostTitle> it = titles.iterator(); it.hasNext(); read++) {
+                PostTitle title = it.next();
+                put(title);
+                syncCursor.advance(title.updatedAt());
+            }
+        }
+        log.debug("제목 자동완성 따라잡기: {}건 확인", read);
+    }
+
+    // 다른 노드에서 삭제된 게시글 제거. 대조 중에 새로 생긴 게시글을 지우지 않도록 최근에 바뀐 게시글은 다음 대조로 미룬다
+    @Scheduled(fixedDelayString = "${post.search.reconcile-interval:5m}")
+    @Transactional(readOnly = true)
+    public void reconcileDeletions() {
+        if(loading || !syncCursor.isStarted()) {
+            return;
+        }
+        LocalDateTime cutoff = syncCursor.deletionCutoff(LocalDateTime.now());
+        recentlyDeleted.values().removeIf(deletedAt -> deletedAt.isBefore(cutoff));
+        long[] liveIds;
+        try(Stream<Long> ids = postRepository.streamAllIds()) {
+            liveIds = PostSyncCursor.liveIds(ids);
+        }
+
+        List<PostTitle> titles;
+        lock.readLock().lock();
+        try {
+            titles = trie.titles();
+        } finally {
+            lock.readLock().unlock();
+        }
+        int removed = 0;
+        for(PostTitle title : titles) {
+            if(title.updatedAt() != null && title.updatedAt().isBefore(cutoff)
+                    && !PostSyncCursor.isLive(liveIds, title.id())) {
+                remove(title.id());
+                removed++;
+            }
+        }
+        if(removed > 0) {
+            log.info("다른 노드에서 삭제된 게시글을 제목 자동완성에서 제거: {}건", removed);
+        }
+    }
+
+    public void put(PostTitle title) {
+        lock.writeLock().lock();
+        try {
+            if(recentlyDeleted.containsKey(title.id())) {
+                return;
+            }
+            PostTitle previous = trie.get(title.id());
+            // 적재/따라잡기 스트림이 이벤트로 이미 반영된 최신 제목을 덮어쓰지 않도록
+            if(previous != null && previous.updatedAt() != null && title.updatedAt() != null
+                    && previous.updatedAt().isAfter(title.updatedAt())) {
+                return;
+            }
+            // 따라잡기는 겹치는 구간을 매번 다시 읽으므로 바뀌지 않은 제목은 트라이를 다시 고치지 않는다
+            if(title.equals(previous)) {
+                return;
+            }
+            trie.put(title);
+            if(previous == null || !Objects.equals(previous.title(), title.title())) {
+                if(previous != null) {
+                    distinctWords(previous.title()).forEach(titleWords::remove);
+                }
+                distinctWords(title.title()).forEach(titleWords::add);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            recentlyDeleted.put(postId, LocalDateTime.now());
+            PostTitle previous = trie.get(postId);
+            if(previous != null) {
+                trie.remove(postId);
+                distinctWords(previous.title()).forEach(titleWords::remove);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 정규화한 제목이 prefix로 시작하는 게시글 최신순 (limit은 MAX_SUGGESTIONS까지)
+    public List<PostSuggestion> suggest(String prefix, int limit) {
+        List<PostTitle> titles;
+        lock.readLock().lock();
+        try {
+            titles = trie.suggest(prefix, Math.min(limit, MAX_SUGGESTIONS));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return titles.stream()
+                .map(title -> new PostSuggestion(title.id(), title.title()))
+                .toList();
+    }
+
+    // 검색 결과가 없을 때 다시 찾아볼 검색어. 단어마다 제목 단어 사전에서 가장 가까운 단어로 고친다
+    // 제목 단어이거나 known(검색 엔진 색인에 있는 단어, 예: 본문에만 나온 단어)이면 고치지 않는다. 고칠 단어가 없으면 빈 값
+    public Optional<String> correct(String keyword, Predicate<String> known) {
+        List<String> words = PostTokenizer.words(keyword);
+        List<String> corrected = new ArrayList<>(words.size());
+        boolean changed = false;
+        for(String word : words) {
+            String replacement = titleWords.contains(word) || known.test(word) ? null : titleWords.correct(word);
+            changed |= replacement != null;
+            corrected.add(replacement == null ? word : replacement);
+        }
+        return changed ? Optional.of(String.join(" ", corrected)) : Optional.empty();
+    }
+
+    int titleWordCount() {
+        return titleWords.size();
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return trie.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return trie.nodeCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Set<String> distinctWords(String title) {
+        return new LinkedHashSet<>(PostTokenizer.words(title));
+    }
+}
@@ -0,0 +1,141 @@
+package org.zerock.mybackendapp.post.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 검색용 토큰 분리 (색인과 검색어에 같은 규칙을 적용해야 하므로 한 곳에 둔다)
+// - 한글 음절이 이어진 구간: 겹치는 2음절(bigram)을 낸다. "스프링을" -> 스프, 프링, 링을
+//   형태소 분석 없이도 조사가 붙은 말, 복합명사 일부("데이터베이스"의 "베이스")로 찾을 수 있다
+//   한 음절뿐인 구간은 그 음절 하나를 낸다 ("책", "을")
+// - 그 밖의 글자/숫자가 이어진 구간: 소문자 단어 하나 (전각 영숫자는 반각으로)
+// 토큰은 재사용하는 char 버퍼 조각으로 넘기므로 토큰 분리 자체는 할당이 없다 (인스턴스는 스레드마다 따로 쓴다)
+final class PostTokenizer {
+
+    // 이보다 긴 단어는 앞부분만 쓴다
+    static final int MAX_TERM_LENGTH = 64;
+
+    private static final char HANGUL_FIRST = '\uAC00'; // 가
+    private static final char HANGUL_LAST = '\uD7A3';  // 힣
+
+    private static final ThreadLocal<PostTokenizer> SHARED = ThreadLocal.withInitial(PostTokenizer::new);
+
+    private final char[] buffer = new char[MAX_TERM_LENGTH];
+
+    @FunctionalInterface
+    interface TokenSink {
+        // buffer[0, length)가 토큰이다. 호출이 끝나면 버퍼 내용은 바뀔 수 있다
+        void accept(char[] buffer, int length);
+    }
+
+    static PostTokenizer current() {
+        return SHARED.get();
+    }
+
+    // 검색어처럼 짧은 입력용. 토큰마다 String을 만든다
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if(text != null) {
+            current().tokenize(text, (chars, length) -> tokens.add(new String(chars, 0, length)));
+        }
+        return tokens;
+    }
+
+    void tokenize(CharSequence text, TokenSink sink) {
+        int wordLength = 0;
+        char previousSyllable = 0;
+        int syllables = 0;
+
+        for(int i = 0, length = text.length(); i < length; i++) {
+            char c = normalize(text.charAt(i));
+
+            if(c >= HANGUL_FIRST && c <= HANGUL_LAST) {
+                if(wordLength > 0) {
+                    sink.accept(buffer, wordLength);
+                    wordLength = 0;
+                }
+                if(syllables > 0) {
+                    buffer[0] = previousSyllable;
+                    buffer[1] = c;
+                    sink.accept(buffer, 2);
+                }
+                previousSyllable = c;
+                syllables++;
+                continue;
+            }
+
+            if(syllables > 0) {
+                emitSingleSyllable(previousSyllable, syllables, sink);
+                syllables = 0;
+            }
+            if(Character.isLetterOrDigit(c)) {
+                if(wordLength < MAX_TERM_LENGTH) {
+                    buffer[wordLength++] = Character.toLowerCase(c);
+                }
+            } else if(wordLength > 0) {
+                sink.accept(buffer, wordLength);
+                wordLength = 0;
+            }
+        }
+
+        if(syllables > 0) {
+            emitSingleSyllable(previousSyllable, syllables, sink);
+        }
+        if(wordLength > 0) {
+            sink.accept(buffer, wordLength);
+        }
+    }
+
+    // 2음절로 쪼개지 않은 단어 단위 (글자/숫자가 이어진 구간, 소문자/반각). 오타 교정 사전용
+    void words(CharSequence text, TokenSink sink) {
+        int wordLength = 0;
+        for(int i = 0, length = text.length(); i < length; i++) {
+            char c = normalize(text.charAt(i));
+            if(Character.isLetterOrDigit(c)) {
+                if(wordLength < MAX_TERM_LENGTH) {
+                    buffer[wordLength++] = Character.toLowerCase(c);
+                }
+            } else if(wordLength > 0) {
+                sink.accept(buffer, wordLength);
+                wordLength = 0;
+            }
+        }
+        if(wordLength > 0) {
+            sink.accept(buffer, wordLength);
+        }
+    }
+
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if(text != null) {
+            current().words(text, (chars, length) -> words.add(new String(chars, 0, length)));
+        }
+        return words;
+    }
+
+    private void emitSingleSyllable(char syllable, int syllables, TokenSink sink) {
+        if(syllables == 1) {
+            buffer[0] = syllable;
+            sink.accept(buffer, 1);
+        }
+    }
+
+    // 전각 영숫자/기호(！～)는 반각으로, 전각 공백은 공백으로
+    private static char normalize(char c) {
+        if(c >= '\uFF01' && c <= '\uFF5E') {
+            return (char) (c - 0xFEE0);
+        }
+        if(c == '\u3000') {
+            return ' ';
+        }
+        return c;
+    }
+
+    // 글자 수가 바뀌지 않는 소문자/반각 변환 (하이라이트 위치 계산이 원문과 어긋나지 않도록)
+    static String lowerCase(String text, int from, int to) {
+        char[] chars = new char[to - from];
+        for(int i = from; i < to; i++) {
+            chars[i - from] = Character.toLowerCase(normalize(text.charAt(i)));
+        }
+        return new String(chars);
+    }
+}
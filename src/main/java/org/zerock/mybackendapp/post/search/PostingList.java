@@ -0,0 +1,195 @@
+package org.zerock.mybackendapp.post.search;
+
+import java.util.Arrays;
+
+// 한 단어가 나오는 게시글 목록 (게시글 ID 오름차순, 단어 빈도 포함)
+// 앞 ID와의 차이와 빈도를 varint로 저장해 대부분 항목이 2~3바이트다
+// 읽는 쪽에서 보면 불변이라 잠금 없이 순회하고, 변경은 새 목록을 만들어 교체한다
+// 뒤에 붙일 때는 배열 여유 공간을 다음 목록과 공유한다. 각 목록은 자기 length까지만 읽으므로
+// 이전 목록을 읽는 중인 검색에는 영향이 없고, 한 목록에서는 한 번만 이어 붙일 수 있다 (extended)
+final class PostingList {
+
+    static final PostingList EMPTY = new PostingList(new byte[0], 0, 0, 0);
+
+    private final byte[] data;
+    private final int length;
+    private final int size;
+    private final long lastDocId;
+    private boolean extended;
+
+    private PostingList(byte[] data, int length, int size, long lastDocId) {
+        this.data = data;
+        this.length = length;
+        this.size = size;
+        this.lastDocId = lastDocId;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    // docId의 빈도를 추가하거나 교체한 새 목록
+    PostingList with(long docId, int frequency) {
+        // 새 게시글은 ID가 가장 크므로 대부분 뒤에 붙이기만 하면 된다 (분할 상환 O(1))
+        if(docId > lastDocId) {
+            return append(docId - lastDocId, frequency, docId);
+        }
+
+        Writer writer = new Writer(length + 12);
+        Cursor cursor = new Cursor();
+        long previous = 0;
+        boolean written = false;
+        int count = 0;
+        while(cursor.next()) {
+            if(!written && cursor.docId >= docId) {
+                writer.varint(docId - previous);
+                writer.varint(frequency);
+                previous = docId;
+                count++;
+                written = true;
+                if(cursor.docId == docId) {
+                    continue;
+                }
+            }
+            writer.varint(cursor.docId - previous);
+            writer.varint(cursor.frequency);
+            previous = cursor.docId;
+            count++;
+        }
+        return writer.toPostingList(count, previous);
+    }
+
+    // docId를 뺀 새 목록 (없으면 자기 자신)
+    PostingList without(long docId) {
+        if(docId > lastDocId) {
+            return this;
+        }
+
+        Writer writer = new Writer(length);
+        Cursor cursor = new Cursor();
+        long previous = 0;
+        boolean removed = false;
+        while(cursor.next()) {
+            if(cursor.docId == docId) {
+                removed = true;
+                continue;
+            }
+            writer.varint(cursor.docId - previous);
+            writer.varint(cursor.frequency);
+            previous = cursor.docId;
+        }
+        if(!removed) {
+            return this;
+        }
+        return size == 1 ? EMPTY : writer.toPostingList(size - 1, previous);
+    }
+
+    // 여유 공간을 잘라낸 목록 (대량 적재 후 메모리 정리용)
+    PostingList compact() {
+        return length == data.length ? this : new PostingList(Arrays.copyOf(data, length), length, size, lastDocId);
+    }
+
+    private PostingList append(long delta, int frequency, long docId) {
+        int needed = varintSize(delta) + varintSize(frequency);
+        synchronized(this) {
+            if(!extended && length + needed <= data.length) {
+                extended = true;
+                int end = writeVarint(data, writeVarint(data, length, delta), frequency);
+                return new PostingList(data, end, size + 1, docId);
+            }
+        }
+        byte[] grown = Arrays.copyOf(data, Math.max(16, (length + needed) * 3 / 2));
+        int end = writeVarint(grown, writeVarint(grown, length, delta), frequency);
+        return new PostingList(grown, end, size + 1, docId);
+    }
+
+    private static int varintSize(long value) {
+        int bytes = 1;
+        while((value & ~0x7fL) != 0) {
+            value >>>= 7;
+            bytes++;
+        }
+        return bytes;
+    }
+
+    // offset부터 쓰고 끝 위치를 반환
+    private static int writeVarint(byte[] target, int offset, long value) {
+        while((value & ~0x7fL) != 0) {
+            target[offset++] = (byte) ((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        target[offset++] = (byte) value;
+        return offset;
+    }
+
+    void forEach(PostingConsumer consumer) {
+        Cursor cursor = new Cursor();
+        while(cursor.next()) {
+            consumer.accept(cursor.docId, cursor.frequency);
+        }
+    }
+
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(long docId, int frequency);
+    }
+
+    private final class Cursor {
+        private int position;
+        private long docId;
+        private int frequency;
+
+        private boolean next() {
+            if(position >= length) {
+                return false;
+            }
+            docId += readVarint();
+            frequency = (int) readVarint();
+            return true;
+        }
+
+        private long readVarint() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (long) (b & 0x7f) << shift;
+                shift += 7;
+            } while(b < 0);
+            return value;
+        }
+    }
+
+    private static final class Writer {
+        private byte[] buffer;
+        private int length;
+
+        private Writer(int capacity) {
+            this.buffer = new byte[Math.max(capacity, 8)];
+        }
+
+        private void varint(long value) {
+            ensure(10);
+            length = writeVarint(buffer, length, value);
+        }
+
+        private void ensure(int additional) {
+            if(length + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(length + additional, buffer.length * 2));
+            }
+        }
+
+        private PostingList toPostingList(int size, long lastDocId) {
+            return new PostingList(Arrays.copyOf(buffer, length), length, size, lastDocId);
+        }
+    }
+}
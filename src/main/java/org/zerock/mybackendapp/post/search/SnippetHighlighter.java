@@ -0,0 +1,102 @@
+package org.zerock.mybackendapp.post.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 검색어가 처음 나오는 부근을 잘라 일치 부분을 <em>으로 감싼다
+// 본문은 사용자가 쓴 값이므로 HTML 특수문자는 이스케이프한다
+final class SnippetHighlighter {
+
+    // 하이라이트 구간을 찾을 때 본문 앞부분에서 최대 몇 개까지 볼지
+    private static final int MAX_MATCHES = 64;
+
+    private SnippetHighlighter() {
+    }
+
+    // 일치하는 곳이 없으면 null
+    static String highlight(String text, Collection<String> terms, int length) {
+        if(text == null || text.isEmpty() || terms.isEmpty()) {
+            return null;
+        }
+        String lowered = PostTokenizer.lowerCase(text, 0, text.length());
+        List<int[]> matches = findMatches(lowered, terms);
+        if(matches.isEmpty()) {
+            return null;
+        }
+
+        // 첫 일치 지점이 앞쪽 1/4에 오도록 창을 잡는다
+        int first = matches.get(0)[0];
+        int start = Math.max(0, first - length / 4);
+        int end = Math.min(text.length(), start + length);
+        start = Math.max(0, Math.min(start, end - length));
+
+        StringBuilder snippet = new StringBuilder(length + 32);
+        if(start > 0) {
+            snippet.append('…');
+        }
+        int position = start;
+        for(int[] match : matches) {
+            int matchStart = Math.max(match[0], position);
+            int matchEnd = Math.min(match[1], end);
+            if(matchStart >= end) {
+                break;
+            }
+            if(matchEnd <= matchStart) {
+                continue;
+            }
+            escape(text, position, matchStart, snippet);
+            snippet.append("<em>");
+            escape(text, matchStart, matchEnd, snippet);
+            snippet.append("</em>");
+            position = matchEnd;
+        }
+        escape(text, position, end, snippet);
+        if(end < text.length()) {
+            snippet.append('…');
+        }
+        return snippet.toString();
+    }
+
+    // 겹치거나 붙은 구간은 합쳐서 시작 위치순으로 반환
+    private static List<int[]> findMatches(String lowered, Collection<String> terms) {
+        List<int[]> found = new ArrayList<>();
+        for(String term : terms) {
+            if(term.isEmpty()) {
+                continue;
+            }
+            int from = 0;
+            int index;
+            while(found.size() < MAX_MATCHES && (index = lowered.indexOf(term, from)) >= 0) {
+                found.add(new int[]{index, index + term.length()});
+                from = index + term.length();
+            }
+        }
+        found.sort((a, b) -> Integer.compare(a[0], b[0]));
+
+        List<int[]> merged = new ArrayList<>(found.size());
+        for(int[] range : found) {
+            int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if(last != null && range[0] <= last[1]) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.add(range);
+            }
+        }
+        return merged;
+    }
+
+    private static void escape(String text, int from, int to, StringBuilder out) {
+        for(int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch(c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.zerock.mybackendapp.post.search;
+
+import java.util.Arrays;
+
+// 한 게시글의 단어별 빈도 (PostTokenizer의 char 조각을 그대로 받아 센다)
+// 개방 주소법 해시 테이블을 재사용하므로, 같은 단어가 여러 번 나와도 String은 처음 한 번만 만든다
+final class TermCounter implements PostTokenizer.TokenSink {
+
+    private String[] terms = new String[64];
+    private int[] counts = new int[64];
+    private int[] hashes = new int[64];
+    // 들어온 순서대로의 슬롯 (순회/초기화용)
+    private int[] slots = new int[32];
+    private int size;
+    private int weight = 1;
+    private int total;
+
+    // 이후 accept되는 토큰에 곱할 가중치 (제목 가중치 등)
+    TermCounter weight(int weight) {
+        this.weight = weight;
+        return this;
+    }
+
+    @Override
+    public void accept(char[] buffer, int length) {
+        int hash = hash(buffer, length);
+        int mask = terms.length - 1;
+        int slot = hash & mask;
+        while(terms[slot] != null) {
+            if(hashes[slot] == hash && equals(terms[slot], buffer, length)) {
+                counts[slot] += weight;
+                total += weight;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        terms[slot] = new String(buffer, 0, length);
+        counts[slot] = weight;
+        hashes[slot] = hash;
+        total += weight;
+        if(size == slots.length) {
+            slots = Arrays.copyOf(slots, size * 2);
+        }
+        slots[size++] = slot;
+        if(size * 2 > terms.length) {
+            grow();
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    // 가중치를 반영한 전체 단어 수 (BM25 문서 길이)
+    int total() {
+        return total;
+    }
+
+    String term(int index) {
+        return terms[slots[index]];
+    }
+
+    int count(int index) {
+        return counts[slots[index]];
+    }
+
+    boolean contains(String term) {
+        int hash = term.hashCode();
+        int mask = terms.length - 1;
+        int slot = hash & mask;
+        while(terms[slot] != null) {
+            if(hashes[slot] == hash && terms[slot].equals(term)) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    TermCounter clear() {
+        for(int i = 0; i < size; i++) {
+            terms[slots[i]] = null;
+        }
+        size = 0;
+        total = 0;
+        weight = 1;
+        return this;
+    }
+
+    private void grow() {
+        String[] oldTerms = terms;
+        int[] oldCounts = counts;
+        int[] oldHashes = hashes;
+        terms = new String[oldTerms.length * 2];
+        counts = new int[terms.length];
+        hashes = new int[terms.length];
+        int mask = terms.length - 1;
+        for(int i = 0; i < size; i++) {
+            int oldSlot = slots[i];
+            int slot = oldHashes[oldSlot] & mask;
+            while(terms[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            terms[slot] = oldTerms[oldSlot];
+            counts[slot] = oldCounts[oldSlot];
+            hashes[slot] = oldHashes[oldSlot];
+            slots[i] = slot;
+        }
+    }
+
+    // String.hashCode와 같은 값 (contains에서 String으로 찾을 수 있도록)
+    private static int hash(char[] buffer, int length) {
+        int hash = 0;
+        for(int i = 0; i < length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        return hash;
+    }
+
+    private static boolean equals(String term, char[] buffer, int length) {
+        if(term.length() != length) {
+            return false;
+        }
+        for(int i = 0; i < length; i++) {
+            if(term.charAt(i) != buffer[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,309 @@
+package org.zerock.mybackendapp.post.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 정규화한 제목(소문자, 반각, 공백 하나로)의 radix 트라이
+// 노드마다 그 아래 제목 중 최신 topSize개를 들고 있어서, 접두어 검색은 접두어 길이만큼 내려가 그 목록을 자르면 끝난다
+// 추가는 지나는 노드의 목록에 끼워 넣기만 하고, 삭제는 그 게시글이 들어 있던 노드만 자식 목록으로 다시 계산한다
+// 스레드 안전하지 않다 (PostTitleSuggester가 읽기/쓰기 잠금으로 감싼다)
+final class TitleTrie {
+
+    private static final Comparator<PostTitle> RECENT_FIRST = Comparator
+            .comparing(PostTitle::createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(PostTitle::id)
+            .reversed();
+    private static final char[] NO_CHARS = new char[0];
+    private static final Node[] NO_NODES = new Node[0];
+    private static final PostTitle[] NO_TITLES = new PostTitle[0];
+
+    private final int topSize;
+    private final Node root = new Node(NO_CHARS);
+    private final Map<Long, PostTitle> titles = new HashMap<>();
+    private int nodeCount = 1;
+
+    TitleTrie(int topSize) {
+        this.topSize = topSize;
+    }
+
+    // 같은 ID가 있으면 바꾼다
+    void put(PostTitle post) {
+        remove(post.id());
+        String key = normalize(post.title(), false);
+        if(key.isEmpty()) {
+            return;
+        }
+        titles.put(post.id(), post);
+
+        Node node = root;
+        node.offer(post, topSize);
+        int position = 0;
+        while(position < key.length()) {
+            int index = node.childIndex(key.charAt(position));
+            Node child;
+            if(index < 0) {
+                child = new Node(key.substring(position).toCharArray());
+                node.addChild(-index - 1, child);
+                nodeCount++;
+            } else {
+                child = node.children[index];
+                int common = commonPrefix(child.label, key, position);
+                if(common < child.label.length) {
+                    child = node.split(index, common);
+                    nodeCount++;
+                }
+            }
+            child.offer(post, topSize);
+            position += child.label.length;
+            node = child;
+        }
+        node.here = append(node.here, post);
+    }
+
+    boolean remove(Long id) {
+        PostTitle post = titles.remove(id);
+        if(post == null) {
+            return false;
+        }
+        String key = normalize(post.title(), false);
+
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int position = 0;
+        while(position < key.length()) {
+            node = node.children[node.childIndex(key.charAt(position))];
+            path.add(node);
+            position += node.label.length;
+        }
+        node.here = without(node.here, id);
+
+        // 자식 목록에서 빠진 게시글은 조상 목록에도 없으므로 거기서 멈춘다
+        for(int i = path.size() - 1; i >= 0 && path.get(i).topContains(id); i--) {
+            path.get(i).recomputeTop(topSize);
+        }
+
+        // 빈 노드를 떼어 내고, 제목이 끝나지 않는 외자식 노드는 자식과 합친다
+        for(int i = path.size() - 1; i > 0; i--) {
+            Node current = path.get(i);
+            if(current.here.length > 0) {
+                break;
+            }
+            if(current.children.length == 0) {
+                path.get(i - 1).removeChild(current.label[0]);
+                nodeCount--;
+                continue;
+            }
+            if(current.children.length == 1) {
+                current.mergeWithOnlyChild();
+                nodeCount--;
+            }
+            break;
+        }
+        return true;
+    }
+
+    PostTitle get(Long id) {
+        return titles.get(id);
+    }
+
+    // 정규화한 제목이 prefix로 시작하는 게시글 최신순 limit개 (limit은 topSize까지)
+    List<PostTitle> suggest(String prefix, int limit) {
+        String key = normalize(prefix, true);
+        if(key.isEmpty()) {
+            return List.of();
+        }
+        Node node = root;
+        int position = 0;
+        while(position < key.length()) {
+            int index = node.childIndex(key.charAt(position));
+            if(index < 0) {
+                return List.of();
+            }
+            Node child = node.children[index];
+            int common = commonPrefix(child.label, key, position);
+            // 접두어가 간선 중간에서 끝나도 그 아래 제목은 모두 일치한다
+            if(position + common == key.length()) {
+                node = child;
+                break;
+            }
+            if(common < child.label.length) {
+                return List.of();
+            }
+            position += common;
+            node = child;
+        }
+        return List.of(Arrays.copyOf(node.top, Math.min(limit, node.top.length)));
+    }
+
+    int size() {
+        return titles.size();
+    }
+
+    // 들어 있는 제목 전체 (복사본)
+    List<PostTitle> titles() {
+        return new ArrayList<>(titles.values());
+    }
+
+    int nodeCount() {
+        return nodeCount;
+    }
+
+    // 소문자/반각으로 바꾸고 공백은 하나로 줄인다. 앞 공백은 버리고, 뒤 공백은 접두어일 때만 하나 남긴다 ("spring " -> "spring boot"만)
+    static String normalize(String text, boolean keepTrailingSpace) {
+        if(text == null) {
+            return "";
+        }
+        String lowered = PostTokenizer.lowerCase(text, 0, text.length());
+        StringBuilder normalized = new StringBuilder(lowered.length());
+        boolean space = false;
+        for(int i = 0; i < lowered.length(); i++) {
+            char c = lowered.charAt(i);
+            if(Character.isWhitespace(c)) {
+                space = normalized.length() > 0;
+                continue;
+            }
+            if(space) {
+                normalized.append(' ');
+                space = false;
+            }
+            normalized.append(c);
+        }
+        if(space && keepTrailingSpace) {
+            normalized.append(' ');
+        }
+        return normalized.toString();
+    }
+
+    private static int commonPrefix(char[] label, String key, int from) {
+        int max = Math.min(label.length, key.length() - from);
+        int i = 0;
+        while(i < max && label[i] == key.charAt(from + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static PostTitle[] append(PostTitle[] array, PostTitle post) {
+        PostTitle[] grown = Arrays.copyOf(array, array.length + 1);
+        grown[array.length] = post;
+        return grown;
+    }
+
+    private static PostTitle[] without(PostTitle[] array, Long id) {
+        for(int i = 0; i < array.length; i++) {
+            if(array[i].id().equals(id)) {
+                PostTitle[] shrunk = new PostTitle[array.length - 1];
+                System.arraycopy(array, 0, shrunk, 0, i);
+                System.arraycopy(array, i + 1, shrunk, i, array.length - i - 1);
+                return shrunk.length == 0 ? NO_TITLES : shrunk;
+            }
+        }
+        return array;
+    }
+
+    private static final class Node {
+        private char[] label;
+        // 자식은 간선 첫 글자 순으로 정렬 (이진 탐색)
+        private char[] firstChars = NO_CHARS;
+        private Node[] children = NO_NODES;
+        // 정규화한 제목이 이 노드에서 끝나는 게시글
+        private PostTitle[] here = NO_TITLES;
+        // 이 노드 아래 전체에서 최신순 topSize개
+        private PostTitle[] top = NO_TITLES;
+
+        private Node(char[] label) {
+            this.label = label;
+        }
+
+        private int childIndex(char c) {
+            return Arrays.binarySearch(firstChars, c);
+        }
+
+        private void addChild(int insertAt, Node child) {
+            char[] chars = new char[firstChars.length + 1];
+            Node[] nodes = new Node[children.length + 1];
+            System.arraycopy(firstChars, 0, chars, 0, insertAt);
+            System.arraycopy(children, 0, nodes, 0, insertAt);
+            chars[insertAt] = child.label[0];
+            nodes[insertAt] = child;
+            System.arraycopy(firstChars, insertAt, chars, insertAt + 1, firstChars.length - insertAt);
+            System.arraycopy(children, insertAt, nodes, insertAt + 1, children.length - insertAt);
+            firstChars = chars;
+            children = nodes;
+        }
+
+        private void removeChild(char first) {
+            int index = childIndex(first);
+            char[] chars = new char[firstChars.length - 1];
+            Node[] nodes = new Node[children.length - 1];
+            System.arraycopy(firstChars, 0, chars, 0, index);
+            System.arraycopy(children, 0, nodes, 0, index);
+            System.arraycopy(firstChars, index + 1, chars, index, chars.length - index);
+            System.arraycopy(children, index + 1, nodes, index, nodes.length - index);
+            firstChars = chars.length == 0 ? NO_CHARS : chars;
+            children = nodes.length == 0 ? NO_NODES : nodes;
+        }
+
+        // children[index]의 간선을 common 글자에서 나누고 중간 노드를 반환
+        private Node split(int index, int common) {
+            Node child = children[index];
+            Node middle = new Node(Arrays.copyOf(child.label, common));
+            child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+            middle.firstChars = new char[]{child.label[0]};
+            middle.children = new Node[]{child};
+            middle.top = child.top.clone();
+            children[index] = middle;
+            return middle;
+        }
+
+        private void mergeWithOnlyChild() {
+            Node child = children[0];
+            char[] merged = Arrays.copyOf(label, label.length + child.label.length);
+            System.arraycopy(child.label, 0, merged, label.length, child.label.length);
+            label = merged;
+            firstChars = child.firstChars;
+            children = child.children;
+            here = child.here;
+            top = child.top;
+        }
+
+        // 최신순 자리에 끼워 넣고 topSize를 넘으면 가장 오래된 것을 버린다
+        private void offer(PostTitle post, int topSize) {
+            int at = Arrays.binarySearch(top, post, RECENT_FIRST);
+            int insertAt = at < 0 ? -at - 1 : at;
+            if(insertAt >= topSize) {
+                return;
+            }
+            int length = Math.min(top.length + 1, topSize);
+            PostTitle[] next = new PostTitle[length];
+            System.arraycopy(top, 0, next, 0, insertAt);
+            next[insertAt] = post;
+            System.arraycopy(top, insertAt, next, insertAt + 1, length - insertAt - 1);
+            top = next;
+        }
+
+        private boolean topContains(Long id) {
+            for(PostTitle post : top) {
+                if(post.id().equals(id)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void recomputeTop(int topSize) {
+            List<PostTitle> candidates = new ArrayList<>(Arrays.asList(here));
+            for(Node child : children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(RECENT_FIRST);
+            top = candidates.subList(0, Math.min(topSize, candidates.size())).toArray(NO_TITLES);
+        }
+    }
+}
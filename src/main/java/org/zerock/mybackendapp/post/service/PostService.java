@@ -2,10 +2,24 @@ package org.zerock.mybackendapp.post.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.zerock.mybackendapp.post.domain.Post;
+import org.zerock.mybackendapp.post.dto.CursorPage;
+import org.zerock.mybackendapp.post.dto.PostCursor;
+import org.zerock.mybackendapp.post.dto.PostSearchHit;
+import org.zerock.mybackendapp.post.dto.PostSearchResult;
+import org.zerock.mybackendapp.post.dto.PostSuggestion;
+import org.zerock.mybackendapp.post.dto.PostSummary;
 import org.zerock.mybackendapp.post.repository.PostRepository;
+import org.zerock.mybackendapp.post.search.PostChangeEvent;
+import org.zerock.mybackendapp.post.search.PostDocument;
+import org.zerock.mybackendapp.post.search.PostSearchEngine;
+import org.zerock.mybackendapp.post.search.PostTitleSuggester;
 import org.zerock.mybackendapp.user.domain.User;
 import org.zerock.mybackendapp.user.service.UserService;
 
@@ -18,8 +32,19 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class PostService {
 
+    static final int DEFAULT_PAGE_SIZE = 20;
+    // 한 번에 내려주는 최대 게시글 수 (더 큰 limit은 이 값으로 줄인다)
+    static final int MAX_PAGE_SIZE = 100;
+    // 목록의 excerpt 길이 (글자 수)
+    static final int EXCERPT_LENGTH = 100;
+    // 검색 결과에서 건너뛸 수 있는 최대 건수
+    static final int MAX_SEARCH_OFFSET = 1000;
+
     private final PostRepository postRepository;
     private final UserService userService;
+    private final PostSearchEngine postSearchEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostTitleSuggester postTitleSuggester;
 
     @Transactional
     public Post createPost(String title, String content, Long authorId) {
@@ -32,22 +57,62 @@ public class PostService {
         //도메인 객체 생성 및 저장
         Post post = Post.of(title, content, author);
         Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(PostChangeEvent.saved(PostDocument.from(savedPost)));
 
         log.info("게시글 생성 완료: id={}, title={}, author={}",
                 savedPost.getId(), savedPost.getTitle(), author.getUsername());
         return savedPost;
     }
 
-    public List<Post> getAllPosts() {
-        log.info("모든 게시글 조회 요청");
-        List<Post> posts = postRepository.findAllByOrderByCreatedAtDesc();
-        log.info("게시글 조회 완료: {} 개", posts.size());
-        return posts;
+    // 최신순 게시글 페이지. cursor가 없으면 첫 페이지
+    // 목록에는 본문을 싣지 않고, excerpt=true일 때만 앞부분 EXCERPT_LENGTH 글자를 함께 내려준다
+    public CursorPage<PostSummary> getPosts(Integer limit, String cursor, boolean excerpt) {
+        int pageSize = pageSize(limit);
+        log.info("게시글 페이지 조회 요청: limit={}, cursor={}, excerpt={}", pageSize, cursor, excerpt);
+
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 읽는다 (count 쿼리 없음)
+        Pageable pageable = PageRequest.ofSize(pageSize + 1);
+        int excerptLength = excerptLength(excerpt);
+        List<PostSummary> posts;
+        if(cursor == null || cursor.isBlank()) {
+            posts = postRepository.findFirstPage(excerptLength, pageable);
+        } else {
+            PostCursor position = PostCursor.decode(cursor);
+            posts = postRepository.findPageBefore(position.createdAt(), position.id(), excerptLength, pageable);
+        }
+
+        CursorPage<PostSummary> page = toPage(posts, pageSize);
+        log.info("게시글 페이지 조회 완료: {} 개, 다음 페이지={}", page.items().size(), page.nextCursor() != null);
+        return page;
+    }
+
+    // pageSize + 1 개를 읽었으면 다음 페이지가 있으므로 마지막 항목 위치를 커서로 만든다
+    private static CursorPage<PostSummary> toPage(List<PostSummary> posts, int pageSize) {
+        if(posts.size() <= pageSize) {
+            return new CursorPage<>(posts, null);
+        }
+        List<PostSummary> items = posts.subList(0, pageSize);
+        PostSummary last = items.get(pageSize - 1);
+        return new CursorPage<>(items, new PostCursor(last.createdAt(), last.id()).encode());
+    }
+
+    private static int excerptLength(boolean excerpt) {
+        return excerpt ? EXCERPT_LENGTH : 0;
+    }
+
+    private static int pageSize(Integer limit) {
+        if(limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if(limit < 1) {
+            throw new IllegalArgumentException("limit은 1 이상이어야 합니다.");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
     }
 
     public Optional<Post> getPostById(Long id){
         log.info("ID로 게시글 조회: {}", id);
-        Optional<Post> post = postRepository.findById(id);
+        Optional<Post> post = postRepository.findWithAuthorById(id);
         if(post.isPresent()) {
             log.info("게시글 조회 성공: {}", post.get());
         } else {
@@ -57,31 +122,85 @@ public class PostService {
         return post;
     }
 
-    public List<Post> getPostsByAuthor(Long authorId) {
-        log.info("작성자별 게시글 조회: authorId={}", authorId);
+    // 작성자별 최신순 게시글 페이지
+    // 작성자를 먼저 조회하지 않고 author_id로 바로 조회하므로, 없는 작성자는 빈 페이지가 된다
+    public CursorPage<PostSummary> getPostsByAuthor(Long authorId, Integer limit, String cursor, boolean excerpt) {
+        int pageSize = pageSize(limit);
+        log.info("작성자별 게시글 조회: authorId={}, limit={}, cursor={}, excerpt={}", authorId, pageSize, cursor, excerpt);
+
+        Pageable pageable = PageRequest.ofSize(pageSize + 1);
+        int excerptLength = excerptLength(excerpt);
+        List<PostSummary> posts;
+        if(cursor == null || cursor.isBlank()) {
+            posts = postRepository.findFirstPageByAuthorId(authorId, excerptLength, pageable);
+        } else {
+            PostCursor position = PostCursor.decode(cursor);
+            posts = postRepository.findPageByAuthorIdBefore(
+                    authorId, position.createdAt(), position.id(), excerptLength, pageable);
+        }
 
-        User author = userService.getUserById(authorId)
-                .orElseThrow(() -> new IllegalArgumentException("작성자를 찾을 수 없습니다: " + authorId));
+        CursorPage<PostSummary> page = toPage(posts, pageSize);
+        log.info("작성자 {}의 게시글 조회 완료: {} 개, 다음 페이지={}", authorId, page.items().size(), page.nextCursor() != null);
+        return page;
+    }
 
-        List<Post> posts = postRepository.findByAuthorOrderByCreatedAtDesc(author);
-        log.info("작성자 {}의 게시글 조회 완료: {} 개", author.getUsername(), posts.size());
+    // 제목/본문 전문 검색 (관련도순, offset 페이지)
+    // 관련도순은 커서로 이어 읽기 어려워 offset을 쓰되, 깊은 페이지는 비용만 크고 쓸모가 적어 MAX_SEARCH_OFFSET까지만 허용
+    // 트랜잭션은 DB 검색 엔진이 검색 한 번 동안만 연다 (메모리 엔진과 검색어 교정은 커넥션을 잡지 않는다)
+    // NOT_SUPPORTED가 아닌 SUPPORTS라 호출자의 트랜잭션이 있으면 그 안에서 아직 커밋 전인 게시글도 찾는다
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PostSearchResult searchPosts(String keyword, Integer limit, Integer offset, boolean excerpt) {
+        if(keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("검색어는 필수입니다.");
+        }
+        int pageSize = pageSize(limit);
+        int start = offset == null ? 0 : offset;
+        if(start < 0 || start > MAX_SEARCH_OFFSET) {
+            throw new IllegalArgumentException("offset은 0 이상 " + MAX_SEARCH_OFFSET + " 이하여야 합니다.");
+        }
+        log.info("게시글 검색: keyword={}, limit={}, offset={}", keyword, pageSize, start);
+
+        String searched = keyword.trim();
+        // 다음 offset이 한도를 넘으면 이어 읽을 수 없으므로 마지막 페이지로 보고 한 건 더 읽지 않는다
+        int nextOffset = start + pageSize;
+        int fetchSize = nextOffset <= MAX_SEARCH_OFFSET ? pageSize + 1 : pageSize;
+        List<PostSearchHit> hits = postSearchEngine.search(searched, excerptLength(excerpt), fetchSize, start);
+        String correctedKeyword = null;
+        // 결과가 없으면 오타를 고친 검색어로 한 번만 더 찾는다 (사용자가 다시 입력하며 검색을 반복하지 않도록)
+        if(hits.isEmpty()) {
+            Optional<String> corrected = postSearchEngine.correct(searched);
+            if(corrected.isPresent()) {
+                correctedKeyword = corrected.get();
+                log.info("검색어 교정: {} -> {}", searched, correctedKeyword);
+                hits = postSearchEngine.search(correctedKeyword, excerptLength(excerpt), fetchSize, start);
+            }
+        }
+        PostSearchResult result = hits.size() > pageSize
+                ? new PostSearchResult(hits.subList(0, pageSize), nextOffset, correctedKeyword)
+                : new PostSearchResult(hits, null, correctedKeyword);
 
-        return posts;
+        log.info("검색 결과: {} 개, 다음 offset={}", result.items().size(), result.nextOffset());
+        return result;
     }
 
-    public List<Post> searchPostsByTitle(String keyword) {
-        log.info("제목으로 게시글 검색: keyword={}", keyword);
-        List<Post> posts = postRepository.findByTitleContaining(keyword);
-        log.info("검색 결과: {} 개", posts.size());
-        return posts;
+    // 제목 자동완성 (최신순). 입력할 때마다 불리므로 DB 없이 메모리 트라이에서만 찾는다 (트랜잭션/커넥션도 잡지 않는다)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PostSuggestion> suggestTitles(String prefix, Integer limit) {
+        if(limit != null && limit < 1) {
+            throw new IllegalArgumentException("limit은 1 이상이어야 합니다.");
+        }
+        int size = limit == null ? PostTitleSuggester.MAX_SUGGESTIONS : Math.min(limit, PostTitleSuggester.MAX_SUGGESTIONS);
+        List<PostSuggestion> suggestions = postTitleSuggester.suggest(prefix, size);
+        log.debug("제목 자동완성: prefix={}, {} 개", prefix, suggestions.size());
+        return suggestions;
     }
 
     @Transactional
     public Post updatePost(Long postId, String title, String content, Long userId) {
         log.info("게시글 업데이트 요청: postId={}, userId={}", postId, userId);
 
-        // 게시글 조회
-        Post post = postRepository.findById(postId)
+        // 게시글 조회 (수정된 게시글을 작성자와 함께 응답하므로 작성자도 함께 로딩)
+        Post post = postRepository.findWithAuthorById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다: " + postId));
 
         //  사용자 조회
@@ -97,7 +216,8 @@ public class PostService {
         post.updateTitle(title);
         post.updateContent(content);
 
-        Post updatedPost = postRepository.save(post);
+        Post updatedPost = postRepository.saveAndFlush(post);
+        eventPublisher.publishEvent(PostChangeEvent.saved(PostDocument.from(updatedPost)));
         log.info("게시글 업데이트 완료: id={}, title={}", updatedPost.getId(), updatedPost.getTitle());
 
         return updatedPost;
@@ -122,6 +242,7 @@ public class PostService {
         }
 
         postRepository.deleteById(postId);
+        eventPublisher.publishEvent(PostChangeEvent.deleted(postId));
         log.info("게시글 삭제 완료: postId={}", postId);
     }
 }
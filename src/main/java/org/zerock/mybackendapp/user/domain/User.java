@@ -6,12 +6,18 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.zerock.mybackendapp.user.service.UserSnapshotInvalidationListener;
 
 import java.time.LocalDateTime;
 import java.util.regex.Pattern;
 
+// unique 인덱스의 실제 DDL은 schema.sql이 관리한다 (기존 데이터 중복 확인, 예전 자동 이름 제약 제거 포함)
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_username", columnNames = "username"),
+        @UniqueConstraint(name = "uk_users_email", columnNames = "email")
+})
+@EntityListeners(UserSnapshotInvalidationListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Slf4j
@@ -22,7 +28,7 @@ public class User {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 50)
+    @Column(nullable = false, length = 50)
     private String username;
 
     @Column(nullable = false, length = 100)
@@ -0,0 +1,8 @@
+package org.zerock.mybackendapp.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// 사용자명/이메일 사용 가능 여부. 요청하지 않은 항목은 null이라 응답에서 빠진다
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record Availability(Boolean username, Boolean email) {
+}
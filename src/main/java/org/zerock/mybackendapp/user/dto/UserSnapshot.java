@@ -0,0 +1,25 @@
+package org.zerock.mybackendapp.user.dto;
+
+import org.zerock.mybackendapp.user.domain.User;
+
+import java.time.LocalDateTime;
+
+// 캐시에 보관하는 사용자 정보의 불변 스냅샷 (패스워드 해시는 담지 않음)
+public record UserSnapshot(Long id,
+                           String username,
+                           String email,
+                           User.UserRole role,
+                           LocalDateTime createdAt,
+                           LocalDateTime updatedAt) {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getRole(),
+                user.getCreatedAt(),
+                user.getUpdatedAt()
+        );
+    }
+}
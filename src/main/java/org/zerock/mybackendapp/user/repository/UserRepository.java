@@ -1,11 +1,15 @@
 package org.zerock.mybackendapp.user.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.zerock.mybackendapp.user.domain.User;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +26,40 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     List<User> findByUsernameContaining(String username);
 
+    // 가입 가능 여부 필터 적재용 (엔티티 대신 컬럼 하나만 읽는다)
+    @Query("select u.username from User u")
+    List<String> findAllUsernames();
+
+    @Query("select u.email from User u")
+    List<String> findAllEmails();
+
+    // 로그인 시 cost 재해싱 저장용. 해시를 만드는 동안 패스워드가 바뀌었으면(:oldPassword 불일치) 덮어쓰지 않는다
+    // 사용자 정보 변경이 아니므로 updated_at은 그대로 둔다 (스냅샷 캐시도 패스워드를 담지 않아 무효화할 필요 없음)
+    @Modifying
+    @Transactional
+    @Query("update User u set u.password = :newPassword where u.id = :id and u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    // username 또는 email이 이미 있으면 아무것도 넣지 않고 빈 결과 (unique 제약 위반 예외로 트랜잭션이 중단되지 않는다)
+    @Transactional
+    @Query(value = """
+            INSERT INTO users (username, email, password, role, created_at, updated_at)
+            VALUES (:username, :email, :password, :role, :now, :now)
+            ON CONFLICT DO NOTHING
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<User> insertIfAbsent(@Param("username") String username,
+                                  @Param("email") String email,
+                                  @Param("password") String password,
+                                  @Param("role") String role,
+                                  @Param("now") LocalDateTime now);
+
+    // 네이티브 INSERT라 @PrePersist가 실행되지 않으므로 생성/수정 시각을 직접 넘긴다
+    default Optional<User> insertIfAbsent(User user) {
+        return insertIfAbsent(user.getUsername(), user.getEmail(), user.getPassword(), user.getRole().name(),
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
+
 }
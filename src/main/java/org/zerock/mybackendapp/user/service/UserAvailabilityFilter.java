@@ -0,0 +1,126 @@
+package org.zerock.mybackendapp.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.zerock.mybackendapp.common.util.BloomFilter;
+import org.zerock.mybackendapp.user.domain.User;
+import org.zerock.mybackendapp.user.repository.UserRepository;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+// 가입 폼의 사용자명/이메일 사용 가능 여부 확인
+// 이미 쓰이는 값을 Bloom filter에 담아 두고, filter에 없으면(대부분의 경우) DB 조회 없이 바로 사용 가능으로 답한다
+// filter에 있다고 나오면 오탐일 수 있으므로 그때만 DB로 확인한다
+// 다른 노드에서 가입한 값은 주기적 재적재 전까지 보이지 않으므로 응답은 참고용이고, 최종 판단은 가입 INSERT의 unique 제약이 한다
+@Component
+@Slf4j
+public class UserAvailabilityFilter {
+
+    private final UserRepository userRepository;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final Counter filterRejected;
+    private final Counter databaseChecked;
+
+    private volatile Filters filters;
+    // 재적재 중에 가입한 값이 새 filter에서 빠지지 않도록 적재 중인 filter에도 함께 넣는다
+    private volatile Filters rebuilding;
+
+    public UserAvailabilityFilter(UserRepository userRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${user.availability.expected-insertions:100000}") int expectedInsertions,
+                                  @Value("${user.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filters = Filters.create(expectedInsertions, falsePositiveRate);
+
+        this.filterRejected = Counter.builder("user.availability.checks")
+                .tag("source", "filter")
+                .description("Bloom filter만으로 답한 가입 가능 여부 확인 수")
+                .register(meterRegistry);
+        this.databaseChecked = Counter.builder("user.availability.checks")
+                .tag("source", "database")
+                .description("DB 조회로 답한 가입 가능 여부 확인 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void load() {
+        rebuild();
+    }
+
+    // 다른 노드에서 가입한 값을 반영하고, 삭제/변경으로 더 이상 쓰이지 않는 값을 filter에서 걷어낸다
+    @Scheduled(initialDelayString = "${user.availability.rebuild-interval:10m}",
+            fixedDelayString = "${user.availability.rebuild-interval:10m}")
+    public void rebuild() {
+        List<String> usernames = null;
+        List<String> emails = null;
+        try {
+            Filters next = Filters.create(expectedInsertions, falsePositiveRate);
+            rebuilding = next;
+
+            usernames = userRepository.findAllUsernames();
+            emails = userRepository.findAllEmails();
+
+            // 예상보다 많으면 오탐률이 올라가므로 실제 수에 맞춰 다시 만든다
+            int actual = Math.max(usernames.size(), emails.size());
+            if(actual * 2 > expectedInsertions) {
+                next = Filters.create(actual * 2, falsePositiveRate);
+                rebuilding = next;
+            }
+            usernames.forEach(next.usernames()::put);
+            emails.forEach(next.emails()::put);
+
+            filters = next;
+        } finally {
+            rebuilding = null;
+        }
+        log.info("=== 가입 가능 여부 필터 적재: 사용자명 {}건, 이메일 {}건 ===", usernames.size(), emails.size());
+    }
+
+    public boolean isUsernameAvailable(String username) {
+        return isAvailable(username, filters.usernames(), userRepository::existsByUsername);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        return isAvailable(email, filters.emails(), userRepository::existsByEmail);
+    }
+
+    // 가입이 성공한 직후 호출 (롤백되더라도 filter에 남은 값은 오탐으로 처리되어 DB 확인으로 넘어갈 뿐이다)
+    public void markTaken(User user) {
+        filters.put(user);
+        Filters next = rebuilding;
+        if(next != null) {
+            next.put(user);
+        }
+    }
+
+    private boolean isAvailable(String value, BloomFilter filter, Predicate<String> existsInDatabase) {
+        if(!filter.mightContain(value)) {
+            filterRejected.increment();
+            return true;
+        }
+        databaseChecked.increment();
+        return !existsInDatabase.test(value);
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {
+
+        static Filters create(int expectedInsertions, double falsePositiveRate) {
+            return new Filters(BloomFilter.create(expectedInsertions, falsePositiveRate),
+                    BloomFilter.create(expectedInsertions, falsePositiveRate));
+        }
+
+        void put(User user) {
+            usernames.put(user.getUsername());
+            emails.put(user.getEmail());
+        }
+    }
+}
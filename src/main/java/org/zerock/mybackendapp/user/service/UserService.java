@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.zerock.mybackendapp.user.domain.User;
+import org.zerock.mybackendapp.user.dto.Availability;
 import org.zerock.mybackendapp.user.repository.UserRepository;
 
 import java.util.List;
@@ -17,31 +18,47 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserAvailabilityFilter userAvailabilityFilter;
 
     @Transactional
     public User createUser(String username, String email) {
         log.info("사용자 생성 요청: username={}, email={}", username, email);
 
-        // 중복 검증
-        if(userRepository.existsByUsername(username)) {
-            log.warn("이미 존재하는 사용자명: {}", username);
-            throw new IllegalArgumentException("이미 존재하는 사용자명입니다: " + username);
-        }
-
-        if(userRepository.existsByEmail(email)) {
-            log.warn("이미 존재하는 이메일: {}", email);
-            throw new IllegalArgumentException("이미 존재하는 이메일입니다: " + email);
-        }
-
-        // 도메인 객체 생성 및 저장
+        // 도메인 객체 생성 및 저장 (중복은 unique 제약으로 검증)
         User user = User.of(username, email);
-        User savedUser = userRepository.save(user);
+        User savedUser = saveNewUser(user);
 
         log.info("사용자 생성 완료: id={}, username={}", savedUser.getId(), savedUser.getUsername());
 
         return savedUser;
     }
 
+    // 새 사용자를 INSERT 한 번으로 저장
+    // 사전 exists 조회 없이 users의 username/email unique 제약에 맡기므로 동시 가입에서도 한 건만 성공한다
+    // 충돌 시 예외 대신 빈 결과를 받으므로 트랜잭션이 중단되지 않고, 실패한 경우에만 어느 필드가 겹쳤는지 조회한다
+    @Transactional
+    public User saveNewUser(User user) {
+        User savedUser = userRepository.insertIfAbsent(user)
+                .orElseThrow(() -> {
+                    if(userRepository.existsByUsername(user.getUsername())) {
+                        log.warn("이미 존재하는 사용자명: {}", user.getUsername());
+                        return new IllegalArgumentException("이미 존재하는 사용자명입니다: " + user.getUsername());
+                    }
+                    log.warn("이미 존재하는 이메일: {}", user.getEmail());
+                    return new IllegalArgumentException("이미 존재하는 이메일입니다: " + user.getEmail());
+                });
+        userAvailabilityFilter.markTaken(savedUser);
+        return savedUser;
+    }
+
+    // 가입 폼용 사용 가능 여부 확인. 값이 null이면 확인하지 않고 null
+    public Availability checkAvailability(String username, String email) {
+        Boolean usernameAvailable = username != null ? userAvailabilityFilter.isUsernameAvailable(username) : null;
+        Boolean emailAvailable = email != null ? userAvailabilityFilter.isEmailAvailable(email) : null;
+        log.debug("가입 가능 여부 확인: username={}({}), email={}({})", username, usernameAvailable, email, emailAvailable);
+        return new Availability(usernameAvailable, emailAvailable);
+    }
+
     public List<User> getAllUsers() {
         log.info("모든 사용자 조회 요청");
         List<User> users = userRepository.findAll();
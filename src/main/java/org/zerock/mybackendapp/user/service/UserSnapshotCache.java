@@ -0,0 +1,82 @@
+package org.zerock.mybackendapp.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.zerock.mybackendapp.user.domain.User;
+import org.zerock.mybackendapp.user.dto.UserSnapshot;
+import org.zerock.mybackendapp.user.repository.UserRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 인증 API에서 반복 조회되는 사용자 정보를 id, username 두 키로 캐싱
+// 사용자 엔티티가 수정/삭제되면 UserSnapshotInvalidationListener가 무효화한다
+@Component
+@Slf4j
+public class UserSnapshotCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserSnapshot> byId;
+    private final Cache<String, UserSnapshot> byUsername;
+
+    public UserSnapshotCache(UserRepository userRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${user.snapshot-cache.maximum-size:10000}") long maximumSize,
+                             @Value("${user.snapshot-cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.byUsername = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "users.snapshots.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, byUsername, "users.snapshots.by-username");
+
+        log.info("=== 사용자 스냅샷 캐시 초기화: 최대 크기={}, TTL={} ===", maximumSize, ttl);
+    }
+
+    // 조회 결과가 없으면 캐싱하지 않는다 (null 반환)
+    // 다른 키 캐시는 DB에서 적재할 때만 채우고, 적중한 조회는 아무것도 쓰지 않는다
+    public Optional<UserSnapshot> getById(Long id) {
+        UserSnapshot snapshot = byId.get(id, key -> userRepository.findById(key)
+                .map(UserSnapshot::from)
+                .map(loaded -> crossFill(byUsername, loaded.username(), loaded))
+                .orElse(null));
+        return Optional.ofNullable(snapshot);
+    }
+
+    public Optional<UserSnapshot> getByUsername(String username) {
+        UserSnapshot snapshot = byUsername.get(username, key -> userRepository.findByUsername(key)
+                .map(UserSnapshot::from)
+                .map(loaded -> crossFill(byId, loaded.id(), loaded))
+                .orElse(null));
+        return Optional.ofNullable(snapshot);
+    }
+
+    // 이미 들어 있는 값은 덮어쓰지 않는다
+    private static <K> UserSnapshot crossFill(Cache<K, UserSnapshot> cache, K key, UserSnapshot snapshot) {
+        cache.asMap().putIfAbsent(key, snapshot);
+        return snapshot;
+    }
+
+    public void invalidate(User user) {
+        log.info("사용자 스냅샷 무효화: id={}, username={}", user.getId(), user.getUsername());
+        if(user.getId() != null) {
+            byId.invalidate(user.getId());
+        }
+        if(user.getUsername() != null) {
+            byUsername.invalidate(user.getUsername());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.zerock.mybackendapp.user.service;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.zerock.mybackendapp.user.domain.User;
+
+// User 엔티티 변경(이메일, 패스워드, 역할 등)이 DB에 반영되면 스냅샷 캐시를 무효화하는 JPA 엔티티 리스너
+// Hibernate가 SpringBeanContainer를 통해 생성하므로 생성자 주입을 받을 수 있다
+@RequiredArgsConstructor
+@Slf4j
+public class UserSnapshotInvalidationListener {
+
+    // 캐시 빈이 없는 슬라이스 테스트(@DataJpaTest)에서도 리스너가 생성되도록 ObjectProvider 사용
+    private final ObjectProvider<UserSnapshotCache> userSnapshotCacheProvider;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        UserSnapshotCache userSnapshotCache = userSnapshotCacheProvider.getIfAvailable();
+        if(userSnapshotCache == null) {
+            return;
+        }
+
+        userSnapshotCache.invalidate(user);
+
+        // 커밋 전에 다른 요청이 이전 값을 다시 캐싱할 수 있으므로 트랜잭션 종료 후 한 번 더 무효화
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    userSnapshotCache.invalidate(user);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,51 @@
+-- Hibernate가 테이블을 만든 뒤 실행 (spring.jpa.defer-datasource-initialization=true)
+-- 매 기동마다 실행되므로 모든 문장은 여러 번 실행해도 안전해야 한다
+
+-- users unique 인덱스 (회원가입의 INSERT ... ON CONFLICT DO NOTHING이 이 인덱스로 중복을 거른다)
+-- ddl-auto에 맡기지 않고 여기서 직접 관리한다 (hibernate.schema_update.unique_constraint_strategy=SKIP)
+-- 이미 같은 email이 여러 건 있으면 인덱스 생성이 'could not create unique index'로 실패해 기동이 중단된다
+-- 이때는 SELECT email, count(*) FROM users GROUP BY email HAVING count(*) > 1 로 중복을 찾아 정리한 뒤 다시 기동한다
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_username ON users (username);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_email ON users (email);
+
+-- 예전 @Column(unique = true)로 Hibernate가 자동 이름으로 만든 username unique 제약 (Hibernate 6 / 5 이름)
+-- 위의 uk_users_username과 중복이라 INSERT마다 인덱스를 하나 더 갱신하게 되므로 제거한다
+ALTER TABLE users DROP CONSTRAINT IF EXISTS ukr43af9ap4edm43mmtq01oddj6;
+ALTER TABLE users DROP CONSTRAINT IF EXISTS uk_r43af9ap4edm43mmtq01oddj6;
+
+-- 게시글 전문 검색
+-- 주의: 컬럼/인덱스가 아직 없는 운영 DB에서 처음 실행되면
+--   ADD COLUMN ... GENERATED STORED는 posts 전체를 다시 쓰는 동안 ACCESS EXCLUSIVE 잠금(읽기도 막힘)을 잡고,
+--   CONCURRENTLY 없는 CREATE INDEX는 색인을 만드는 동안 SHARE 잠금(쓰기 막힘)을 잡는다
+-- 게시글이 많은 DB는 점검 시간에 아래 문장을 먼저 수동으로 실행하고, 인덱스는 CREATE INDEX CONCURRENTLY로 만들어 둔다
+-- (이미 있으면 IF NOT EXISTS로 건너뛰므로 기동 시에는 아무 작업도 하지 않는다)
+
+-- 제목 부분 문자열 검색용 트라이그램 (ILIKE '%키워드%'도 인덱스를 탄다)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 제목(A) + 본문(B) 검색 벡터. 생성 컬럼이라 INSERT/UPDATE 때 DB가 직접 유지한다
+-- 한국어 형태소 사전이 없으므로 공백 기준 'simple' 설정을 쓰고, 조사가 붙은 단어는 제목 트라이그램으로 보완한다
+-- tsvector 크기 제한(1MB)을 넘지 않도록 본문은 앞부분만 색인한다
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', title), 'A') ||
+        setweight(to_tsvector('simple', left(content, 100000)), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_posts_search_vector ON posts USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_posts_title_trgm ON posts USING GIN (title gin_trgm_ops);
+
+-- 1~2글자 검색어용 제목 한글 2-gram (트라이그램은 3글자 미만을 인덱스로 좁히지 못해 ILIKE가 전체 스캔이 된다)
+-- '기초부터' → '기초 초부 부터'. 생성 컬럼에 쓰므로 IMMUTABLE이어야 한다
+CREATE OR REPLACE FUNCTION hangul_bigrams(input text) RETURNS text
+    LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE
+    AS $$
+        SELECT coalesce(string_agg(substr(word, i, 2), ' '), '')
+        FROM regexp_split_to_table(input, '[^\uAC00-\uD7A3]+') AS word,
+             generate_series(1, length(word) - 1) AS i
+    $$;
+
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS title_bigrams tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', hangul_bigrams(title))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_posts_title_bigrams ON posts USING GIN (title_bigrams);
@@ -12,10 +12,14 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
+import org.zerock.mybackendapp.auth.dto.IntrospectRequest;
 import org.zerock.mybackendapp.auth.dto.LoginRequest;
 import org.zerock.mybackendapp.auth.dto.RegisterRequest;
 import org.zerock.mybackendapp.user.repository.UserRepository;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -26,7 +30,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @TestPropertySource(properties = {
         "jwt.secret=testSecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLongForTesting",
         "jwt.access-token-expiration=3600000",
-        "jwt.refresh-token-expiration=604800000"
+        "jwt.refresh-token-expiration=604800000",
+        "auth.introspect.client-keys=test-introspect-key"
 })
 @Transactional
 @Slf4j
@@ -231,4 +236,132 @@ class AuthIntegrationTest {
         log.info("=== 공개 API 접근 테스트 완료 ===");
     }
 
+    @Test
+    @DisplayName("일괄 토큰 검증은 요청 순서대로 토큰별 결과를 반환")
+    void introspectBatch() throws Exception {
+        log.info("=== 일괄 토큰 검증 테스트 시작 ===");
+
+        // 1. 회원가입 및 로그인
+        RegisterRequest registerRequest = RegisterRequest.of("introspectuser", "introspect@example.com", "password123");
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated());
+
+        String loginResponse = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(LoginRequest.of("introspectuser", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        var loginMap = objectMapper.readValue(loginResponse, Map.class);
+        String accessToken = (String) loginMap.get("accessToken");
+        String refreshToken = (String) loginMap.get("refreshToken");
+
+        // 2. 유효 토큰(중복 포함), 잘못된 토큰, 리프레시 토큰을 한 번에 검증
+        IntrospectRequest request = IntrospectRequest.of(
+                List.of(accessToken, "invalid.jwt.token", accessToken, refreshToken));
+
+        mockMvc.perform(post("/api/auth/introspect")
+                        .header("X-Introspect-Key", "test-introspect-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(4))
+                .andExpect(jsonPath("$.results[0].valid").value(true))
+                .andExpect(jsonPath("$.results[0].userId").value(((Number) loginMap.get("userId")).longValue()))
+                .andExpect(jsonPath("$.results[0].role").value("USER"))
+                .andExpect(jsonPath("$.results[0].exp").exists())
+                .andExpect(jsonPath("$.results[1].valid").value(false))
+                .andExpect(jsonPath("$.results[1].userId").doesNotExist())
+                .andExpect(jsonPath("$.results[2].valid").value(true))
+                .andExpect(jsonPath("$.results[3].valid").value(false));
+
+        log.info("=== 일괄 토큰 검증 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("일괄 토큰 검증은 클라이언트 키 없이는 거절 (사용자 토큰으로도 불가)")
+    void introspectRequiresClientKey() throws Exception {
+        log.info("=== 일괄 토큰 검증 접근 제어 테스트 시작 ===");
+
+        // 1. 회원가입 및 로그인
+        RegisterRequest registerRequest = RegisterRequest.of("introspectuser", "introspect@example.com", "password123");
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated());
+
+        String loginResponse = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(LoginRequest.of("introspectuser", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String accessToken = (String) objectMapper.readValue(loginResponse, Map.class).get("accessToken");
+        String body = objectMapper.writeValueAsString(IntrospectRequest.of(List.of(accessToken)));
+
+        // 2. 익명 호출, 틀린 키
+        mockMvc.perform(post("/api/auth/introspect")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(post("/api/auth/introspect")
+                        .header("X-Introspect-Key", "wrong-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isUnauthorized());
+
+        // 3. 일반 사용자 토큰으로 호출
+        mockMvc.perform(post("/api/auth/introspect")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isForbidden());
+
+        log.info("=== 일괄 토큰 검증 접근 제어 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("가입 가능 여부 확인은 가입 직후 바로 반영")
+    void availabilityCheck() throws Exception {
+        log.info("=== 가입 가능 여부 확인 테스트 시작 ===");
+
+        // 1. 가입 전에는 사용 가능
+        mockMvc.perform(get("/api/auth/availability")
+                        .param("username", "availuser")
+                        .param("email", "avail@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value(true))
+                .andExpect(jsonPath("$.email").value(true));
+
+        // 2. 회원가입
+        RegisterRequest registerRequest = RegisterRequest.of("availuser", "avail@example.com", "password123");
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated());
+
+        // 3. 가입 후에는 사용 불가, 요청하지 않은 항목은 응답에서 빠짐
+        mockMvc.perform(get("/api/auth/availability").param("username", "availuser"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value(false))
+                .andExpect(jsonPath("$.email").doesNotExist());
+
+        mockMvc.perform(get("/api/auth/availability").param("email", "avail@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value(false));
+
+        // 4. 확인할 항목이 없으면 400
+        mockMvc.perform(get("/api/auth/availability"))
+                .andExpect(status().isBadRequest());
+
+        log.info("=== 가입 가능 여부 확인 테스트 완료 ===");
+    }
 }
@@ -0,0 +1,136 @@
+package org.zerock.mybackendapp.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.zerock.mybackendapp.auth.dto.LoginRequest;
+import org.zerock.mybackendapp.auth.dto.RegisterRequest;
+import org.zerock.mybackendapp.auth.repository.RefreshTokenRepository;
+import org.zerock.mybackendapp.user.repository.UserRepository;
+
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 폐기 목록은 로그아웃 트랜잭션이 커밋된 뒤에 반영되므로 @Transactional 없이 실행하고 직접 정리한다
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "jwt.secret=testSecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLongForTesting",
+        "jwt.access-token-expiration=3600000",
+        "jwt.refresh-token-expiration=604800000"
+})
+@Slf4j
+@DisplayName("로그아웃 통합 테스트")
+class LogoutIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByUsername("logoutuser").ifPresent(user -> {
+            refreshTokenRepository.deleteAll(refreshTokenRepository.findAll().stream()
+                    .filter(token -> token.getUserId().equals(user.getId()))
+                    .toList());
+            userRepository.delete(user);
+        });
+    }
+
+    @Test
+    @DisplayName("로그아웃한 액세스 토큰과 리프레시 토큰은 만료 전이라도 거절")
+    void logoutRevokesTokens() throws Exception {
+        log.info("=== 로그아웃 토큰 폐기 테스트 시작 ===");
+
+        // 1. 회원가입 및 로그인
+        Map<?, ?> tokens = registerAndLogin();
+        String accessToken = (String) tokens.get("accessToken");
+        String refreshToken = (String) tokens.get("refreshToken");
+
+        mockMvc.perform(get("/api/auth/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        // 2. 로그아웃
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("refreshToken", refreshToken))))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        // 3. 같은 토큰으로 다시 접근
+        mockMvc.perform(get("/api/auth/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("refreshToken", refreshToken))))
+                .andExpect(status().isUnauthorized());
+
+        log.info("=== 로그아웃 토큰 폐기 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰이 유효하지 않으면 로그아웃을 거절하고 액세스 토큰도 폐기하지 않는다")
+    void invalidRefreshTokenKeepsAccessToken() throws Exception {
+        log.info("=== 잘못된 리프레시 토큰 로그아웃 테스트 시작 ===");
+
+        // Given
+        Map<?, ?> tokens = registerAndLogin();
+        String accessToken = (String) tokens.get("accessToken");
+
+        // When: 액세스 토큰을 리프레시 토큰 자리에 보냄
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("refreshToken", accessToken))))
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+
+        // Then
+        mockMvc.perform(get("/api/auth/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        log.info("=== 잘못된 리프레시 토큰 로그아웃 테스트 완료 ===");
+    }
+
+    private Map<?, ?> registerAndLogin() throws Exception {
+        RegisterRequest registerRequest = RegisterRequest.of("logoutuser", "logout@example.com", "password123");
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated());
+
+        String loginResponse = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(LoginRequest.of("logoutuser", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readValue(loginResponse, Map.class);
+    }
+}
@@ -0,0 +1,100 @@
+package org.zerock.mybackendapp.auth.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("일괄 토큰 검증 클라이언트 인증 필터 테스트")
+class IntrospectionClientFilterTest {
+
+    // 키별 1분에 2회
+    private final IntrospectionClientFilter filter = new IntrospectionClientFilter(
+            new ObjectMapper(), new SimpleMeterRegistry(), List.of("old-key", "new-key"), 2, Duration.ofMinutes(1));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("설정된 키 중 하나와 일치하면 INTROSPECT 권한으로 인증")
+    void authenticatesConfiguredKeys() throws Exception {
+        log.info("=== 클라이언트 키 인증 테스트 시작 ===");
+
+        for(String key : List.of("old-key", "new-key")) {
+            // When
+            MockHttpServletResponse response = perform(key);
+
+            // Then
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(authentication).isNotNull();
+            assertThat(authentication.getAuthorities())
+                    .extracting(Object::toString)
+                    .containsExactly(IntrospectionClientFilter.AUTHORITY);
+            SecurityContextHolder.clearContext();
+        }
+
+        log.info("=== 클라이언트 키 인증 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("키가 없거나 틀리면 인증하지 않는다")
+    void rejectsUnknownKey() throws Exception {
+        log.info("=== 잘못된 클라이언트 키 테스트 시작 ===");
+
+        perform(null);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+
+        perform("old-key-x");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+
+        log.info("=== 잘못된 클라이언트 키 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("키별 호출 한도를 넘으면 검증 전에 429와 Retry-After로 거절")
+    void throttlesPerClient() throws Exception {
+        log.info("=== 일괄 토큰 검증 호출 제한 테스트 시작 ===");
+
+        // Given: old-key 한도 소진
+        perform("old-key");
+        perform("old-key");
+        SecurityContextHolder.clearContext();
+
+        // When
+        MockHttpServletResponse throttled = perform("old-key");
+
+        // Then: 다른 키는 영향 없음
+        assertThat(throttled.getStatus()).isEqualTo(429);
+        assertThat(throttled.getHeader("Retry-After")).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(perform("new-key").getStatus()).isEqualTo(200);
+
+        log.info("=== 일괄 토큰 검증 호출 제한 테스트 완료 ===");
+    }
+
+    private MockHttpServletResponse perform(String key) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", IntrospectionClientFilter.PATH);
+        if(key != null) {
+            request.addHeader(IntrospectionClientFilter.KEY_HEADER, key);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,90 @@
+package org.zerock.mybackendapp.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.zerock.mybackendapp.auth.repository.RevokedAccessTokenRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 두 노드가 같은 DB를 쓰는 상황을 폐기 목록 인스턴스 두 개로 재현한다
+// 폐기 INSERT가 실제로 커밋되어야 하므로 @Transactional 없이 실행하고 직접 정리한다
+@SpringBootTest
+@TestPropertySource(properties = {
+        "jwt.secret=testSecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLongForTesting",
+        "jwt.access-token-expiration=3600000",
+        "jwt.refresh-token-expiration=604800000"
+})
+@Slf4j
+@DisplayName("액세스 토큰 폐기 목록 노드 간 동기화 테스트")
+class AccessTokenRevocationSyncTest {
+
+    @Autowired
+    private RevokedAccessTokenRepository revokedAccessTokenRepository;
+
+    private final String jti = UUID.randomUUID().toString();
+
+    @AfterEach
+    void tearDown() {
+        revokedAccessTokenRepository.deleteById(jti);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 폐기한 토큰은 sync 후 이 노드에서도 거절")
+    void syncPicksUpRevocationFromOtherNode() {
+        log.info("=== 폐기 목록 동기화 테스트 시작 ===");
+
+        // Given: 같은 DB를 보는 두 노드
+        AccessTokenRevocationList nodeA = newNode();
+        AccessTokenRevocationList nodeB = newNode();
+
+        // When: A에서 로그아웃
+        nodeA.revoke(jti, Instant.now().plus(Duration.ofHours(1)));
+
+        // Then: B는 동기화 전에는 모르고, 동기화 후에는 거절한다
+        assertThat(nodeA.isRevoked(jti)).isTrue();
+        assertThat(nodeB.isRevoked(jti)).isFalse();
+
+        nodeB.sync();
+        assertThat(nodeB.isRevoked(jti)).isTrue();
+
+        // 겹쳐 읽는 구간 안에서 다시 동기화해도 문제없다
+        nodeB.sync();
+        assertThat(nodeB.isRevoked(jti)).isTrue();
+
+        log.info("=== 폐기 목록 동기화 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("기동 후 적재한 행 이후에 폐기된 토큰도 가져온다")
+    void syncAfterLoad() {
+        log.info("=== 적재 후 동기화 테스트 시작 ===");
+
+        // Given: B가 먼저 기동해 기존 행을 적재
+        AccessTokenRevocationList nodeB = newNode();
+        nodeB.load();
+
+        // When
+        newNode().revoke(jti, Instant.now().plus(Duration.ofHours(1)));
+        nodeB.sync();
+
+        // Then
+        assertThat(nodeB.isRevoked(jti)).isTrue();
+
+        log.info("=== 적재 후 동기화 테스트 완료 ===");
+    }
+
+    private AccessTokenRevocationList newNode() {
+        return new AccessTokenRevocationList(revokedAccessTokenRepository, new SimpleMeterRegistry(),
+                10000, 0.001, 1000, Duration.ofMinutes(1));
+    }
+}
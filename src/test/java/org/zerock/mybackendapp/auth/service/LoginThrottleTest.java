@@ -0,0 +1,48 @@
+package org.zerock.mybackendapp.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.zerock.mybackendapp.auth.util.LoginThrottledException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+@DisplayName("로그인 시도 제한 테스트")
+class LoginThrottleTest {
+
+    // 실패는 IP+사용자명별 1분에 3회, 시도는 IP별 1분에 100회
+    private final LoginThrottle loginThrottle = new LoginThrottle(
+            new SimpleMeterRegistry(), 3, Duration.ofMinutes(1), 100, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("성공한 시도는 실패 한도에 포함되지 않는다")
+    void successDoesNotCount() {
+        for(int i = 0; i < 10; i++) {
+            assertThatCode(() -> loginThrottle.check("victim", "10.0.0.1")).doesNotThrowAnyException();
+        }
+    }
+
+    @Test
+    @DisplayName("실패 한도를 넘기면 같은 IP에서만 막히고 다른 IP의 본인 로그인은 허용")
+    void failuresAreScopedToIp() {
+        log.info("=== IP별 실패 한도 테스트 시작 ===");
+
+        // Given: 공격자 IP에서 피해자 계정으로 3번 실패
+        for(int i = 0; i < 3; i++) {
+            loginThrottle.check("victim", "203.0.113.7");
+            loginThrottle.recordFailure("victim", "203.0.113.7");
+        }
+
+        // Then
+        assertThatThrownBy(() -> loginThrottle.check("Victim", "203.0.113.7"))
+                .isInstanceOf(LoginThrottledException.class);
+        assertThatCode(() -> loginThrottle.check("victim", "198.51.100.2")).doesNotThrowAnyException();
+
+        log.info("=== IP별 실패 한도 테스트 완료 ===");
+    }
+}
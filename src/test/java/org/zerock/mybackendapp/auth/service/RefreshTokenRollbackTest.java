@@ -0,0 +1,82 @@
+package org.zerock.mybackendapp.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.zerock.mybackendapp.auth.dto.LoginRequest;
+import org.zerock.mybackendapp.auth.dto.LoginResponse;
+import org.zerock.mybackendapp.auth.dto.RegisterRequest;
+import org.zerock.mybackendapp.auth.repository.RefreshTokenRepository;
+import org.zerock.mybackendapp.user.repository.UserRepository;
+import org.zerock.mybackendapp.user.service.UserSnapshotCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+
+// 갱신 트랜잭션이 실제로 커밋/롤백되어야 하므로 @Transactional 없이 실행하고 직접 정리한다
+@SpringBootTest
+@TestPropertySource(properties = {
+        "jwt.secret=testSecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLongForTesting",
+        "jwt.access-token-expiration=3600000",
+        "jwt.refresh-token-expiration=604800000"
+})
+@Slf4j
+@DisplayName("리프레시 토큰 회전 롤백 테스트")
+class RefreshTokenRollbackTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @MockitoSpyBean
+    private UserSnapshotCache userSnapshotCache;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByUsername("rollbackuser").ifPresent(user -> {
+            refreshTokenRepository.deleteAll(refreshTokenRepository.findAll().stream()
+                    .filter(token -> token.getUserId().equals(user.getId()))
+                    .toList());
+            userRepository.delete(user);
+        });
+    }
+
+    @Test
+    @DisplayName("회전 후 갱신 트랜잭션이 롤백되면 같은 리프레시 토큰으로 다시 갱신할 수 있다")
+    void retryAfterRollback() {
+        log.info("=== 리프레시 토큰 회전 롤백 테스트 시작 ===");
+
+        // Given
+        authService.register(RegisterRequest.of("rollbackuser", "rollback@example.com", "password123"));
+        LoginResponse login = authService.login(LoginRequest.of("rollbackuser", "password123"));
+
+        // 회전(조건부 UPDATE) 다음 단계인 사용자 조회에서 한 번 실패시켜 트랜잭션을 롤백
+        doThrow(new IllegalStateException("일시적인 조회 실패"))
+                .doCallRealMethod()
+                .when(userSnapshotCache).getById(anyLong());
+
+        // When
+        assertThatThrownBy(() -> authService.refreshToken(login.getRefreshToken()))
+                .isInstanceOf(IllegalStateException.class);
+        LoginResponse retried = authService.refreshToken(login.getRefreshToken());
+
+        // Then: 재사용으로 보고 패밀리를 폐기하지 않았으므로 새 토큰도 정상 회전된다
+        assertThat(retried.getUserId()).isEqualTo(login.getUserId());
+        assertThat(retried.getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+        assertThat(authService.refreshToken(retried.getRefreshToken()).getUserId()).isEqualTo(login.getUserId());
+
+        log.info("=== 리프레시 토큰 회전 롤백 테스트 완료 ===");
+    }
+}
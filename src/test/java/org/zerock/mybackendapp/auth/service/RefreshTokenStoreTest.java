@@ -0,0 +1,152 @@
+package org.zerock.mybackendapp.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.zerock.mybackendapp.auth.domain.RefreshToken;
+import org.zerock.mybackendapp.auth.domain.RefreshToken.Status;
+import org.zerock.mybackendapp.auth.repository.RefreshTokenRepository;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@Slf4j
+@DisplayName("리프레시 토큰 저장소 테스트")
+class RefreshTokenStoreTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = new RefreshTokenStore(refreshTokenRepository, 604800000L, 100);
+    }
+
+    @Test
+    @DisplayName("회전하면 같은 패밀리로 새 토큰을 발급하고 이전 토큰은 ROTATED")
+    void rotateKeepsFamily() {
+        log.info("=== 리프레시 토큰 회전 테스트 시작 ===");
+
+        // Given
+        given(refreshTokenRepository.updateStatus(anyString(), eq(Status.ACTIVE), eq(Status.ROTATED))).willReturn(1);
+        RefreshTokenStore.Entry first = refreshTokenStore.issue(1L, null);
+
+        // When
+        RefreshTokenStore.Entry rotated = refreshTokenStore.rotate(first.jti());
+        RefreshTokenStore.Entry second = refreshTokenStore.issue(rotated.userId(), rotated.familyId());
+
+        // Then
+        assertThat(rotated.jti()).isEqualTo(first.jti());
+        assertThat(second.familyId()).isEqualTo(first.familyId());
+        assertThat(second.jti()).isNotEqualTo(first.jti());
+        verify(refreshTokenRepository).updateStatus(first.jti(), Status.ACTIVE, Status.ROTATED);
+
+        log.info("=== 리프레시 토큰 회전 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("이미 회전된 토큰을 다시 쓰면 패밀리 전체 폐기")
+    void reuseRevokesFamily() {
+        log.info("=== 리프레시 토큰 재사용 감지 테스트 시작 ===");
+
+        // Given
+        given(refreshTokenRepository.updateStatus(anyString(), eq(Status.ACTIVE), eq(Status.ROTATED))).willReturn(1);
+        RefreshTokenStore.Entry first = refreshTokenStore.issue(1L, null);
+        refreshTokenStore.rotate(first.jti());
+        RefreshTokenStore.Entry second = refreshTokenStore.issue(1L, first.familyId());
+
+        // When & Then: 탈취된 이전 토큰 재사용
+        assertThatThrownBy(() -> refreshTokenStore.rotate(first.jti()))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 테이블 폐기는 요청 트랜잭션이 끝난 뒤 별도 스레드에서 반영된다
+        verify(refreshTokenRepository, timeout(1000)).revokeFamily(first.familyId());
+
+        // 정상 사용자가 가진 최신 토큰도 더 이상 쓸 수 없다
+        assertThatThrownBy(() -> refreshTokenStore.rotate(second.jti()))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(refreshTokenRepository, never()).updateStatus(second.jti(), Status.ACTIVE, Status.ROTATED);
+
+        log.info("=== 리프레시 토큰 재사용 감지 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("회전 후 트랜잭션이 롤백되면 같은 토큰으로 다시 회전할 수 있다")
+    void rollbackKeepsTokenActive() {
+        log.info("=== 리프레시 토큰 회전 롤백 테스트 시작 ===");
+
+        // Given
+        given(refreshTokenRepository.updateStatus(anyString(), eq(Status.ACTIVE), eq(Status.ROTATED))).willReturn(1);
+        RefreshTokenStore.Entry first = refreshTokenStore.issue(1L, null);
+
+        // When: 회전 직후 바깥 트랜잭션이 롤백 (테이블의 조건부 UPDATE도 함께 취소됨)
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            refreshTokenStore.rotate(first.jti());
+            refreshTokenStore.issue(1L, first.familyId());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then: 재사용으로 보지 않고 같은 토큰으로 다시 회전된다
+        RefreshTokenStore.Entry retried = refreshTokenStore.rotate(first.jti());
+        assertThat(retried.familyId()).isEqualTo(first.familyId());
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+
+        log.info("=== 리프레시 토큰 회전 롤백 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("메모리에 없는 jti는 테이블에서 적재")
+    void loadsFromTableOnMiss() {
+        // Given
+        Instant expiresAt = Instant.now().plus(1, ChronoUnit.DAYS);
+        given(refreshTokenRepository.findById("persisted-jti"))
+                .willReturn(Optional.of(RefreshToken.of("persisted-jti", "family", 7L, expiresAt, Status.ACTIVE)));
+        given(refreshTokenRepository.updateStatus("persisted-jti", Status.ACTIVE, Status.ROTATED)).willReturn(1);
+
+        // When
+        RefreshTokenStore.Entry rotated = refreshTokenStore.rotate("persisted-jti");
+
+        // Then
+        assertThat(rotated.userId()).isEqualTo(7L);
+        assertThat(rotated.familyId()).isEqualTo("family");
+    }
+
+    @Test
+    @DisplayName("등록되지 않았거나 만료된 토큰은 거절")
+    void rejectsUnknownAndExpired() {
+        // Given
+        given(refreshTokenRepository.findById("unknown-jti")).willReturn(Optional.empty());
+        given(refreshTokenRepository.findById("expired-jti"))
+                .willReturn(Optional.of(RefreshToken.of("expired-jti", "family", 7L,
+                        Instant.now().minusSeconds(1), Status.ACTIVE)));
+
+        // When & Then
+        assertThatThrownBy(() -> refreshTokenStore.rotate("unknown-jti"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> refreshTokenStore.rotate("expired-jti"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,197 @@
+package org.zerock.mybackendapp.auth.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+@DisplayName("크기 제한 패스워드 인코더 테스트")
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        if(boundedPasswordEncoder != null) {
+            boundedPasswordEncoder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("해싱과 검증은 위임 인코더 결과를 그대로 반환")
+    void delegatesToUnderlyingEncoder() {
+        log.info("=== 위임 테스트 시작 ===");
+
+        // Given
+        boundedPasswordEncoder = new BoundedPasswordEncoder(
+                new PrefixPasswordEncoder(), 2, 4, Duration.ofSeconds(1), meterRegistry);
+
+        // When
+        String encoded = boundedPasswordEncoder.encode("password");
+
+        // Then
+        assertThat(encoded).isEqualTo("hashed:password");
+        assertThat(boundedPasswordEncoder.matches("password", encoded)).isTrue();
+        assertThat(boundedPasswordEncoder.matches("wrong", encoded)).isFalse();
+
+        log.info("=== 위임 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("스레드와 대기 큐가 모두 차면 즉시 거절")
+    void rejectsWhenSaturated() throws Exception {
+        log.info("=== 포화 시 거절 테스트 시작 ===");
+
+        // Given: 스레드 1개, 큐 1칸
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        boundedPasswordEncoder = new BoundedPasswordEncoder(
+                new BlockingPasswordEncoder(started, release), 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("first"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("second"));
+        waitUntilQueued();
+
+        // When & Then
+        assertThatThrownBy(() -> boundedPasswordEncoder.encode("third"))
+                .isInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(meterRegistry.counter("password.hashing.rejected").count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("hashed:first");
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("hashed:second");
+
+        log.info("=== 포화 시 거절 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 거절")
+    void rejectsOnTimeout() {
+        log.info("=== 대기 시간 초과 테스트 시작 ===");
+
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        boundedPasswordEncoder = new BoundedPasswordEncoder(
+                new BlockingPasswordEncoder(new CountDownLatch(1), release), 1, 1, Duration.ofMillis(100), meterRegistry);
+
+        // When & Then
+        assertThatThrownBy(() -> boundedPasswordEncoder.encode("slow"))
+                .isInstanceOf(PasswordHashingRejectedException.class);
+
+        release.countDown();
+
+        log.info("=== 대기 시간 초과 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("앞선 작업으로 예상 완료 시간이 대기 제한을 넘으면 기다리지 않고 즉시 거절")
+    void rejectsWhenEstimatedWaitExceedsTimeout() throws Exception {
+        log.info("=== 예상 대기 시간 초과 거절 테스트 시작 ===");
+
+        // Given: 해싱 한 번에 약 200ms, 대기 제한 500ms, 스레드 1개
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        boundedPasswordEncoder = new BoundedPasswordEncoder(
+                new SlowPasswordEncoder(started, release), 1, 4, Duration.ofMillis(500), meterRegistry);
+        assertThat(boundedPasswordEncoder.encode("slow")).isEqualTo("hashed:slow");
+
+        CompletableFuture.runAsync(() -> boundedPasswordEncoder.encode("block"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> boundedPasswordEncoder.encode("slow"));
+        waitUntilQueued();
+
+        // When & Then: 실행 중 1개 + 대기 1개 뒤라 약 600ms가 걸릴 것이므로 제한(500ms)까지 기다리지 않는다
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> boundedPasswordEncoder.encode("third"))
+                .isInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(100));
+        assertThat(meterRegistry.counter("password.hashing.rejected").count()).isEqualTo(1.0);
+
+        release.countDown();
+
+        log.info("=== 예상 대기 시간 초과 거절 테스트 완료 ===");
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while(meterRegistry.find("executor.queued").gauge() == null
+                || meterRegistry.find("executor.queued").gauge().value() < 1) {
+            if(System.nanoTime() > deadline) {
+                throw new AssertionError("작업이 큐에 쌓이지 않았습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static class PrefixPasswordEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+
+    // "block"은 release까지 멈추고 나머지는 약 200ms 걸리는 인코더
+    private static class SlowPasswordEncoder extends PrefixPasswordEncoder {
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        SlowPasswordEncoder(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                if("block".contentEquals(rawPassword)) {
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                } else {
+                    Thread.sleep(200);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.encode(rawPassword);
+        }
+    }
+
+    private static class BlockingPasswordEncoder extends PrefixPasswordEncoder {
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        BlockingPasswordEncoder(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.encode(rawPassword);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.zerock.mybackendapp.auth.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("BCrypt cost 보정 인코더 테스트")
+class CalibratedBCryptPasswordEncoderTest {
+
+    @Test
+    @DisplayName("저장된 해시의 cost가 목표보다 낮을 때만 재해싱 대상 (높은 cost는 그대로 둔다)")
+    void upgradeEncodingOnlyWhenWeaker() {
+        log.info("=== cost 차이 재해싱 판단 테스트 시작 ===");
+
+        // Given
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+        String weaker = new BCryptPasswordEncoder(4).encode("password123");
+        String same = encoder.encode("password123");
+        String stronger = new BCryptPasswordEncoder(6).encode("password123");
+
+        // When & Then
+        assertThat(encoder.upgradeEncoding(weaker)).isTrue();
+        assertThat(encoder.upgradeEncoding(same)).isFalse();
+        assertThat(encoder.upgradeEncoding(stronger)).isFalse();
+        assertThat(encoder.matches("password123", stronger)).isTrue();
+
+        log.info("=== cost 차이 재해싱 판단 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("해시 문자열에서 cost 추출")
+    void strengthOf() {
+        assertThat(CalibratedBCryptPasswordEncoder.strengthOf("$2a$12$abcdefghijklmnopqrstuv")).isEqualTo(12);
+        assertThat(CalibratedBCryptPasswordEncoder.strengthOf("plain-text")).isEqualTo(-1);
+        assertThat(CalibratedBCryptPasswordEncoder.strengthOf(null)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("측정 시간 대비 목표 시간으로 cost를 외삽하고 범위로 제한")
+    void strengthFor() {
+        long probe = Duration.ofMillis(4).toNanos(); // cost 8 에서 4ms
+
+        assertThat(CalibratedBCryptPasswordEncoder.strengthFor(Duration.ofMillis(4).toNanos(), probe, 4, 31)).isEqualTo(8);
+        assertThat(CalibratedBCryptPasswordEncoder.strengthFor(Duration.ofMillis(64).toNanos(), probe, 4, 31)).isEqualTo(12);
+        assertThat(CalibratedBCryptPasswordEncoder.strengthFor(Duration.ofMillis(1).toNanos(), probe, 10, 14)).isEqualTo(10);
+        assertThat(CalibratedBCryptPasswordEncoder.strengthFor(Duration.ofSeconds(10).toNanos(), probe, 10, 14)).isEqualTo(14);
+    }
+}
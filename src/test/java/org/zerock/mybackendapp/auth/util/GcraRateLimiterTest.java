@@ -0,0 +1,112 @@
+package org.zerock.mybackendapp.auth.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("GCRA 로그인 시도 제한 테스트")
+class GcraRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private GcraRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        // 1분에 5회 (12초마다 1회 충전)
+        rateLimiter = new GcraRateLimiter(5, Duration.ofMinutes(1), clock::get);
+    }
+
+    @Test
+    @DisplayName("burst 만큼은 허용하고 이후에는 남은 대기 시간과 함께 거절")
+    void allowsBurstThenRejects() {
+        log.info("=== burst 허용 테스트 시작 ===");
+
+        for(int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("user")).isZero();
+        }
+
+        long waitNanos = rateLimiter.tryAcquire("user");
+        assertThat(waitNanos).isEqualTo(Duration.ofSeconds(12).toNanos());
+
+        // 다른 키는 영향 없음
+        assertThat(rateLimiter.tryAcquire("other")).isZero();
+
+        log.info("=== burst 허용 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("충전 간격이 지나면 한 번 더 허용")
+    void refillsAfterEmissionInterval() {
+        for(int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("user");
+        }
+        assertThat(rateLimiter.tryAcquire("user")).isPositive();
+
+        clock.addAndGet(Duration.ofSeconds(12).toNanos());
+
+        assertThat(rateLimiter.tryAcquire("user")).isZero();
+        assertThat(rateLimiter.tryAcquire("user")).isPositive();
+    }
+
+    @Test
+    @DisplayName("peek은 소비하지 않고 다음 시도 허용 여부만 알려준다")
+    void peekDoesNotConsume() {
+        assertThat(rateLimiter.peek("user")).isZero();
+        assertThat(rateLimiter.size()).isZero();
+
+        for(int i = 0; i < 4; i++) {
+            rateLimiter.tryAcquire("user");
+        }
+        assertThat(rateLimiter.peek("user")).isZero();
+        assertThat(rateLimiter.peek("user")).isZero();
+
+        rateLimiter.tryAcquire("user");
+        assertThat(rateLimiter.peek("user")).isEqualTo(Duration.ofSeconds(12).toNanos());
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷은 정리 대상")
+    void evictsIdleKeys() {
+        rateLimiter.tryAcquire("user");
+        rateLimiter.tryAcquire("other");
+        assertThat(rateLimiter.size()).isEqualTo(2);
+
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        assertThat(rateLimiter.evictIdle()).isEqualTo(2);
+        assertThat(rateLimiter.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 burst 를 초과해 허용하지 않음")
+    void concurrentAcquireNeverExceedsBurst() throws Exception {
+        log.info("=== 동시 요청 제한 테스트 시작 ===");
+
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for(int i = 0; i < 200; i++) {
+            executor.submit(() -> {
+                if(rateLimiter.tryAcquire("user") == 0) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(5);
+
+        log.info("=== 동시 요청 제한 테스트 완료 ===");
+    }
+}
@@ -0,0 +1,121 @@
+package org.zerock.mybackendapp.auth.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("HMAC JWT 발급기 테스트")
+class HmacJwtSignerTest {
+
+    private static final byte[] HS256_SECRET = "testSecretKeyForJWT-exactly-32b!".getBytes();
+    private static final byte[] HS512_SECRET =
+            "testSecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLongForTesting".getBytes();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("jjwt 빌더와 같은 헤더 alg와 클레임을 만든다")
+    void sameFormatAsJjwtBuilder() throws Exception {
+        log.info("=== jjwt 빌더와 형식 비교 테스트 시작 ===");
+
+        for(byte[] secret : List.of(HS256_SECRET, HS512_SECRET)) {
+            // Given
+            SecretKey key = Keys.hmacShaKeyFor(secret);
+            HmacJwtSigner signer = new HmacJwtSigner("kid-1", key);
+            long issuedAt = 1_700_000_000L;
+            long expiresAt = issuedAt + 3600;
+
+            // When
+            String lean = signer.signAccessToken("jti-1", "formatuser", 7L, "USER", issuedAt, expiresAt);
+            String jjwt = Jwts.builder()
+                    .header().keyId("kid-1").and()
+                    .id("jti-1")
+                    .subject("formatuser")
+                    .claim("userId", 7L)
+                    .claim("role", "USER")
+                    .claim("type", VerifiedToken.ACCESS_TYPE)
+                    .issuedAt(new Date(issuedAt * 1000))
+                    .expiration(new Date(expiresAt * 1000))
+                    .signWith(key)
+                    .compact();
+
+            // Then
+            assertThat(decode(lean, 0)).isEqualTo(decode(jjwt, 0));
+            assertThat(decode(lean, 1)).isEqualTo(decode(jjwt, 1));
+            log.info("형식 일치: alg={}", decode(lean, 0).get("alg"));
+        }
+
+        log.info("=== jjwt 빌더와 형식 비교 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("발급한 토큰은 jjwt 파서로 검증된다")
+    void verifiedByJjwtParser() {
+        log.info("=== jjwt 파서 검증 테스트 시작 ===");
+
+        // Given
+        JwtKeyRing keyRing = new JwtKeyRing(
+                List.of(JwtKeyRing.RingKey.hmac("hs512", HS512_SECRET, Instant.EPOCH, null)), Clock.systemUTC());
+        JwtUtil jwtUtil = new JwtUtil(keyRing, 3600000L);
+        Instant refreshExpiresAt = Instant.now().plusSeconds(600).truncatedTo(ChronoUnit.SECONDS);
+
+        // When
+        VerifiedToken access = jwtUtil.verify(jwtUtil.generateAccessToken("parseuser", 3L, "ADMIN"));
+        VerifiedToken refresh = jwtUtil.verify(jwtUtil.generateRefreshToken("parseuser", "refresh-jti", refreshExpiresAt));
+
+        // Then
+        assertThat(access.subject()).isEqualTo("parseuser");
+        assertThat(access.userId()).isEqualTo(3L);
+        assertThat(access.role()).isEqualTo("ADMIN");
+        assertThat(access.isAccessToken()).isTrue();
+        assertThat(access.jti()).isNotBlank();
+
+        assertThat(refresh.subject()).isEqualTo("parseuser");
+        assertThat(refresh.jti()).isEqualTo("refresh-jti");
+        assertThat(refresh.isRefreshToken()).isTrue();
+        assertThat(refresh.expiresAt()).isEqualTo(refreshExpiresAt);
+
+        log.info("=== jjwt 파서 검증 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("이스케이프가 필요한 문자와 비ASCII 문자가 그대로 복원된다")
+    void escapesSubject() {
+        log.info("=== 클레임 이스케이프 테스트 시작 ===");
+
+        // Given
+        JwtKeyRing keyRing = new JwtKeyRing(
+                List.of(JwtKeyRing.RingKey.hmac("hs256", HS256_SECRET, Instant.EPOCH, null)), Clock.systemUTC());
+        JwtUtil jwtUtil = new JwtUtil(keyRing, 3600000L);
+        String username = "따옴표\"역슬래시\\줄바꿈\n탭\t이모지😀é";
+
+        // When
+        VerifiedToken verified = jwtUtil.verify(jwtUtil.generateAccessToken(username, 1L, "USER"));
+
+        // Then
+        assertThat(verified.subject()).isEqualTo(username);
+
+        log.info("=== 클레임 이스케이프 테스트 완료 ===");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> decode(String token, int part) throws Exception {
+        byte[] json = Base64.getUrlDecoder().decode(token.split("\\.")[part]);
+        return objectMapper.readValue(json, Map.class);
+    }
+}
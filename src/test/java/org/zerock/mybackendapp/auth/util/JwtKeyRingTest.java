@@ -0,0 +1,129 @@
+package org.zerock.mybackendapp.auth.util;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+@DisplayName("JWT 키 링 테스트")
+class JwtKeyRingTest {
+
+    private static final byte[] OLD_SECRET = "oldSecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLong".getBytes();
+    private static final byte[] NEW_SECRET = "newSecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLong".getBytes();
+
+    @Test
+    @DisplayName("새 키로 교체된 뒤에도 이전 키로 서명된 토큰은 notAfter까지 검증")
+    void overlappingRotation() {
+        log.info("=== 키 교체 겹침 구간 테스트 시작 ===");
+
+        // Given: 1시간 뒤부터 new 키로 서명, old 키는 1일 뒤까지 검증 허용
+        Instant now = Instant.now();
+        MutableClock clock = new MutableClock(now);
+        JwtKeyRing keyRing = new JwtKeyRing(List.of(
+                JwtKeyRing.RingKey.hmac("old", OLD_SECRET, Instant.EPOCH, now.plus(Duration.ofDays(1))),
+                JwtKeyRing.RingKey.hmac("new", NEW_SECRET, now.plus(Duration.ofHours(1)), null)
+        ), clock);
+        JwtUtil jwtUtil = new JwtUtil(keyRing, 3600000L);
+
+        // When
+        assertThat(keyRing.currentSigningKey().kid()).isEqualTo("old");
+        String oldToken = jwtUtil.generateAccessToken("rotation", 1L, "USER");
+
+        clock.set(now.plus(Duration.ofHours(2)));
+        assertThat(keyRing.currentSigningKey().kid()).isEqualTo("new");
+        String newToken = jwtUtil.generateAccessToken("rotation", 1L, "USER");
+
+        // Then
+        assertThat(jwtUtil.verify(oldToken).subject()).isEqualTo("rotation");
+        assertThat(jwtUtil.verify(newToken).subject()).isEqualTo("rotation");
+
+        clock.set(now.plus(Duration.ofDays(2)));
+        assertThatThrownBy(() -> jwtUtil.verify(oldToken))
+                .isInstanceOf(UnsupportedJwtException.class);
+
+        log.info("=== 키 교체 겹침 구간 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("Ed25519 공개키만 가진 노드는 검증만 가능")
+    void ed25519VerifyOnly() {
+        log.info("=== Ed25519 검증 전용 테스트 시작 ===");
+
+        // Given
+        KeyPair keyPair = Jwts.SIG.Ed25519.keyPair().build();
+        String privateKey = Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded());
+        String publicKey = Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+
+        JwtUtil issuer = new JwtUtil(new JwtKeyRing(List.of(
+                JwtKeyRing.RingKey.ed25519("ed-1", privateKey, publicKey, Instant.EPOCH, null)), Clock.systemUTC()), 3600000L);
+        JwtUtil verifier = new JwtUtil(new JwtKeyRing(List.of(
+                JwtKeyRing.RingKey.ed25519("ed-1", null, publicKey, Instant.EPOCH, null)), Clock.systemUTC()), 3600000L);
+
+        // When
+        String token = issuer.generateAccessToken("edUser", 7L, "ADMIN");
+        VerifiedToken verifiedToken = verifier.verify(token);
+
+        // Then
+        assertThat(verifiedToken.userId()).isEqualTo(7L);
+        assertThat(verifiedToken.role()).isEqualTo("ADMIN");
+        assertThatThrownBy(() -> verifier.generateAccessToken("edUser", 7L, "ADMIN"))
+                .isInstanceOf(IllegalStateException.class);
+
+        log.info("=== Ed25519 검증 전용 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("키 링에 없는 kid로 서명된 토큰은 거절")
+    void unknownKidRejected() {
+        JwtUtil other = new JwtUtil(new JwtKeyRing(List.of(
+                JwtKeyRing.RingKey.hmac("other", OLD_SECRET, Instant.EPOCH, null)), Clock.systemUTC()), 3600000L);
+        JwtUtil jwtUtil = new JwtUtil(new JwtKeyRing(List.of(
+                JwtKeyRing.RingKey.hmac("mine", OLD_SECRET, Instant.EPOCH, null)), Clock.systemUTC()), 3600000L);
+
+        String token = other.generateAccessToken("stranger", 1L, "USER");
+
+        assertThatThrownBy(() -> jwtUtil.verify(token))
+                .isInstanceOf(UnsupportedJwtException.class);
+    }
+
+    private static class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
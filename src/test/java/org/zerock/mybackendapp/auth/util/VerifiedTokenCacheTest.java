@@ -0,0 +1,96 @@
+package org.zerock.mybackendapp.auth.util;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Slf4j
+@DisplayName("토큰 검증 캐시 테스트")
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "testSecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLongForTesting";
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = spy(new JwtUtil(JwtKeyRing.ofSecret(SECRET), 3600000L));
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), 1000);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 서명 검증")
+    void verifyOncePerToken() {
+        log.info("=== 같은 토큰 캐시 적중 테스트 시작 ===");
+
+        // Given
+        String token = jwtUtil.generateAccessToken("cacheuser", 1L, "USER");
+
+        // When
+        VerifiedToken first = verifiedTokenCache.verify(token);
+        VerifiedToken second = verifiedTokenCache.verify(token);
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(second.subject()).isEqualTo("cacheuser");
+        assertThat(second.userId()).isEqualTo(1L);
+
+        verify(jwtUtil, times(1)).verify(anyString());
+        assertThat(verifiedTokenCache.stats().hitCount()).isEqualTo(1);
+        assertThat(verifiedTokenCache.stats().missCount()).isEqualTo(1);
+
+        log.info("=== 같은 토큰 캐시 적중 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐싱하지 않음")
+    void invalidTokenIsNotCached() {
+        log.info("=== 유효하지 않은 토큰 캐싱 방지 테스트 시작 ===");
+
+        // Given
+        String invalidToken = "invalid.jwt.token";
+
+        // When & Then
+        assertThatThrownBy(() -> verifiedTokenCache.verify(invalidToken))
+                .isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> verifiedTokenCache.verify(invalidToken))
+                .isInstanceOf(JwtException.class);
+
+        verify(jwtUtil, times(2)).verify(invalidToken);
+        assertThat(verifiedTokenCache.estimatedSize()).isZero();
+
+        log.info("=== 유효하지 않은 토큰 캐싱 방지 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("서로 다른 토큰은 각각 캐싱")
+    void differentTokensAreCachedSeparately() {
+        log.info("=== 서로 다른 토큰 캐싱 테스트 시작 ===");
+
+        // Given
+        String token1 = jwtUtil.generateAccessToken("user1", 1L, "USER");
+        String token2 = jwtUtil.generateAccessToken("user2", 2L, "USER");
+
+        // When
+        VerifiedToken verified1 = verifiedTokenCache.verify(token1);
+        VerifiedToken verified2 = verifiedTokenCache.verify(token2);
+
+        // Then
+        assertThat(verified1.subject()).isEqualTo("user1");
+        assertThat(verified2.subject()).isEqualTo("user2");
+        assertThat(verifiedTokenCache.estimatedSize()).isEqualTo(2);
+
+        log.info("=== 서로 다른 토큰 캐싱 테스트 완료 ===");
+    }
+}
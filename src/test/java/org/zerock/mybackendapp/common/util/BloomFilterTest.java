@@ -0,0 +1,53 @@
+package org.zerock.mybackendapp.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("Bloom filter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 키는 항상 포함으로 판정 (거짓 음성 없음)")
+    void noFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.001);
+
+        for(int i = 0; i < 10_000; i++) {
+            filter.put("key-" + i);
+        }
+
+        for(int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("key-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("오탐률은 목표치 근처로 유지")
+    void falsePositiveRateNearTarget() {
+        log.info("=== Bloom filter 오탐률 테스트 시작 ===");
+
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for(int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for(int i = 0; i < probes; i++) {
+            if(filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        double rate = (double) falsePositives / probes;
+        log.info("비트 수={}, 해시 수={}, 측정 오탐률={}", filter.bitSize(), filter.hashCount(), rate);
+        assertThat(rate).isLessThan(0.03);
+
+        log.info("=== Bloom filter 오탐률 테스트 완료 ===");
+    }
+}
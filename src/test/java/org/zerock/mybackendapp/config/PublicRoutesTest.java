@@ -0,0 +1,64 @@
+package org.zerock.mybackendapp.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("공개 경로 테이블 테스트")
+class PublicRoutesTest {
+
+    private final PublicRoutes publicRoutes = new PublicRoutes();
+
+    @Test
+    @DisplayName("SecurityConfig에서 허용하던 공개 GET 경로는 모두 매칭")
+    void publicGetRoutes() {
+        assertThat(publicRoutes.matches("GET", "/api/users")).isTrue();
+        assertThat(publicRoutes.matches("GET", "/api/users/1")).isTrue();
+        assertThat(publicRoutes.matches("GET", "/api/users/username/tester")).isTrue();
+        assertThat(publicRoutes.matches("GET", "/api/posts")).isTrue();
+        assertThat(publicRoutes.matches("GET", "/api/posts/42")).isTrue();
+        assertThat(publicRoutes.matches("GET", "/api/posts/author/3")).isTrue();
+        assertThat(publicRoutes.matches("GET", "/api/posts/search")).isTrue();
+        assertThat(publicRoutes.matches("GET", "/api/posts/suggest")).isTrue();
+    }
+
+    @Test
+    @DisplayName("인증 API는 공개, 일괄 토큰 검증은 제외")
+    void authRoutes() {
+        assertThat(publicRoutes.matches("POST", "/api/auth/register")).isTrue();
+        assertThat(publicRoutes.matches("GET", "/api/auth/availability")).isTrue();
+        assertThat(publicRoutes.matches("POST", "/api/auth/login")).isTrue();
+        assertThat(publicRoutes.matches("POST", "/api/auth/refresh")).isTrue();
+        assertThat(publicRoutes.matches("POST", "/api/auth/validate")).isTrue();
+        assertThat(publicRoutes.matches("POST", "/api/auth/logout")).isTrue();
+        assertThat(publicRoutes.matches("GET", "/api/auth/me")).isTrue();
+        assertThat(publicRoutes.matches("POST", "/api/auth/introspect")).isFalse();
+        assertThat(publicRoutes.matches("POST", "/api/auth")).isFalse();
+        assertThat(publicRoutes.matches("POST", "/api/authx")).isFalse();
+    }
+
+    @Test
+    @DisplayName("쓰기 요청과 목록에 없는 경로는 인증 대상")
+    void protectedRoutes() {
+        assertThat(publicRoutes.matches("POST", "/api/posts")).isFalse();
+        assertThat(publicRoutes.matches("PUT", "/api/posts/42")).isFalse();
+        assertThat(publicRoutes.matches("DELETE", "/api/users/1")).isFalse();
+        assertThat(publicRoutes.matches("GET", "/api/posts/42/comments")).isFalse();
+        assertThat(publicRoutes.matches("GET", "/api/users/username")).isFalse();
+        assertThat(publicRoutes.matches("GET", "/api/posts/")).isFalse();
+        assertThat(publicRoutes.matches("GET", "/actuator/metrics")).isFalse();
+    }
+
+    @Test
+    @DisplayName("컨텍스트 경로를 제외하고 매칭")
+    void contextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/api/posts/7");
+        request.setContextPath("/app");
+
+        assertThat(publicRoutes.matches(request)).isTrue();
+    }
+}
@@ -15,16 +15,19 @@ import org.springframework.transaction.annotation.Transactional;
 import org.zerock.mybackendapp.auth.dto.LoginRequest;
 import org.zerock.mybackendapp.auth.dto.RegisterRequest;
 import org.zerock.mybackendapp.post.domain.Post;
+import org.zerock.mybackendapp.post.dto.PostSummary;
 import org.zerock.mybackendapp.post.repository.PostRepository;
 import org.zerock.mybackendapp.post.service.PostService;
 import org.zerock.mybackendapp.user.domain.User;
 import org.zerock.mybackendapp.user.repository.UserRepository;
 import org.zerock.mybackendapp.user.service.UserService;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -218,8 +221,8 @@ class PostIntegrationTest {
         log.info("게시글 3개 생성 완료");
 
         // 3. 작성자별 게시글 조회 테스트
-        List<Post> author1Posts = postService.getPostsByAuthor(testAuthor.getId());
-        List<Post> author2Posts = postService.getPostsByAuthor(author2Id);
+        List<PostSummary> author1Posts = postService.getPostsByAuthor(testAuthor.getId(), null, null, false).items();
+        List<PostSummary> author2Posts = postService.getPostsByAuthor(author2Id, null, null, false).items();
 
         assertThat(author1Posts).hasSize(2);
         assertThat(author2Posts).hasSize(1);
@@ -231,9 +234,22 @@ class PostIntegrationTest {
         mockMvc.perform(get("/api/posts/author/{authorId}", testAuthor.getId()))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(2))
-                .andExpect(jsonPath("$[0].author.username").value("postAuthor"))
-                .andExpect(jsonPath("$[1].author.username").value("postAuthor"));
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].authorUsername").value("postAuthor"))
+                .andExpect(jsonPath("$.items[1].authorUsername").value("postAuthor"))
+                .andExpect(jsonPath("$.items[0].content").doesNotExist());
+
+        // 5. 작성자별 조회도 커서로 나눠 받을 수 있다
+        mockMvc.perform(get("/api/posts/author/{authorId}", testAuthor.getId()).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("두 번째 게시글"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+
+        // 6. 없는 작성자는 빈 목록
+        mockMvc.perform(get("/api/posts/author/{authorId}", 999_999L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0));
 
         log.info("=== User-Post 관계 통합 테스트 완료 ===");
     }
@@ -364,9 +380,10 @@ class PostIntegrationTest {
                         .param("keyword", "Spring"))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(2))
-                .andExpect(jsonPath("$[0].title").value("Spring Boot 완벽 가이드"))
-                .andExpect(jsonPath("$[1].title").value("Spring Security 튜토리얼"));
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[*].title").value(containsInAnyOrder(
+                        "Spring Boot 완벽 가이드", "Spring Security 튜토리얼")))
+                .andExpect(jsonPath("$.nextOffset").isEmpty());
 
         log.info("'Spring' 키워드 검색 완료");
 
@@ -375,8 +392,8 @@ class PostIntegrationTest {
                         .param("keyword", "기초"))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].title").value("React 기초부터 심화까지"));
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("React 기초부터 심화까지"));
 
         log.info("'기초' 키워드 검색 완료");
 
@@ -385,7 +402,7 @@ class PostIntegrationTest {
                         .param("keyword", "없는키워드"))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(0));
+                .andExpect(jsonPath("$.items.length()").value(0));
 
         log.info("존재하지 않는 키워드 검색 완료");
 
@@ -422,8 +439,9 @@ class PostIntegrationTest {
         mockMvc.perform(get("/api/posts"))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].title").value("CRUD 테스트 게시글"));
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("CRUD 테스트 게시글"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
 
         log.info("READ ALL 완료");
 
@@ -506,8 +524,9 @@ class PostIntegrationTest {
         mockMvc.perform(get("/api/posts"))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].title").value("공개 조회용 게시글"));
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("공개 조회용 게시글"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
 
         log.info("토큰 없이 게시글 목록 조회 성공");
 
@@ -516,8 +535,8 @@ class PostIntegrationTest {
                         .param("keyword", "공개"))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].title").value("공개 조회용 게시글"));
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("공개 조회용 게시글"));
 
         log.info("토큰 없이 게시글 검색 성공");
 
@@ -556,4 +575,49 @@ class PostIntegrationTest {
 
         log.info("=== 인증 없이 보호된 API 접근 실패 테스트 완료 ===");
     }
+
+    @Test
+    @DisplayName("커서로 게시글 목록을 끝까지 순회")
+    void cursorPagination() throws Exception {
+        log.info("=== 커서 페이지네이션 테스트 시작 ===");
+
+        // Given: 게시글 5개
+        for(int i = 1; i <= 5; i++) {
+            postRepository.save(Post.of("페이지 게시글 " + i, "내용 " + i, testAuthor));
+        }
+
+        // When: limit 2로 nextCursor가 없을 때까지 조회
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = get("/api/posts").param("limit", "2");
+            if(cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            var page = objectMapper.readValue(body, Map.class);
+            for(Object item : (List<?>) page.get("items")) {
+                titles.add((String) ((Map<?, ?>) item).get("title"));
+            }
+            cursor = (String) page.get("nextCursor");
+            pages++;
+        } while(cursor != null);
+
+        // Then: 최신순으로 중복/누락 없이 3페이지
+        assertThat(pages).isEqualTo(3);
+        assertThat(titles).containsExactly(
+                "페이지 게시글 5", "페이지 게시글 4", "페이지 게시글 3", "페이지 게시글 2", "페이지 게시글 1");
+
+        // 잘못된 커서는 400
+        mockMvc.perform(get("/api/posts").param("cursor", "%%%"))
+                .andExpect(status().isBadRequest());
+
+        log.info("=== 커서 페이지네이션 테스트 완료 ===");
+    }
 }
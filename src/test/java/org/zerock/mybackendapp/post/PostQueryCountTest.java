@@ -0,0 +1,146 @@
+package org.zerock.mybackendapp.post;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.zerock.mybackendapp.post.domain.Post;
+import org.zerock.mybackendapp.post.repository.PostRepository;
+import org.zerock.mybackendapp.user.domain.User;
+import org.zerock.mybackendapp.user.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 목록 API가 작성자 수와 관계없이 한 번의 쿼리로 응답하는지 확인 (N+1 회귀 방지)
+// open-in-view가 꺼진 실제 요청 흐름을 보기 위해 @Transactional 없이 실행하고 직접 정리한다
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "jwt.secret=testSecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLongForTesting",
+        "jwt.access-token-expiration=3600000",
+        "jwt.refresh-token-expiration=604800000",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.zerock.mybackendapp.post.StatementCounter"
+})
+@Slf4j
+@DisplayName("게시글 조회 쿼리 수 테스트")
+class PostQueryCountTest {
+
+    private static final int AUTHORS = 5;
+    private static final int POSTS_PER_AUTHOR = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<User> authors = new ArrayList<>();
+    private final List<Post> posts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        log.info("=== 쿼리 수 테스트 데이터 생성 ===");
+        for(int i = 0; i < AUTHORS; i++) {
+            User author = userRepository.save(User.of("querycount" + i, "querycount" + i + "@example.com"));
+            authors.add(author);
+            for(int j = 0; j < POSTS_PER_AUTHOR; j++) {
+                posts.add(postRepository.save(Post.of("쿼리 수 게시글 " + i + "-" + j, "내용 " + j, author)));
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAll(posts);
+        userRepository.deleteAll(authors);
+    }
+
+    @Test
+    @DisplayName("게시글 목록은 작성자 수와 관계없이 쿼리 1번")
+    void getPosts() throws Exception {
+        log.info("=== 게시글 목록 쿼리 수 테스트 시작 ===");
+
+        // When
+        countStatements(get("/api/posts").param("limit", "100"))
+                .andExpect(jsonPath("$.items[0].authorUsername").exists());
+
+        // Then
+        assertThat(StatementCounter.count()).isEqualTo(1);
+
+        log.info("=== 게시글 목록 쿼리 수 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("작성자별 게시글 목록은 쿼리 1번")
+    void getPostsByAuthor() throws Exception {
+        log.info("=== 작성자별 게시글 쿼리 수 테스트 시작 ===");
+
+        // When
+        countStatements(get("/api/posts/author/{authorId}", authors.get(0).getId()).param("excerpt", "true"))
+                .andExpect(jsonPath("$.items.length()").value(POSTS_PER_AUTHOR))
+                .andExpect(jsonPath("$.items[0].authorUsername").value("querycount0"));
+
+        // Then
+        assertThat(StatementCounter.count()).isEqualTo(1);
+
+        log.info("=== 작성자별 게시글 쿼리 수 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("게시글 검색은 쿼리 1번")
+    void searchPosts() throws Exception {
+        log.info("=== 게시글 검색 쿼리 수 테스트 시작 ===");
+
+        // When
+        countStatements(get("/api/posts/search").param("keyword", "쿼리 수 게시글").param("limit", "100"))
+                .andExpect(jsonPath("$.items.length()").value(AUTHORS * POSTS_PER_AUTHOR));
+
+        // Then
+        assertThat(StatementCounter.count()).isEqualTo(1);
+
+        log.info("=== 게시글 검색 쿼리 수 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("게시글 상세는 작성자를 조인해 쿼리 1번, 응답에 프록시가 섞이지 않는다")
+    void getPostById() throws Exception {
+        log.info("=== 게시글 상세 쿼리 수 테스트 시작 ===");
+
+        // Given
+        Post post = posts.get(posts.size() - 1);
+
+        // When
+        countStatements(get("/api/posts/{id}", post.getId()))
+                .andExpect(jsonPath("$.author.username").value("querycount" + (AUTHORS - 1)))
+                .andExpect(jsonPath("$.author.hibernateLazyInitializer").doesNotExist());
+
+        // Then
+        assertThat(StatementCounter.count()).isEqualTo(1);
+
+        log.info("=== 게시글 상세 쿼리 수 테스트 완료 ===");
+    }
+
+    private ResultActions countStatements(RequestBuilder request) throws Exception {
+        StatementCounter.reset();
+        ResultActions result = mockMvc.perform(request).andExpect(status().isOk());
+        log.info("실행된 SQL 수: {}", StatementCounter.count());
+        return result;
+    }
+}
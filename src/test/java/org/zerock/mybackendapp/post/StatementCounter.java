@@ -0,0 +1,24 @@
+package org.zerock.mybackendapp.post;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// 현재 스레드에서 Hibernate가 준비한 SQL 문 수를 센다
+// MockMvc 요청은 테스트 스레드에서 처리되므로, 스케줄러 등 다른 스레드의 쿼리가 섞이지 않는다
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Integer> COUNT = ThreadLocal.withInitial(() -> 0);
+
+    public static void reset() {
+        COUNT.set(0);
+    }
+
+    public static int count() {
+        return COUNT.get();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.set(COUNT.get() + 1);
+        return sql;
+    }
+}
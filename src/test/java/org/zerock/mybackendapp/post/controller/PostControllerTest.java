@@ -16,10 +16,16 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.zerock.mybackendapp.auth.filter.JwtAuthenticationFilter;
 import org.zerock.mybackendapp.config.SecurityConfig;
 import org.zerock.mybackendapp.post.domain.Post;
+import org.zerock.mybackendapp.post.dto.CursorPage;
+import org.zerock.mybackendapp.post.dto.PostSearchHit;
+import org.zerock.mybackendapp.post.dto.PostSearchResult;
+import org.zerock.mybackendapp.post.dto.PostSuggestion;
+import org.zerock.mybackendapp.post.dto.PostSummary;
 import org.zerock.mybackendapp.post.service.PostService;
 import org.zerock.mybackendapp.user.controller.UserController;
 import org.zerock.mybackendapp.user.domain.User;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -161,33 +167,50 @@ class PostControllerTest {
         log.info("=== 모든 게시글 조회 API 테스트 시작 ===");
 
         // Given
-        User author = User.of("author", "author@example.com");
-        ReflectionTestUtils.setField(author, "id", 1L);
-
-        Post post1 = Post.of("게시글 1", "내용 1", author);
-        Post post2 = Post.of("게시글 2", "내용 2", author);
-        ReflectionTestUtils.setField(post1, "id", 1L);
-        ReflectionTestUtils.setField(post2, "id", 2L);
+        PostSummary post1 = summary(1L, "게시글 1", null);
+        PostSummary post2 = summary(2L, "게시글 2", null);
 
-        List<Post> mockPosts = List.of(post1, post2);
+        List<PostSummary> mockPosts = List.of(post1, post2);
 
-        given(postService.getAllPosts()).willReturn(mockPosts);
+        given(postService.getPosts(2, null, false)).willReturn(new CursorPage<>(mockPosts, "next-cursor"));
 
         log.info("Mock 게시글 데이터: {} 개", mockPosts.size());
 
         // When & Then
-        mockMvc.perform(get("/api/posts"))
+        mockMvc.perform(get("/api/posts").param("limit", "2"))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(2))
-                .andExpect(jsonPath("$[0].title").value("게시글 1"))
-                .andExpect(jsonPath("$[1].title").value("게시글 2"));
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].title").value("게시글 1"))
+                .andExpect(jsonPath("$.items[1].title").value("게시글 2"))
+                .andExpect(jsonPath("$.items[0].authorUsername").value("author"))
+                .andExpect(jsonPath("$.items[0].content").doesNotExist())
+                .andExpect(jsonPath("$.items[0].excerpt").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
 
-        verify(postService).getAllPosts();
+        verify(postService).getPosts(2, null, false);
 
         log.info("=== 모든 게시글 조회 API 테스트 완료 ===");
     }
 
+    @Test
+    @DisplayName("잘못된 커서로 게시글 목록 조회 시 400")
+    void getAllPosts_InvalidCursor() throws Exception {
+        log.info("=== 잘못된 커서 목록 조회 API 테스트 시작 ===");
+
+        // Given
+        given(postService.getPosts(null, "broken", false))
+                .willThrow(new IllegalArgumentException("유효하지 않은 커서입니다."));
+
+        // When & Then
+        mockMvc.perform(get("/api/posts").param("cursor", "broken"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("유효하지 않은 커서입니다."));
+
+        log.info("=== 잘못된 커서 목록 조회 API 테스트 완료 ===");
+    }
+
     @Test
     @DisplayName("ID로 게시글 조회 API 성공")
     void getPostById_Success() throws Exception {
@@ -248,59 +271,104 @@ class PostControllerTest {
         // Given
         Long authorId = 1L;
 
-        User author = User.of("author", "author@example.com");
-        ReflectionTestUtils.setField(author, "id", authorId);
-
-        Post post1 = Post.of("작성자 게시글 1", "내용 1", author);
-        Post post2 = Post.of("작성자 게시글 2", "내용 2", author);
-        List<Post> authorPosts = List.of(post1, post2);
+        PostSummary post1 = summary(2L, "작성자 게시글 1", "내용 1");
+        PostSummary post2 = summary(1L, "작성자 게시글 2", "내용 2");
+        List<PostSummary> authorPosts = List.of(post1, post2);
 
-        given(postService.getPostsByAuthor(authorId)).willReturn(authorPosts);
+        given(postService.getPostsByAuthor(authorId, null, null, true)).willReturn(new CursorPage<>(authorPosts, null));
 
         log.info("작성자 ID: {}, 예상 게시글 수: {}", authorId, authorPosts.size());
 
         // When & Then
-        mockMvc.perform(get("/api/posts/author/{authorId}", authorId))
+        mockMvc.perform(get("/api/posts/author/{authorId}", authorId)
+                        .param("excerpt", "true"))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(2))
-                .andExpect(jsonPath("$[0].title").value("작성자 게시글 1"))
-                .andExpect(jsonPath("$[1].title").value("작성자 게시글 2"));
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].title").value("작성자 게시글 1"))
+                .andExpect(jsonPath("$.items[0].excerpt").value("내용 1"))
+                .andExpect(jsonPath("$.items[1].title").value("작성자 게시글 2"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
 
-        verify(postService).getPostsByAuthor(authorId);
+        verify(postService).getPostsByAuthor(authorId, null, null, true);
 
         log.info("=== 작성자별 게시글 조회 API 테스트 완료 ===");
     }
 
     @Test
-    @DisplayName("제목으로 게시글 검색 API")
-    void searchPostsByTitle() throws Exception {
-        log.info("=== 제목으로 게시글 검색 API 테스트 시작 ===");
+    @DisplayName("게시글 검색 API")
+    void searchPosts() throws Exception {
+        log.info("=== 게시글 검색 API 테스트 시작 ===");
 
         // Given
         String keyword = "Spring";
 
-        User author = User.of("author", "author@example.com");
-        Post post1 = Post.of("Spring Boot 가이드", "내용 1", author);
-        Post post2 = Post.of("Spring Security 튜토리얼", "내용 2", author);
-        List<Post> searchResults = List.of(post1, post2);
+        PostSearchHit hit1 = new PostSearchHit(2L, "Spring Boot 가이드", 1L, "author", null,
+                LocalDateTime.of(2025, 1, 2, 0, 0), LocalDateTime.of(2025, 1, 2, 0, 0), 0.9, null);
+        PostSearchHit hit2 = new PostSearchHit(1L, "Spring Security 튜토리얼", 1L, "author", null,
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 1, 0, 0), 0.5, null);
 
-        given(postService.searchPostsByTitle(keyword)).willReturn(searchResults);
+        given(postService.searchPosts(keyword, 2, null, false))
+                .willReturn(new PostSearchResult(List.of(hit1, hit2), 2));
 
-        log.info("검색 키워드: {}, 예상 결과: {} 개", keyword, searchResults.size());
+        log.info("검색 키워드: {}", keyword);
 
         // When & Then
         mockMvc.perform(get("/api/posts/search")
-                        .param("keyword", keyword))
+                        .param("keyword", keyword)
+                        .param("limit", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].title").value("Spring Boot 가이드"))
+                .andExpect(jsonPath("$.items[0].score").value(0.9))
+                .andExpect(jsonPath("$.items[1].title").value("Spring Security 튜토리얼"))
+                .andExpect(jsonPath("$.nextOffset").value(2))
+                .andExpect(jsonPath("$.correctedKeyword").doesNotExist());
+
+        verify(postService).searchPosts(keyword, 2, null, false);
+
+        log.info("=== 게시글 검색 API 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("빈 검색어로 검색 시 400")
+    void searchPosts_BlankKeyword() throws Exception {
+        log.info("=== 빈 검색어 검색 API 테스트 시작 ===");
+
+        // Given
+        given(postService.searchPosts(" ", null, null, false))
+                .willThrow(new IllegalArgumentException("검색어는 필수입니다."));
+
+        // When & Then
+        mockMvc.perform(get("/api/posts/search").param("keyword", " "))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("검색어는 필수입니다."));
+
+        log.info("=== 빈 검색어 검색 API 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("제목 자동완성 API")
+    void suggestTitles() throws Exception {
+        log.info("=== 제목 자동완성 API 테스트 시작 ===");
+
+        // Given
+        given(postService.suggestTitles("spr", null))
+                .willReturn(List.of(new PostSuggestion(2L, "Spring Boot 가이드"), new PostSuggestion(1L, "Spring 입문")));
+
+        // When & Then
+        mockMvc.perform(get("/api/posts/suggest").param("prefix", "spr"))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(2))
-                .andExpect(jsonPath("$[0].title").value("Spring Boot 가이드"))
-                .andExpect(jsonPath("$[1].title").value("Spring Security 튜토리얼"));
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[0].title").value("Spring Boot 가이드"));
 
-        verify(postService).searchPostsByTitle(keyword);
+        verify(postService).suggestTitles("spr", null);
 
-        log.info("=== 제목으로 게시글 검색 API 테스트 완료 ===");
+        log.info("=== 제목 자동완성 API 테스트 완료 ===");
     }
 
     @Test
@@ -367,4 +435,9 @@ class PostControllerTest {
 
         log.info("=== 게시글 삭제 API 성공 테스트 완료 ===");
     }
-}
\ No newline at end of file
+
+    private PostSummary summary(Long id, String title, String excerpt) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0).plusHours(id);
+        return new PostSummary(id, title, 1L, "author", excerpt, createdAt, createdAt);
+    }
+}
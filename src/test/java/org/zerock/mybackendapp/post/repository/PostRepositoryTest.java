@@ -7,8 +7,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.TestPropertySource;
 import org.zerock.mybackendapp.post.domain.Post;
+import org.zerock.mybackendapp.post.dto.PostSearchHit;
+import org.zerock.mybackendapp.post.dto.PostSummary;
 import org.zerock.mybackendapp.user.domain.User;
 import org.zerock.mybackendapp.user.repository.UserRepository;
 
@@ -149,6 +152,125 @@ class PostRepositoryTest {
         log.info("=== 최신 게시글 순으로 조회 테스트 완료 ===");
     }
 
+    @Test
+    @DisplayName("키셋 페이지 조회는 커서 이후 게시글만 최신순으로 반환")
+    void findPageBefore() {
+        log.info("=== 키셋 페이지 조회 테스트 시작 ===");
+
+        // Given
+        Post post1 = postRepository.save(Post.of("첫 번째", "내용1", testAuthor));
+        Post post2 = postRepository.save(Post.of("두 번째", "내용2", testAuthor));
+        Post post3 = postRepository.save(Post.of("세 번째", "내용3", testAuthor));
+
+        // When
+        List<PostSummary> firstPage = postRepository.findFirstPage(0, PageRequest.ofSize(2));
+        PostSummary last = firstPage.get(firstPage.size() - 1);
+        List<PostSummary> nextPage = postRepository.findPageBefore(last.createdAt(), last.id(), 0, PageRequest.ofSize(2));
+
+        // Then
+        assertThat(firstPage).extracting(PostSummary::title).containsExactly("세 번째", "두 번째");
+        assertThat(nextPage).extracting(PostSummary::title).containsExactly("첫 번째");
+
+        log.info("=== 키셋 페이지 조회 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("목록 요약은 본문 없이 작성자 정보와 요청한 길이의 발췌만 담는다")
+    void findSummaries() {
+        log.info("=== 게시글 요약 조회 테스트 시작 ===");
+
+        // Given
+        postRepository.save(Post.of("Spring 요약", "가나다라마바사아자차카타파하", testAuthor));
+
+        // When
+        List<PostSummary> withoutExcerpt = postRepository.findFirstPageByAuthorId(testAuthor.getId(), 0, PageRequest.ofSize(10));
+        List<PostSummary> withExcerpt = postRepository.findFirstPageByAuthorId(testAuthor.getId(), 5, PageRequest.ofSize(10));
+
+        // Then
+        assertThat(withoutExcerpt).hasSize(1);
+        PostSummary summary = withoutExcerpt.get(0);
+        assertThat(summary.title()).isEqualTo("Spring 요약");
+        assertThat(summary.authorId()).isEqualTo(testAuthor.getId());
+        assertThat(summary.authorUsername()).isEqualTo(testAuthor.getUsername());
+        assertThat(summary.createdAt()).isNotNull();
+        assertThat(summary.excerpt()).isNull();
+
+        assertThat(withExcerpt).extracting(PostSummary::excerpt).containsExactly("가나다라마");
+
+        log.info("=== 게시글 요약 조회 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("전문 검색은 제목 일치를 본문 일치보다 높게 순위 매긴다")
+    void searchRanksTitleMatchesFirst() {
+        log.info("=== 전문 검색 순위 테스트 시작 ===");
+
+        // Given
+        Post contentMatch = postRepository.save(Post.of("백엔드 일지", "오늘은 postgres 인덱스를 정리했다", testAuthor));
+        Post titleMatch = postRepository.save(Post.of("postgres 튜닝 정리", "실행 계획 보는 법", testAuthor));
+        postRepository.save(Post.of("React 기초", "컴포넌트와 상태", testAuthor));
+
+        // When
+        List<PostSearchHit> hits = postRepository.search("postgres", 0, 10, 0);
+
+        // Then
+        assertThat(hits).extracting(PostSearchHit::id).containsExactly(titleMatch.getId(), contentMatch.getId());
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+        assertThat(hits.get(0).authorUsername()).isEqualTo(testAuthor.getUsername());
+
+        log.info("=== 전문 검색 순위 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 제목도 부분 문자열로 찾고, 같은 점수는 최신순")
+    void searchMatchesTitleSubstring() {
+        log.info("=== 제목 부분 문자열 검색 테스트 시작 ===");
+
+        // Given
+        Post older = postRepository.save(Post.of("스프링을 배우자", "내용", testAuthor));
+        Post newer = postRepository.save(Post.of("스프링을 배우자", "내용", testAuthor));
+        postRepository.save(Post.of("100% 완성", "퍼센트 검색", testAuthor));
+
+        // When
+        List<PostSearchHit> hits = postRepository.search("스프링", 0, 10, 0);
+        List<PostSearchHit> firstOnly = postRepository.search("스프링", 0, 1, 0);
+        List<PostSearchHit> secondOnly = postRepository.search("스프링", 0, 1, 1);
+        List<PostSearchHit> percent = postRepository.search("100%", 0, 10, 0);
+        List<PostSearchHit> wildcard = postRepository.search("링%배", 0, 10, 0);
+
+        // Then
+        assertThat(hits).extracting(PostSearchHit::id).containsExactly(newer.getId(), older.getId());
+        assertThat(firstOnly).extracting(PostSearchHit::id).containsExactly(newer.getId());
+        assertThat(secondOnly).extracting(PostSearchHit::id).containsExactly(older.getId());
+        assertThat(percent).extracting(PostSearchHit::title).containsExactly("100% 완성");
+        assertThat(wildcard).isEmpty();
+
+        log.info("=== 제목 부분 문자열 검색 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("3글자보다 짧은 한글 검색어는 제목 2-gram으로 단어 중간에서도 찾는다")
+    void searchShortKeywordUsesHangulBigrams() {
+        log.info("=== 짧은 검색어 검색 테스트 시작 ===");
+
+        // Given
+        Post wordMatch = postRepository.save(Post.of("캐시 전략", "내용", testAuthor));
+        Post particleMatch = postRepository.save(Post.of("로컬캐시를 비우자", "내용", testAuthor));
+        postRepository.save(Post.of("Redis 입문", "내용", testAuthor));
+
+        // When
+        List<PostSearchHit> hits = postRepository.search("캐시", 0, 10, 0);
+        List<PostSearchHit> oneSyllable = postRepository.search("캐", 0, 10, 0);
+
+        // Then
+        assertThat(hits).extracting(PostSearchHit::id)
+                .containsExactlyInAnyOrder(wordMatch.getId(), particleMatch.getId());
+        assertThat(hits.get(0).id()).isEqualTo(wordMatch.getId());
+        assertThat(oneSyllable).isEmpty();
+
+        log.info("=== 짧은 검색어 검색 테스트 완료 ===");
+    }
+
     @Test
     @DisplayName("전체 게시글 수 확인")
     void countAllPosts() {
@@ -0,0 +1,159 @@
+package org.zerock.mybackendapp.post.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.zerock.mybackendapp.post.dto.PostSearchHit;
+import org.zerock.mybackendapp.user.domain.User;
+import org.zerock.mybackendapp.user.repository.UserRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글 수가 늘어도 검색 p99가 평평한지 확인 (로컬 PostgreSQL 필요, ./gradlew performanceTest)
+// 테이블을 단계적으로 키우면서 매번 같은 수의 검색 대상(needle)만 두고 지연을 잰다
+// 대량 삽입을 커밋해야 통계/인덱스가 실제와 같아지므로 @Transactional 없이 실행하고 직접 정리한다
+@Tag("performance")
+@SpringBootTest
+@TestPropertySource(properties = {
+        "jwt.secret=testSecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLongForTesting",
+        "jwt.access-token-expiration=3600000",
+        "jwt.refresh-token-expiration=604800000",
+        "logging.level.org.hibernate.SQL=INFO",
+        "spring.jpa.show-sql=false"
+})
+@Slf4j
+@DisplayName("게시글 검색 지연 테스트")
+class PostSearchLatencyTest {
+
+    private static final int[] TABLE_SIZES = {10_000, 50_000, 200_000};
+    private static final int NEEDLES = 20;
+    private static final int WARMUP = 50;
+    private static final int SAMPLES = 500;
+    // 2글자 검색어 (트라이그램으로 좁힐 수 없는 길이). 채움 글에 없는 단어라야 결과가 NEEDLES건으로 고정된다
+    private static final String SHORT_NEEDLE = "바늘";
+    private static final String[] WORDS = {
+            "스프링", "리액트", "데이터베이스", "인덱스", "트랜잭션", "캐시", "배포", "모니터링",
+            "spring", "react", "kotlin", "docker", "kubernetes", "redis", "kafka", "graphql"
+    };
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.of("searchlatency", "searchlatency@example.com"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from posts where author_id = ?", author.getId());
+        userRepository.delete(author);
+    }
+
+    @Test
+    @DisplayName("게시글 수가 20배로 늘어도 검색 p99는 비슷하다")
+    void p99StaysFlat() {
+        log.info("=== 검색 지연 테스트 시작 ===");
+
+        Random random = new Random(42);
+        insertNeedles();
+
+        List<Long> p99s = new ArrayList<>();
+        int inserted = 0;
+        for(int size : TABLE_SIZES) {
+            insertFiller(size - inserted, random);
+            inserted = size;
+            jdbcTemplate.execute("analyze posts");
+
+            long p99 = measureP99("needlekeyword");
+            long substringP99 = measureP99("edlekeywo");
+            long shortP99 = measureP99(SHORT_NEEDLE);
+            p99s.add(Math.max(p99, Math.max(substringP99, shortP99)));
+            log.info("게시글 {}개: 전문 검색 p99={}us, 부분 문자열 p99={}us, 2글자 p99={}us",
+                    size, p99 / 1000, substringP99 / 1000, shortP99 / 1000);
+        }
+
+        // Then: 가장 큰 테이블의 p99가 가장 작은 테이블의 3배(+ 측정 잡음 2ms)를 넘지 않는다
+        assertThat(p99s.get(p99s.size() - 1)).isLessThanOrEqualTo(p99s.get(0) * 3 + 2_000_000);
+
+        log.info("=== 검색 지연 테스트 완료 ===");
+    }
+
+    private long measureP99(String keyword) {
+        for(int i = 0; i < WARMUP; i++) {
+            postRepository.search(keyword, 0, 20, 0);
+        }
+        long[] samples = new long[SAMPLES];
+        for(int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            List<PostSearchHit> hits = postRepository.search(keyword, 0, 20, 0);
+            samples[i] = System.nanoTime() - start;
+            assertThat(hits).hasSize(NEEDLES);
+        }
+        Arrays.sort(samples);
+        return samples[(int) Math.ceil(SAMPLES * 0.99) - 1];
+    }
+
+    private void insertNeedles() {
+        List<Object[]> rows = new ArrayList<>();
+        for(int i = 0; i < NEEDLES; i++) {
+            rows.add(row("needlekeyword " + SHORT_NEEDLE + " 게시글 " + i, "검색 대상 본문 " + i));
+        }
+        batchInsert(rows);
+    }
+
+    private void insertFiller(int count, Random random) {
+        List<Object[]> rows = new ArrayList<>(1000);
+        for(int i = 0; i < count; i++) {
+            rows.add(row(sentence(random, 4), sentence(random, 60)));
+            if(rows.size() == 1000) {
+                batchInsert(rows);
+                rows.clear();
+            }
+        }
+        batchInsert(rows);
+    }
+
+    private Object[] row(String title, String content) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return new Object[]{title, content, author.getId(), now, now};
+    }
+
+    private void batchInsert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+                "insert into posts (title, content, author_id, created_at, updated_at) values (?, ?, ?, ?, ?)", rows);
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < words; i++) {
+            if(i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
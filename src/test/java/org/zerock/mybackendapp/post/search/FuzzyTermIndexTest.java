@@ -0,0 +1,124 @@
+package org.zerock.mybackendapp.post.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("오타 교정 단어 사전 테스트")
+class FuzzyTermIndexTest {
+
+    @Test
+    @DisplayName("편집 거리는 인접 글자 바꿈을 한 번으로 세고 상한을 넘으면 상한 + 1")
+    void distance() {
+        log.info("=== 편집 거리 테스트 시작 ===");
+
+        // When & Then
+        assertThat(FuzzyTermIndex.distance("postgres", "postgres", 2)).isZero();
+        assertThat(FuzzyTermIndex.distance("postgers", "postgres", 2)).isEqualTo(1);
+        assertThat(FuzzyTermIndex.distance("sprng", "spring", 2)).isEqualTo(1);
+        assertThat(FuzzyTermIndex.distance("kotlin", "kotiln", 2)).isEqualTo(1);
+        assertThat(FuzzyTermIndex.distance("스프리", "스프링", 1)).isEqualTo(1);
+        assertThat(FuzzyTermIndex.distance("java", "javascript", 2)).isEqualTo(3);
+        assertThat(FuzzyTermIndex.distance("abcdef", "fedcba", 2)).isEqualTo(3);
+
+        log.info("=== 편집 거리 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("가장 가까운 단어로 고치고, 거리가 같으면 더 많은 게시글에 나온 단어를 고른다")
+    void correctsToClosestWord() {
+        log.info("=== 단어 교정 테스트 시작 ===");
+
+        // Given
+        FuzzyTermIndex index = new FuzzyTermIndex();
+        index.add("postgres");
+        index.add("postgresql");
+        index.add("kotlin");
+        index.add("react");
+        index.add("reach");
+        index.add("reach");
+
+        // When & Then
+        assertThat(index.correct("postgers")).isEqualTo("postgres");
+        assertThat(index.correct("kotiln")).isEqualTo("kotlin");
+        assertThat(index.correct("reacz")).isEqualTo("reach");
+        assertThat(index.correct("zzzzzz")).isNull();
+        // 너무 짧은 단어는 고치지 않는다
+        assertThat(index.correct("ko")).isNull();
+
+        log.info("=== 단어 교정 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("어떤 제목에도 남아 있지 않은 단어는 교정 후보가 아니다")
+    void skipsRemovedWords() {
+        log.info("=== 삭제된 단어 테스트 시작 ===");
+
+        // Given
+        FuzzyTermIndex index = new FuzzyTermIndex();
+        index.add("kotlin");
+
+        // When
+        index.remove("kotlin");
+
+        // Then
+        assertThat(index.contains("kotlin")).isFalse();
+        assertThat(index.correct("kotiln")).isNull();
+        assertThat(index.size()).isZero();
+
+        log.info("=== 삭제된 단어 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("쓰이지 않게 된 단어는 트라이그램 목록에서도 걷어내 훑기 상한을 차지하지 않는다")
+    void compactsRemovedWords() {
+        log.info("=== 삭제된 단어 정리 테스트 시작 ===");
+
+        // Given: 같은 트라이그램을 가진 단어 5만 개를 넣었다가 모두 지움
+        FuzzyTermIndex index = new FuzzyTermIndex();
+        for(int i = 0; i < 50_000; i++) {
+            index.add("spring" + Integer.toString(i, 36));
+        }
+        int postings = index.postingCount();
+        for(int i = 0; i < 50_000; i++) {
+            index.remove("spring" + Integer.toString(i, 36));
+        }
+
+        // When
+        index.add("springboot");
+
+        // Then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.postingCount()).isLessThan(postings / 1000);
+        assertThat(index.correct("sprngboot")).isEqualTo("springboot");
+
+        log.info("=== 삭제된 단어 정리 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("사전이 커져도 거리를 계산하는 후보 수는 상한을 넘지 않는다")
+    void boundsCandidates() {
+        log.info("=== 후보 수 상한 테스트 시작 ===");
+
+        // Given: 모두 같은 트라이그램을 가진 단어 5만 개
+        FuzzyTermIndex index = new FuzzyTermIndex();
+        for(int i = 0; i < 50_000; i++) {
+            index.add("spring" + Integer.toString(i, 36));
+        }
+        index.add("springframework");
+
+        // When
+        int candidates = index.candidates("sprinsg", 2).size();
+
+        // Then
+        assertThat(candidates).isLessThanOrEqualTo(FuzzyTermIndex.MAX_CANDIDATES);
+        // 드문 트라이그램부터 훑으므로 흔한 트라이그램 목록이 길어도 찾는다
+        assertThat(index.correct("springframwork")).isEqualTo("springframework");
+        log.info("사전 {}개, 후보 {}개", index.size(), candidates);
+
+        log.info("=== 후보 수 상한 테스트 완료 ===");
+    }
+}
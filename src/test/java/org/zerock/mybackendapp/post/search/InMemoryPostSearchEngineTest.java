@@ -0,0 +1,305 @@
+package org.zerock.mybackendapp.post.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.zerock.mybackendapp.post.dto.PostSearchHit;
+import org.zerock.mybackendapp.post.repository.PostRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+@DisplayName("메모리 게시글 검색 엔진 테스트")
+class InMemoryPostSearchEngineTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private PostTitleSuggester suggester;
+    private InMemoryPostSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        // 색인/검색만 확인하므로 적재용 리포지토리는 쓰지 않는다
+        suggester = new PostTitleSuggester(null, Duration.ofMinutes(1));
+        engine = new InMemoryPostSearchEngine(null, suggester, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("제목에 나온 단어가 본문에만 나온 단어보다 높은 점수")
+    void ranksTitleMatchesFirst() {
+        log.info("=== BM25 순위 테스트 시작 ===");
+
+        // Given
+        engine.index(document(1L, "백엔드 일지", "오늘은 postgres 인덱스를 정리했다", 1));
+        engine.index(document(2L, "postgres 튜닝", "실행 계획 보는 법", 2));
+        engine.index(document(3L, "React 기초", "컴포넌트와 상태", 3));
+
+        // When
+        List<PostSearchHit> hits = engine.search("Postgres", 0, 10, 0);
+
+        // Then
+        assertThat(hits).extracting(PostSearchHit::id).containsExactly(2L, 1L);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+
+        log.info("=== BM25 순위 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("본문에서 검색어 부분을 강조한 스니펫과 발췌를 만든다")
+    void highlightsSnippet() {
+        log.info("=== 스니펫 강조 테스트 시작 ===");
+
+        // Given
+        engine.index(document(1L, "제목", "<b>태그</b>와 함께 Spring 설정을 정리했다", 1));
+
+        // When
+        PostSearchHit hit = engine.search("spring", 5, 10, 0).get(0);
+
+        // Then
+        assertThat(hit.snippet()).isEqualTo("&lt;b&gt;태그&lt;/b&gt;와 함께 <em>Spring</em> 설정을 정리했다");
+        assertThat(hit.excerpt()).isEqualTo("<b>태그");
+
+        log.info("=== 스니펫 강조 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 한글 단어도 찾고 검색어의 모든 단어를 포함한 게시글만 찾는다")
+    void matchesKoreanWords() {
+        log.info("=== 한글 검색 테스트 시작 ===");
+
+        // Given
+        engine.index(document(1L, "스프링을 배우자", "데이터베이스 연결부터", 1));
+        engine.index(document(2L, "스프 끓이는 법", "링 위의 권투", 2));
+        engine.index(document(3L, "자바 입문", "스프링 부트와 데이터베이스", 3));
+
+        // When
+        List<PostSearchHit> hits = engine.search("스프링", 0, 10, 0);
+        List<PostSearchHit> both = engine.search("스프링 베이스", 0, 10, 0);
+
+        // Then
+        assertThat(hits).extracting(PostSearchHit::id).containsExactly(1L, 3L);
+        assertThat(both).extracting(PostSearchHit::id).containsExactly(1L, 3L);
+        assertThat(hits.get(1).snippet()).isEqualTo("<em>스프링</em> 부트와 데이터베이스");
+        assertThat(engine.search("스프링 파이썬", 0, 10, 0)).isEmpty();
+
+        log.info("=== 한글 검색 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("색인에 없는 검색어 단어만 제목 단어 중 가장 가까운 것으로 고친다")
+    void correctsTypo() {
+        log.info("=== 검색어 교정 테스트 시작 ===");
+
+        // Given: 제목 단어 사전은 자동완성과 함께 같은 이벤트로 갱신된다
+        PostDocument document = document(1L, "Postgres 튜닝 가이드", "실행 계획 보는 법", 1);
+        engine.index(document);
+        suggester.put(PostTitle.from(document));
+
+        // When & Then
+        assertThat(engine.correct("postgers 실행")).contains("postgres 실행");
+        assertThat(engine.correct("Postgres 계획")).isEmpty();
+        assertThat(engine.search("postgres 실행", 0, 10, 0)).extracting(PostSearchHit::id).containsExactly(1L);
+
+        // When
+        engine.remove(1L);
+        suggester.remove(1L);
+
+        // Then
+        assertThat(engine.correct("postgers")).isEmpty();
+
+        log.info("=== 검색어 교정 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("수정하면 이전 단어로는 찾을 수 없고, 삭제하면 검색되지 않는다")
+    void updatesAndRemoves() {
+        log.info("=== 색인 갱신 테스트 시작 ===");
+
+        // Given
+        engine.index(document(1L, "kotlin 입문", "코루틴", 1));
+
+        // When
+        engine.index(document(1L, "java 입문", "스트림", 2));
+
+        // Then
+        assertThat(engine.search("kotlin", 0, 10, 0)).isEmpty();
+        assertThat(engine.search("java", 0, 10, 0)).extracting(PostSearchHit::title).containsExactly("java 입문");
+
+        // When
+        engine.remove(1L);
+
+        // Then
+        assertThat(engine.search("java", 0, 10, 0)).isEmpty();
+        assertThat(engine.search("입문", 0, 10, 0)).isEmpty();
+        assertThat(engine.postCount()).isZero();
+        assertThat(engine.postingBytes()).isZero();
+
+        log.info("=== 색인 갱신 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("더 오래된 내용으로는 덮어쓰지 않는다")
+    void ignoresStaleDocument() {
+        log.info("=== 오래된 내용 무시 테스트 시작 ===");
+
+        // Given
+        engine.index(document(1L, "새 제목", "내용", 5));
+
+        // When
+        engine.index(document(1L, "옛 제목", "내용", 1));
+
+        // Then
+        assertThat(engine.search("제목", 0, 10, 0)).extracting(PostSearchHit::title).containsExactly("새 제목");
+
+        log.info("=== 오래된 내용 무시 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("같은 점수는 최신순이고 offset/limit으로 나눠 받는다")
+    void pagesByOffset() {
+        log.info("=== 검색 페이지 테스트 시작 ===");
+
+        // Given
+        for(long id = 1; id <= 5; id++) {
+            engine.index(document(id, "같은 제목", "같은 내용", (int) id));
+        }
+
+        // When
+        List<PostSearchHit> first = engine.search("제목", 0, 2, 0);
+        List<PostSearchHit> second = engine.search("제목", 0, 2, 2);
+        List<PostSearchHit> beyond = engine.search("제목", 0, 2, 10);
+
+        // Then
+        assertThat(first).extracting(PostSearchHit::id).containsExactly(5L, 4L);
+        assertThat(second).extracting(PostSearchHit::id).containsExactly(3L, 2L);
+        assertThat(beyond).isEmpty();
+
+        log.info("=== 검색 페이지 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("색인을 갱신하는 중에도 검색이 막히거나 실패하지 않는다")
+    void searchesWhileIndexing() throws Exception {
+        log.info("=== 동시 색인/검색 테스트 시작 ===");
+
+        // Given
+        int documents = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        // When
+        Future<?> writer = executor.submit(() -> {
+            for(long id = 1; id <= documents; id++) {
+                engine.index(document(id, "동시성 게시글 " + id, "공통 본문 단어 " + (id % 10), (int) id));
+                if(id % 3 == 0) {
+                    engine.index(document(id - 1, "수정된 게시글 " + id, "공통 본문 단어", (int) id + documents));
+                }
+            }
+            writing.set(false);
+        });
+        List<Future<Integer>> readers = List.of(
+                executor.submit(() -> searchUntil(writing)),
+                executor.submit(() -> searchUntil(writing)),
+                executor.submit(() -> searchUntil(writing)));
+
+        writer.get(30, TimeUnit.SECONDS);
+        int searches = 0;
+        for(Future<Integer> reader : readers) {
+            searches += reader.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(engine.postCount()).isEqualTo(documents);
+        assertThat(engine.search("공통", 0, 100, 0)).hasSize(100);
+        log.info("색인 중 검색 횟수: {}", searches);
+
+        log.info("=== 동시 색인/검색 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 생성/수정된 게시글을 따라잡기로 반영")
+    void catchesUpWithOtherNodes() {
+        log.info("=== 색인 따라잡기 테스트 시작 ===");
+
+        // Given
+        PostRepository postRepository = mock(PostRepository.class);
+        InMemoryPostSearchEngine node = new InMemoryPostSearchEngine(postRepository, suggester, Duration.ofMinutes(1));
+        when(postRepository.streamAllDocuments()).thenReturn(Stream.of(document(1L, "kotlin 입문", "코루틴", 1)));
+        node.load();
+
+        // When: 다른 노드가 1번을 고치고 2번을 만들었다
+        when(postRepository.streamDocumentsUpdatedSince(any())).thenReturn(Stream.of(
+                document(1L, "java 입문", "스트림", 2),
+                document(2L, "java 심화", "리플렉션", 3)));
+        node.catchUp();
+
+        // Then
+        assertThat(node.search("kotlin", 0, 10, 0)).isEmpty();
+        assertThat(node.search("java", 0, 10, 0)).extracting(PostSearchHit::id).containsExactlyInAnyOrder(1L, 2L);
+
+        log.info("=== 색인 따라잡기 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("DB에 없는 게시글은 대조 때 빼되, 방금 바뀐 게시글과 이미 삭제한 게시글은 되살리지 않는다")
+    void reconcilesDeletions() {
+        log.info("=== 삭제 대조 테스트 시작 ===");
+
+        // Given
+        PostRepository postRepository = mock(PostRepository.class);
+        InMemoryPostSearchEngine node = new InMemoryPostSearchEngine(postRepository, suggester, Duration.ofMinutes(1));
+        LocalDateTime justNow = LocalDateTime.now();
+        when(postRepository.streamAllDocuments()).thenReturn(Stream.of(
+                document(1L, "남은 게시글", "공통", 1),
+                document(2L, "다른 노드에서 삭제된 게시글", "공통", 2),
+                new PostDocument(3L, "방금 만든 게시글", "공통", 1L, "author", justNow, justNow)));
+        node.load();
+
+        // When: DB에는 1번만 남아 있고, 3번은 대조를 시작한 뒤에 생겼다
+        when(postRepository.streamAllIds()).thenReturn(Stream.of(1L));
+        node.reconcileDeletions();
+
+        // Then
+        assertThat(node.search("공통", 0, 10, 0)).extracting(PostSearchHit::id).containsExactlyInAnyOrder(1L, 3L);
+
+        // When: 이 노드에서 1번을 삭제한 뒤, 삭제 전에 읽은 따라잡기 결과가 들어온다
+        node.remove(1L);
+        when(postRepository.streamDocumentsUpdatedSince(any())).thenReturn(Stream.of(document(1L, "남은 게시글", "공통", 1)));
+        node.catchUp();
+
+        // Then
+        assertThat(node.search("공통", 0, 10, 0)).extracting(PostSearchHit::id).containsExactly(3L);
+
+        log.info("=== 삭제 대조 테스트 완료 ===");
+    }
+
+    private int searchUntil(AtomicBoolean writing) {
+        int searches = 0;
+        while(writing.get()) {
+            List<PostSearchHit> hits = engine.search("공통 게시글", 0, 10, 0);
+            assertThat(hits.size()).isLessThanOrEqualTo(10);
+            searches++;
+        }
+        return searches;
+    }
+
+    private static PostDocument document(Long id, String title, String content, int minutes) {
+        LocalDateTime time = BASE_TIME.plusMinutes(minutes);
+        return new PostDocument(id, title, content, 1L, "author", time, time);
+    }
+}
@@ -0,0 +1,95 @@
+package org.zerock.mybackendapp.post.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.zerock.mybackendapp.post.domain.Post;
+import org.zerock.mybackendapp.post.service.PostService;
+import org.zerock.mybackendapp.user.domain.User;
+import org.zerock.mybackendapp.user.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 커밋된 생성/수정/삭제가 메모리 색인에 반영되는지 확인
+// 커밋 후 이벤트로 갱신되므로 @Transactional 없이 실행하고 직접 정리한다
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "jwt.secret=testSecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLongForTesting",
+        "jwt.access-token-expiration=3600000",
+        "jwt.refresh-token-expiration=604800000",
+        "post.search.engine=memory"
+})
+@Slf4j
+@DisplayName("메모리 검색 엔진 통합 테스트")
+class InMemoryPostSearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostSearchEngine postSearchEngine;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.of("memorysearch", "memorysearch@example.com"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.delete(author);
+    }
+
+    @Test
+    @DisplayName("게시글 생성/수정/삭제가 커밋되면 검색 결과에 반영된다")
+    void followsPostChanges() throws Exception {
+        log.info("=== 메모리 검색 색인 갱신 테스트 시작 ===");
+
+        assertThat(postSearchEngine).isInstanceOf(InMemoryPostSearchEngine.class);
+
+        // 생성
+        Post post = postService.createPost("zebraword 관찰 일지", "초원에서 zebraword 무리를 보았다", author.getId());
+
+        mockMvc.perform(get("/api/posts/search").param("keyword", "zebraword"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(post.getId()))
+                .andExpect(jsonPath("$.items[0].snippet").value("초원에서 <em>zebraword</em> 무리를 보았다"));
+
+        // 수정
+        postService.updatePost(post.getId(), "giraffeword 관찰 일지", "목이 긴 giraffeword", author.getId());
+
+        mockMvc.perform(get("/api/posts/search").param("keyword", "zebraword"))
+                .andExpect(jsonPath("$.items.length()").value(0));
+        mockMvc.perform(get("/api/posts/search").param("keyword", "giraffeword"))
+                .andExpect(jsonPath("$.items[0].title").value("giraffeword 관찰 일지"));
+
+        // 삭제
+        postService.deletePost(post.getId(), author.getId());
+
+        mockMvc.perform(get("/api/posts/search").param("keyword", "giraffeword"))
+                .andExpect(jsonPath("$.items.length()").value(0));
+
+        log.info("=== 메모리 검색 색인 갱신 테스트 완료 ===");
+    }
+}
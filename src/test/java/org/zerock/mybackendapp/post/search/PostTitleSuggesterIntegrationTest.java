@@ -0,0 +1,112 @@
+package org.zerock.mybackendapp.post.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.zerock.mybackendapp.post.domain.Post;
+import org.zerock.mybackendapp.post.service.PostService;
+import org.zerock.mybackendapp.user.domain.User;
+import org.zerock.mybackendapp.user.repository.UserRepository;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 커밋된 생성/수정/삭제가 제목 자동완성에 반영되는지 확인 (인증 없이 호출)
+// 커밋 후 이벤트로 갱신되므로 @Transactional 없이 실행하고 직접 정리한다
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "jwt.secret=testSecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLongForTesting",
+        "jwt.access-token-expiration=3600000",
+        "jwt.refresh-token-expiration=604800000"
+})
+@Slf4j
+@DisplayName("제목 자동완성 통합 테스트")
+class PostTitleSuggesterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.of("suggestuser", "suggestuser@example.com"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.delete(author);
+    }
+
+    @Test
+    @DisplayName("게시글 생성/수정/삭제가 커밋되면 자동완성 결과에 반영된다")
+    void followsPostChanges() throws Exception {
+        log.info("=== 제목 자동완성 갱신 테스트 시작 ===");
+
+        // 생성
+        Post older = postService.createPost("Suggestword 첫 번째 글", "내용", author.getId());
+        Post newer = postService.createPost("suggestword 두 번째 글", "내용", author.getId());
+
+        mockMvc.perform(get("/api/posts/suggest").param("prefix", "SUGGESTW"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(newer.getId()))
+                .andExpect(jsonPath("$[1].title").value("Suggestword 첫 번째 글"));
+
+        // 수정
+        postService.updatePost(older.getId(), "다른 제목", "내용", author.getId());
+
+        mockMvc.perform(get("/api/posts/suggest").param("prefix", "suggestword"))
+                .andExpect(jsonPath("$.length()").value(1));
+        mockMvc.perform(get("/api/posts/suggest").param("prefix", "다른 제"))
+                .andExpect(jsonPath("$[0].id").value(older.getId()));
+
+        // 삭제
+        postService.deletePost(older.getId(), author.getId());
+        postService.deletePost(newer.getId(), author.getId());
+
+        mockMvc.perform(get("/api/posts/suggest").param("prefix", "suggestword"))
+                .andExpect(jsonPath("$.length()").value(0));
+
+        log.info("=== 제목 자동완성 갱신 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("기본(database) 검색 엔진에서도 결과가 없는 오타 검색어를 제목 단어로 고쳐 다시 찾는다")
+    void correctsTypoWithDatabaseEngine() throws Exception {
+        log.info("=== database 엔진 오타 교정 테스트 시작 ===");
+
+        // Given
+        Post post = postService.createPost("Correctword 정리 노트", "내용", author.getId());
+
+        try {
+            // When & Then
+            mockMvc.perform(get("/api/posts/search").param("keyword", "correctwrod"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.correctedKeyword").value("correctword"))
+                    .andExpect(jsonPath("$.items[0].id").value(post.getId()));
+        } finally {
+            postService.deletePost(post.getId(), author.getId());
+        }
+
+        log.info("=== database 엔진 오타 교정 테스트 완료 ===");
+    }
+}
@@ -0,0 +1,106 @@
+package org.zerock.mybackendapp.post.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.zerock.mybackendapp.post.dto.PostSuggestion;
+import org.zerock.mybackendapp.post.repository.PostRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+@DisplayName("제목 자동완성 노드 간 따라잡기 테스트")
+class PostTitleSuggesterTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private PostRepository postRepository;
+    private PostTitleSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        suggester = new PostTitleSuggester(postRepository, Duration.ofMinutes(1));
+        when(postRepository.streamAllTitles()).thenReturn(Stream.of(
+                title(1L, "spring 입문", 1),
+                title(2L, "spring 심화", 2)));
+        suggester.load();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 생성/수정된 제목을 따라잡기로 반영")
+    void catchesUpWithOtherNodes() {
+        log.info("=== 자동완성 따라잡기 테스트 시작 ===");
+
+        // When: 다른 노드가 1번 제목을 고치고 3번을 만들었다
+        when(postRepository.streamTitlesUpdatedSince(any())).thenReturn(Stream.of(
+                title(1L, "kotlin 입문", 3),
+                title(3L, "spring 실전", 4)));
+        suggester.catchUp();
+
+        // Then
+        assertThat(suggester.suggest("spring", 10)).extracting(PostSuggestion::id).containsExactly(3L, 2L);
+        assertThat(suggester.suggest("kotlin", 10)).extracting(PostSuggestion::id).containsExactly(1L);
+
+        log.info("=== 자동완성 따라잡기 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("DB에 없는 제목은 대조 때 빼고, 이미 삭제한 제목은 따라잡기로 되살리지 않는다")
+    void reconcilesDeletions() {
+        log.info("=== 자동완성 삭제 대조 테스트 시작 ===");
+
+        // When: 다른 노드에서 2번이 삭제됐다
+        when(postRepository.streamAllIds()).thenReturn(Stream.of(1L));
+        suggester.reconcileDeletions();
+
+        // Then
+        assertThat(suggester.suggest("spring", 10)).extracting(PostSuggestion::id).containsExactly(1L);
+
+        // When: 이 노드에서 1번을 삭제한 뒤, 삭제 전에 읽은 따라잡기 결과가 들어온다
+        suggester.remove(1L);
+        when(postRepository.streamTitlesUpdatedSince(any())).thenReturn(Stream.of(title(1L, "spring 입문", 1)));
+        suggester.catchUp();
+
+        // Then
+        assertThat(suggester.suggest("spring", 10)).isEmpty();
+
+        log.info("=== 자동완성 삭제 대조 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("제목 단어 사전으로 오타를 고치고, 제목 단어나 엔진이 아는 단어는 그대로 둔다")
+    void correctsFromTitleWords() {
+        log.info("=== 제목 단어 오타 교정 테스트 시작 ===");
+
+        // When & Then
+        assertThat(suggester.correct("sprnig 입문", word -> false)).contains("spring 입문");
+        assertThat(suggester.correct("spring 입문", word -> false)).isEmpty();
+        assertThat(suggester.correct("sprnig", word -> word.equals("sprnig"))).isEmpty();
+
+        // When: 제목을 바꾸면 이전 단어는 사전에서 빠진다
+        when(postRepository.streamTitlesUpdatedSince(any())).thenReturn(Stream.of(
+                title(1L, "kotlin 입문", 3),
+                title(2L, "kotlin 심화", 4)));
+        suggester.catchUp();
+
+        // Then
+        assertThat(suggester.correct("sprnig", word -> false)).isEmpty();
+        assertThat(suggester.correct("kotiln", word -> false)).contains("kotlin");
+
+        log.info("=== 제목 단어 오타 교정 테스트 완료 ===");
+    }
+
+    private static PostTitle title(Long id, String title, int minutes) {
+        LocalDateTime time = BASE_TIME.plusMinutes(minutes);
+        return new PostTitle(id, title, time, time);
+    }
+}
@@ -0,0 +1,86 @@
+package org.zerock.mybackendapp.post.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("검색 토큰 분리 테스트")
+class PostTokenizerTest {
+
+    @Test
+    @DisplayName("한글은 겹치는 2음절로, 한 음절뿐인 구간은 그 음절로 나눈다")
+    void hangulBigrams() {
+        log.info("=== 한글 2음절 분리 테스트 시작 ===");
+
+        // When
+        List<String> tokens = PostTokenizer.tokenize("스프링을 배우자 책");
+
+        // Then
+        assertThat(tokens).containsExactly("스프", "프링", "링을", "배우", "우자", "책");
+
+        log.info("=== 한글 2음절 분리 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("영문/숫자는 소문자 단어로, 전각 문자는 반각으로 바꾸고 한글과 붙어 있어도 나눈다")
+    void latinTerms() {
+        log.info("=== 영문 단어 분리 테스트 시작 ===");
+
+        // When
+        List<String> tokens = PostTokenizer.tokenize("Spring을　ＪＰＡ-Hibernate6, 2025년");
+
+        // Then
+        assertThat(tokens).containsExactly("spring", "을", "jpa", "hibernate6", "2025", "년");
+
+        log.info("=== 영문 단어 분리 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("너무 긴 단어는 앞부분만 쓰고 빈 입력은 토큰이 없다")
+    void edgeCases() {
+        log.info("=== 토큰 분리 경계값 테스트 시작 ===");
+
+        // When
+        List<String> longWord = PostTokenizer.tokenize("a".repeat(100));
+
+        // Then
+        assertThat(longWord).containsExactly("a".repeat(PostTokenizer.MAX_TERM_LENGTH));
+        assertThat(PostTokenizer.tokenize(null)).isEmpty();
+        assertThat(PostTokenizer.tokenize(" ,.!? ")).isEmpty();
+
+        log.info("=== 토큰 분리 경계값 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("단어 빈도는 가중치를 곱해 세고 같은 단어는 한 번만 남는다")
+    void countsTerms() {
+        log.info("=== 단어 빈도 테스트 시작 ===");
+
+        // Given
+        TermCounter counter = new TermCounter();
+        PostTokenizer tokenizer = PostTokenizer.current();
+
+        // When
+        tokenizer.tokenize("스프링 스프링", counter.weight(3));
+        tokenizer.tokenize("스프링 java", counter.weight(1));
+
+        // Then
+        List<String> terms = new ArrayList<>();
+        for(int i = 0; i < counter.size(); i++) {
+            terms.add(counter.term(i) + "=" + counter.count(i));
+        }
+        assertThat(terms).containsExactly("스프=7", "프링=7", "java=1");
+        assertThat(counter.total()).isEqualTo(15);
+        assertThat(counter.contains("java")).isTrue();
+        assertThat(counter.clear().size()).isZero();
+        assertThat(counter.contains("java")).isFalse();
+
+        log.info("=== 단어 빈도 테스트 완료 ===");
+    }
+}
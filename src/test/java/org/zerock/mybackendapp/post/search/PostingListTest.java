@@ -0,0 +1,85 @@
+package org.zerock.mybackendapp.post.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("포스팅 목록 테스트")
+class PostingListTest {
+
+    @Test
+    @DisplayName("순서와 상관없이 추가해도 ID 오름차순으로 순회하고 같은 ID는 빈도만 바뀐다")
+    void withKeepsOrder() {
+        log.info("=== 포스팅 추가 테스트 시작 ===");
+
+        // Given
+        PostingList list = PostingList.EMPTY
+                .with(10, 1)
+                .with(300, 2)
+                .with(5, 3)
+                .with(1_000_000_000_000L, 4)
+                .with(300, 7);
+
+        // When
+        List<long[]> postings = collect(list);
+
+        // Then
+        assertThat(list.size()).isEqualTo(4);
+        assertThat(postings).containsExactly(
+                new long[]{5, 3}, new long[]{10, 1}, new long[]{300, 7}, new long[]{1_000_000_000_000L, 4});
+
+        log.info("=== 포스팅 추가 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("삭제 후에도 남은 항목의 ID가 그대로 복원된다")
+    void withoutKeepsRemainingIds() {
+        log.info("=== 포스팅 삭제 테스트 시작 ===");
+
+        // Given
+        PostingList list = PostingList.EMPTY.with(1, 1).with(2, 1).with(130, 2).with(200, 1);
+
+        // When
+        PostingList removedMiddle = list.without(130);
+        PostingList removedMissing = list.without(50);
+        PostingList removedAll = PostingList.EMPTY.with(7, 1).without(7);
+
+        // Then
+        assertThat(collect(removedMiddle)).containsExactly(new long[]{1, 1}, new long[]{2, 1}, new long[]{200, 1});
+        assertThat(removedMiddle.with(300, 1).size()).isEqualTo(4);
+        assertThat(removedMissing).isSameAs(list);
+        assertThat(removedAll.isEmpty()).isTrue();
+
+        log.info("=== 포스팅 삭제 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("연속된 ID는 항목당 2바이트로 저장된다")
+    void compressesDenseIds() {
+        log.info("=== 포스팅 압축 테스트 시작 ===");
+
+        // Given
+        PostingList list = PostingList.EMPTY;
+        for(long id = 1; id <= 10_000; id++) {
+            list = list.with(id, 1);
+        }
+
+        // Then
+        assertThat(list.sizeInBytes()).isEqualTo(20_000);
+        log.info("10000개 포스팅 크기: {} bytes", list.sizeInBytes());
+
+        log.info("=== 포스팅 압축 테스트 완료 ===");
+    }
+
+    private static List<long[]> collect(PostingList list) {
+        List<long[]> postings = new ArrayList<>();
+        list.forEach((docId, frequency) -> postings.add(new long[]{docId, frequency}));
+        return postings;
+    }
+}
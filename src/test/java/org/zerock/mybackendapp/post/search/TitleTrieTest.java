@@ -0,0 +1,123 @@
+package org.zerock.mybackendapp.post.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("제목 트라이 테스트")
+class TitleTrieTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("대소문자/전각/공백을 정규화해 접두어가 같은 제목을 최신순으로 찾는다")
+    void suggestsByPrefix() {
+        log.info("=== 접두어 검색 테스트 시작 ===");
+
+        // Given
+        TitleTrie trie = new TitleTrie(10);
+        trie.put(title(1L, "Spring Boot 입문", 1));
+        trie.put(title(2L, "spring  security", 2));
+        trie.put(title(3L, "Ｓｐｒｉｎｇ Batch", 3));
+        trie.put(title(4L, "스프링 부트", 4));
+        trie.put(title(5L, "Sprint 회고", 5));
+
+        // When & Then
+        assertThat(ids(trie.suggest("spring", 10))).containsExactly(3L, 2L, 1L);
+        assertThat(ids(trie.suggest("SPRIN", 10))).containsExactly(5L, 3L, 2L, 1L);
+        assertThat(ids(trie.suggest("spring s", 10))).containsExactly(2L);
+        assertThat(ids(trie.suggest("  spring   b", 10))).containsExactly(3L, 1L);
+        assertThat(ids(trie.suggest("스프", 10))).containsExactly(4L);
+        assertThat(trie.suggest("springs", 10)).isEmpty();
+        assertThat(trie.suggest(" ", 10)).isEmpty();
+        assertThat(ids(trie.suggest("sp", 2))).containsExactly(5L, 3L);
+
+        log.info("=== 접두어 검색 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("노드마다 최신 topSize개만 들고 있고, 삭제되면 다음 최신 제목이 올라온다")
+    void keepsRecentTop() {
+        log.info("=== 최신 목록 유지 테스트 시작 ===");
+
+        // Given
+        TitleTrie trie = new TitleTrie(2);
+        trie.put(title(1L, "java 1", 1));
+        trie.put(title(2L, "java 2", 2));
+        trie.put(title(3L, "java 3", 3));
+
+        // When
+        trie.remove(3L);
+
+        // Then
+        assertThat(ids(trie.suggest("java", 10))).containsExactly(2L, 1L);
+
+        log.info("=== 최신 목록 유지 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("제목을 바꾸거나 지우면 이전 제목으로는 찾을 수 없고 빈 노드는 정리된다")
+    void updatesAndRemoves() {
+        log.info("=== 제목 갱신 테스트 시작 ===");
+
+        // Given
+        TitleTrie trie = new TitleTrie(10);
+        trie.put(title(1L, "kotlin 입문", 1));
+        trie.put(title(2L, "kotlin 코루틴", 2));
+        int nodes = trie.nodeCount();
+
+        // When
+        trie.put(title(1L, "java 입문", 3));
+
+        // Then
+        assertThat(ids(trie.suggest("kotlin", 10))).containsExactly(2L);
+        assertThat(ids(trie.suggest("java", 10))).containsExactly(1L);
+
+        // When
+        trie.remove(1L);
+        trie.remove(2L);
+
+        // Then
+        assertThat(trie.suggest("k", 10)).isEmpty();
+        assertThat(trie.suggest("j", 10)).isEmpty();
+        assertThat(trie.size()).isZero();
+        assertThat(trie.nodeCount()).isEqualTo(1);
+        assertThat(nodes).isEqualTo(4);
+
+        log.info("=== 제목 갱신 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("같은 제목의 게시글도 따로 관리한다")
+    void keepsDuplicateTitles() {
+        log.info("=== 같은 제목 테스트 시작 ===");
+
+        // Given
+        TitleTrie trie = new TitleTrie(10);
+        trie.put(title(1L, "공지", 1));
+        trie.put(title(2L, "공지", 2));
+
+        // When
+        trie.remove(2L);
+
+        // Then
+        assertThat(ids(trie.suggest("공", 10))).containsExactly(1L);
+
+        log.info("=== 같은 제목 테스트 완료 ===");
+    }
+
+    private static PostTitle title(Long id, String title, int minutes) {
+        LocalDateTime time = BASE_TIME.plusMinutes(minutes);
+        return new PostTitle(id, title, time, time);
+    }
+
+    private static List<Long> ids(List<PostTitle> titles) {
+        return titles.stream().map(PostTitle::id).toList();
+    }
+}
@@ -8,20 +8,36 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.data.domain.PageRequest;
 import org.zerock.mybackendapp.post.domain.Post;
+import org.zerock.mybackendapp.post.dto.CursorPage;
+import org.zerock.mybackendapp.post.dto.PostCursor;
+import org.zerock.mybackendapp.post.dto.PostSearchHit;
+import org.zerock.mybackendapp.post.dto.PostSearchResult;
+import org.zerock.mybackendapp.post.dto.PostSuggestion;
+import org.zerock.mybackendapp.post.dto.PostSummary;
 import org.zerock.mybackendapp.post.repository.PostRepository;
+import org.zerock.mybackendapp.post.search.PostChangeEvent;
+import org.zerock.mybackendapp.post.search.PostDocument;
+import org.zerock.mybackendapp.post.search.PostSearchEngine;
+import org.zerock.mybackendapp.post.search.PostTitleSuggester;
 import org.zerock.mybackendapp.user.domain.User;
 import org.zerock.mybackendapp.user.service.UserService;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.never;
 
@@ -37,6 +53,15 @@ public class PostServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private PostSearchEngine postSearchEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PostTitleSuggester postTitleSuggester;
+
     @InjectMocks
     private PostService postService;
 
@@ -91,6 +116,7 @@ public class PostServiceTest {
 
         verify(userService).getUserById(authorId);
         verify(postRepository).save(any(Post.class));
+        verify(eventPublisher).publishEvent(any(PostChangeEvent.class));
 
         log.info("=== 새 게시글 생성 성공 테스트 완료 ===");
     }
@@ -121,31 +147,86 @@ public class PostServiceTest {
     }
 
     @Test
-    @DisplayName("모든 게시글 조회")
-    void getAllPosts() {
-        log.info("=== 모든 게시글 조회 테스트 시작 ===");
+    @DisplayName("첫 페이지 조회 시 다음 페이지 커서 반환")
+    void getPosts_FirstPage() {
+        log.info("=== 첫 페이지 조회 테스트 시작 ===");
+
+        // Given: limit 2에 3개가 조회되면 다음 페이지가 있다
+        PostSummary post1 = postAt("게시글 3", 3L, LocalDateTime.of(2025, 1, 3, 0, 0));
+        PostSummary post2 = postAt("게시글 2", 2L, LocalDateTime.of(2025, 1, 2, 0, 0));
+        PostSummary post3 = postAt("게시글 1", 1L, LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        given(postRepository.findFirstPage(0, PageRequest.ofSize(3))).willReturn(List.of(post1, post2, post3));
+
+        // When
+        CursorPage<PostSummary> page = postService.getPosts(2, null, false);
+
+        // Then
+        assertThat(page.items()).extracting(PostSummary::title)
+                .containsExactly("게시글 3", "게시글 2");
+        assertThat(page.nextCursor()).isNotNull();
+        assertThat(PostCursor.decode(page.nextCursor()))
+                .isEqualTo(new PostCursor(LocalDateTime.of(2025, 1, 2, 0, 0), 2L));
+
+        log.info("=== 첫 페이지 조회 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("커서 이후 페이지 조회, 마지막 페이지는 커서 없음")
+    void getPosts_LastPage() {
+        log.info("=== 커서 페이지 조회 테스트 시작 ===");
 
         // Given
-        Post post1 = Post.of("게시글 1", "내용 1", mockAuthor);
-        Post post2 = Post.of("게시글 2", "내용 2", mockAuthor);
-        List<Post> mockPosts = List.of(post1, post2);
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2025, 1, 2, 0, 0), 2L);
+        PostSummary post = postAt("게시글 1", 1L, LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        given(postRepository.findPageBefore(cursor.createdAt(), cursor.id(), 0, PageRequest.ofSize(3)))
+                .willReturn(List.of(post));
+
+        // When
+        CursorPage<PostSummary> page = postService.getPosts(2, cursor.encode(), false);
+
+        // Then
+        assertThat(page.items()).containsExactly(post);
+        assertThat(page.nextCursor()).isNull();
+        verify(postRepository, never()).findFirstPage(anyInt(), any());
 
-        given(postRepository.findAllByOrderByCreatedAtDesc()).willReturn(mockPosts);
+        log.info("=== 커서 페이지 조회 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("limit 기본값과 최대값 적용")
+    void getPosts_PageSizeBounds() {
+        log.info("=== 페이지 크기 제한 테스트 시작 ===");
 
-        log.info("Mock 게시글 목록 설정: {} 개", mockPosts.size());
+        // Given
+        given(postRepository.findFirstPage(anyInt(), any())).willReturn(List.of());
 
         // When
-        List<Post> allPosts = postService.getAllPosts();
+        postService.getPosts(null, null, false);
+        postService.getPosts(10_000, null, false);
 
         // Then
-        assertThat(allPosts).hasSize(2);
-        assertThat(allPosts).extracting(Post::getTitle)
-                .containsExactly("게시글 1", "게시글 2");
+        verify(postRepository).findFirstPage(0, PageRequest.ofSize(PostService.DEFAULT_PAGE_SIZE + 1));
+        verify(postRepository).findFirstPage(0, PageRequest.ofSize(PostService.MAX_PAGE_SIZE + 1));
+
+        log.info("=== 페이지 크기 제한 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("잘못된 limit이나 커서는 거절")
+    void getPosts_InvalidArguments() {
+        log.info("=== 잘못된 페이지 요청 테스트 시작 ===");
 
-        verify(postRepository).findAllByOrderByCreatedAtDesc();
+        // When & Then
+        assertThatThrownBy(() -> postService.getPosts(0, null, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("limit");
+        assertThatThrownBy(() -> postService.getPosts(10, "not-a-cursor", false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
 
-        log.info("조회된 게시글: {} 개", allPosts.size());
-        log.info("=== 모든 게시글 조회 테스트 완료 ===");
+        log.info("=== 잘못된 페이지 요청 테스트 완료 ===");
     }
 
     @Test
@@ -155,7 +236,7 @@ public class PostServiceTest {
 
         // Given
         Long postId = 1L;
-        given(postRepository.findById(postId)).willReturn(Optional.of(mockPost));
+        given(postRepository.findWithAuthorById(postId)).willReturn(Optional.of(mockPost));
 
         log.info("조회할 게시글 ID: {}", postId);
 
@@ -166,12 +247,55 @@ public class PostServiceTest {
         assertThat(foundPost).isPresent();
         assertThat(foundPost.get().getTitle()).isEqualTo("테스트 게시글");
 
-        verify(postRepository).findById(postId);
+        verify(postRepository).findWithAuthorById(postId);
 
         log.info("게시글 조회 성공: {}", foundPost.get());
         log.info("=== ID로 게시글 조회 성공 테스트 완료 ===");
     }
 
+    @Test
+    @DisplayName("작성자별 게시글 커서 페이지 조회")
+    void getPostsByAuthor_WithCursor() {
+        log.info("=== 작성자별 커서 페이지 조회 테스트 시작 ===");
+
+        // Given
+        Long authorId = 1L;
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2025, 1, 3, 0, 0), 3L);
+        PostSummary post2 = postAt("작성자 게시글 2", 2L, LocalDateTime.of(2025, 1, 2, 0, 0));
+        PostSummary post1 = postAt("작성자 게시글 1", 1L, LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        given(postRepository.findPageByAuthorIdBefore(authorId, cursor.createdAt(), cursor.id(), 0, PageRequest.ofSize(2)))
+                .willReturn(List.of(post2, post1));
+
+        // When
+        CursorPage<PostSummary> page = postService.getPostsByAuthor(authorId, 1, cursor.encode(), false);
+
+        // Then
+        assertThat(page.items()).containsExactly(post2);
+        assertThat(PostCursor.decode(page.nextCursor())).isEqualTo(new PostCursor(post2.createdAt(), 2L));
+
+        log.info("=== 작성자별 커서 페이지 조회 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("없는 작성자는 추가 조회 없이 빈 페이지")
+    void getPostsByAuthor_UnknownAuthor() {
+        log.info("=== 없는 작성자 조회 테스트 시작 ===");
+
+        // Given
+        given(postRepository.findFirstPageByAuthorId(eq(999L), anyInt(), any())).willReturn(List.of());
+
+        // When
+        CursorPage<PostSummary> page = postService.getPostsByAuthor(999L, null, null, false);
+
+        // Then
+        assertThat(page.items()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+        verify(userService, never()).getUserById(anyLong());
+
+        log.info("=== 없는 작성자 조회 테스트 완료 ===");
+    }
+
     @Test
     @DisplayName("작성자별 게시글 조회")
     void getPostsByAuthor() {
@@ -179,58 +303,168 @@ public class PostServiceTest {
 
         // Given
         Long authorId = 1L;
-        Post post1 = Post.of("작성자 게시글 1", "내용 1", mockAuthor);
-        Post post2 = Post.of("작성자 게시글 2", "내용 2", mockAuthor);
-        List<Post> authorPosts = List.of(post1, post2);
+        PostSummary post1 = postAt("작성자 게시글 1", 2L, LocalDateTime.of(2025, 1, 2, 0, 0));
+        PostSummary post2 = postAt("작성자 게시글 2", 1L, LocalDateTime.of(2025, 1, 1, 0, 0));
+        List<PostSummary> authorPosts = List.of(post1, post2);
 
-        given(userService.getUserById(authorId)).willReturn(Optional.of(mockAuthor));
-        given(postRepository.findByAuthorOrderByCreatedAtDesc(mockAuthor)).willReturn(authorPosts);
+        given(postRepository.findFirstPageByAuthorId(
+                authorId, PostService.EXCERPT_LENGTH, PageRequest.ofSize(PostService.DEFAULT_PAGE_SIZE + 1)))
+                .willReturn(authorPosts);
 
         log.info("작성자 ID: {}, 예상 게시글 수: {}", authorId, authorPosts.size());
 
         // When
-        List<Post> foundPosts = postService.getPostsByAuthor(authorId);
+        CursorPage<PostSummary> page = postService.getPostsByAuthor(authorId, null, null, true);
+        List<PostSummary> foundPosts = page.items();
 
         // Then
         assertThat(foundPosts).hasSize(2);
-        assertThat(foundPosts).extracting(Post::getTitle)
+        assertThat(foundPosts).extracting(PostSummary::title)
                 .containsExactly("작성자 게시글 1", "작성자 게시글 2");
+        assertThat(page.nextCursor()).isNull();
 
-        verify(userService).getUserById(authorId);
-        verify(postRepository).findByAuthorOrderByCreatedAtDesc(mockAuthor);
+        // 작성자를 미리 조회하지 않는다
+        verify(userService, never()).getUserById(anyLong());
 
         log.info("작성자별 게시글 조회 완료: {} 개", foundPosts.size());
         log.info("=== 작성자별 게시글 조회 테스트 완료 ===");
     }
 
     @Test
-    @DisplayName("제목으로 게시글 검색")
-    void searchPostsByTitle() {
-        log.info("=== 제목으로 게시글 검색 테스트 시작 ===");
+    @DisplayName("게시글 검색")
+    void searchPosts() {
+        log.info("=== 게시글 검색 테스트 시작 ===");
 
         // Given
         String keyword = "Spring";
-        Post post1 = Post.of("Spring Boot 가이드", "내용 1", mockAuthor);
-        Post post2 = Post.of("Spring Security 튜토리얼", "내용 2", mockAuthor);
-        List<Post> searchResults = List.of(post1, post2);
+        PostSearchHit hit1 = hitAt("Spring Boot 가이드", 2L, 0.9);
+        PostSearchHit hit2 = hitAt("Spring Security 튜토리얼", 1L, 0.5);
+        List<PostSearchHit> searchResults = List.of(hit1, hit2);
 
-        given(postRepository.findByTitleContaining(keyword)).willReturn(searchResults);
+        given(postSearchEngine.search(keyword, 0, PostService.DEFAULT_PAGE_SIZE + 1, 0)).willReturn(searchResults);
 
         log.info("검색 키워드: {}, 예상 결과: {} 개", keyword, searchResults.size());
 
         // When
-        List<Post> foundPosts = postService.searchPostsByTitle(keyword);
+        PostSearchResult result = postService.searchPosts(" " + keyword + " ", null, null, false);
 
         // Then
-        assertThat(foundPosts).hasSize(2);
-        assertThat(foundPosts).extracting(Post::getTitle)
+        assertThat(result.items()).extracting(PostSearchHit::title)
                 .containsExactly("Spring Boot 가이드", "Spring Security 튜토리얼");
+        assertThat(result.nextOffset()).isNull();
+
+        verify(postRepository).search(keyword, 0, PostService.DEFAULT_PAGE_SIZE + 1, 0);
+
+        log.info("검색 결과: {} 개", result.items().size());
+        result.items().forEach(hit -> log.info("  - {} ({})", hit.title(), hit.score()));
+        log.info("=== 게시글 검색 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("검색 결과가 limit보다 많으면 다음 offset 반환")
+    void searchPosts_NextOffset() {
+        log.info("=== 검색 다음 페이지 테스트 시작 ===");
+
+        // Given
+        given(postSearchEngine.search("Spring", PostService.EXCERPT_LENGTH, 3, 4))
+                .willReturn(List.of(hitAt("a", 3L, 0.3), hitAt("b", 2L, 0.2), hitAt("c", 1L, 0.1)));
+
+        // When
+        PostSearchResult result = postService.searchPosts("Spring", 2, 4, true);
+
+        // Then
+        assertThat(result.items()).extracting(PostSearchHit::title).containsExactly("a", "b");
+        assertThat(result.nextOffset()).isEqualTo(6);
+
+        log.info("=== 검색 다음 페이지 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("다음 offset이 최대 offset을 넘으면 마지막 페이지로 보고 다음 offset을 주지 않는다")
+    void searchPosts_NextOffsetBeyondMax() {
+        log.info("=== 검색 최대 offset 경계 테스트 시작 ===");
+
+        // Given
+        int max = PostService.MAX_SEARCH_OFFSET;
+        given(postSearchEngine.search("Spring", 0, 3, max - 2))
+                .willReturn(List.of(hitAt("a", 3L, 0.3), hitAt("b", 2L, 0.2), hitAt("c", 1L, 0.1)));
+        given(postSearchEngine.search("Spring", 0, 2, max - 1))
+                .willReturn(List.of(hitAt("b", 2L, 0.2), hitAt("c", 1L, 0.1)));
+        given(postSearchEngine.search("Spring", 0, 2, max))
+                .willReturn(List.of(hitAt("c", 1L, 0.1), hitAt("d", 0L, 0.05)));
+
+        // When & Then: 다음 offset이 정확히 최대값이면 이어 읽을 수 있다
+        assertThat(postService.searchPosts("Spring", 2, max - 2, false).nextOffset()).isEqualTo(max);
+
+        // When & Then: 넘으면 결과가 더 있어도 다음 offset은 없다
+        PostSearchResult beyond = postService.searchPosts("Spring", 2, max - 1, false);
+        assertThat(beyond.items()).extracting(PostSearchHit::title).containsExactly("b", "c");
+        assertThat(beyond.nextOffset()).isNull();
+        assertThat(postService.searchPosts("Spring", 2, max, false).nextOffset()).isNull();
+
+        log.info("=== 검색 최대 offset 경계 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("결과가 없으면 오타를 고친 검색어로 다시 찾고 고친 검색어를 함께 반환")
+    void searchPosts_CorrectedKeyword() {
+        log.info("=== 검색어 교정 테스트 시작 ===");
+
+        // Given
+        given(postSearchEngine.search("Sprnig", 0, PostService.DEFAULT_PAGE_SIZE + 1, 0)).willReturn(List.of());
+        given(postSearchEngine.correct("Sprnig")).willReturn(Optional.of("spring"));
+        given(postSearchEngine.search("spring", 0, PostService.DEFAULT_PAGE_SIZE + 1, 0)).willReturn(List.of(hitAt("Spring 입문", 1L, 0.5)));
+
+        // When
+        PostSearchResult result = postService.searchPosts(" Sprnig ", null, null, false);
+
+        // Then
+        assertThat(result.items()).extracting(PostSearchHit::title).containsExactly("Spring 입문");
+        assertThat(result.correctedKeyword()).isEqualTo("spring");
+        assertThat(result.nextOffset()).isNull();
+
+        log.info("=== 검색어 교정 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("제목 자동완성은 limit을 최대 개수로 줄이고 0 이하는 거절")
+    void suggestTitles() {
+        log.info("=== 제목 자동완성 테스트 시작 ===");
+
+        // Given
+        List<PostSuggestion> suggestions = List.of(new PostSuggestion(2L, "Spring Boot"), new PostSuggestion(1L, "Spring"));
+        given(postTitleSuggester.suggest("spr", PostTitleSuggester.MAX_SUGGESTIONS)).willReturn(suggestions);
+
+        // When
+        List<PostSuggestion> result = postService.suggestTitles("spr", 100);
+
+        // Then
+        assertThat(result).isEqualTo(suggestions);
+        assertThatThrownBy(() -> postService.suggestTitles("spr", 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("limit");
+
+        log.info("=== 제목 자동완성 테스트 완료 ===");
+    }
 
-        verify(postRepository).findByTitleContaining(keyword);
+    @Test
+    @DisplayName("빈 검색어나 범위를 벗어난 offset은 거절")
+    void searchPosts_InvalidArguments() {
+        log.info("=== 잘못된 검색 요청 테스트 시작 ===");
 
-        log.info("검색 결과: {} 개", foundPosts.size());
-        foundPosts.forEach(post -> log.info("  - {}", post.getTitle()));
-        log.info("=== 제목으로 게시글 검색 테스트 완료 ===");
+        // When & Then
+        assertThatThrownBy(() -> postService.searchPosts(" ", null, null, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("검색어는 필수입니다.");
+        assertThatThrownBy(() -> postService.searchPosts("Spring", null, -1, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("offset");
+        assertThatThrownBy(() -> postService.searchPosts("Spring", null, PostService.MAX_SEARCH_OFFSET + 1, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("offset");
+        verify(postSearchEngine, never()).search(anyString(), anyInt(), anyInt(), anyInt());
+
+        log.info("=== 잘못된 검색 요청 테스트 완료 ===");
     }
 
     @Test
@@ -244,9 +478,9 @@ public class PostServiceTest {
         String newTitle = "업데이트된 제목";
         String newContent = "업데이트된 내용";
 
-        given(postRepository.findById(postId)).willReturn(Optional.of(mockPost));
+        given(postRepository.findWithAuthorById(postId)).willReturn(Optional.of(mockPost));
         given(userService.getUserById(authorId)).willReturn(Optional.of(mockAuthor));
-        given(postRepository.save(any(Post.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(postRepository.saveAndFlush(any(Post.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         log.info("업데이트 정보: postId={}, newTitle={}", postId, newTitle);
 
@@ -257,9 +491,10 @@ public class PostServiceTest {
         assertThat(updatedPost.getTitle()).isEqualTo(newTitle);
         assertThat(updatedPost.getContent()).isEqualTo(newContent);
 
-        verify(postRepository).findById(postId);
+        verify(postRepository).findWithAuthorById(postId);
         verify(userService).getUserById(authorId);
-        verify(postRepository).save(mockPost);
+        verify(postRepository).saveAndFlush(mockPost);
+        verify(eventPublisher).publishEvent(PostChangeEvent.saved(PostDocument.from(mockPost)));
 
         log.info("게시글 업데이트 완료: {}", updatedPost);
         log.info("=== 게시글 업데이트 성공 테스트 완료 ===");
@@ -278,7 +513,7 @@ public class PostServiceTest {
 
         User unauthorizedUser = User.of("unauthorized", "unauth@example.com");
 
-        given(postRepository.findById(postId)).willReturn(Optional.of(mockPost));
+        given(postRepository.findWithAuthorById(postId)).willReturn(Optional.of(mockPost));
         given(userService.getUserById(unauthorizedUserId)).willReturn(Optional.of(unauthorizedUser));
 
         log.info("권한 없는 사용자 ID: {}", unauthorizedUserId);
@@ -288,9 +523,10 @@ public class PostServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("게시글을 수정할 권한이 없습니다");
 
-        verify(postRepository).findById(postId);
+        verify(postRepository).findWithAuthorById(postId);
         verify(userService).getUserById(unauthorizedUserId);
-        verify(postRepository, never()).save(any(Post.class));
+        verify(postRepository, never()).saveAndFlush(any(Post.class));
+        verify(eventPublisher, never()).publishEvent(any());
 
         log.info("=== 권한 없는 사용자 게시글 업데이트 실패 테스트 완료 ===");
     }
@@ -316,6 +552,7 @@ public class PostServiceTest {
         verify(postRepository).findById(postId);
         verify(userService).getUserById(authorId);
         verify(postRepository).deleteById(postId);
+        verify(eventPublisher).publishEvent(PostChangeEvent.deleted(postId));
 
         log.info("게시글 삭제 완료");
         log.info("=== 게시글 삭제 성공 테스트 완료 ===");
@@ -345,4 +582,12 @@ public class PostServiceTest {
         log.info("=== 존재하지 않는 게시글 삭제 실패 테스트 완료 ===");
     }
 
+    private PostSearchHit hitAt(String title, Long id, double score) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0).plusDays(id);
+        return new PostSearchHit(id, title, mockAuthor.getId(), mockAuthor.getUsername(), null, createdAt, createdAt, score, null);
+    }
+
+    private PostSummary postAt(String title, Long id, LocalDateTime createdAt) {
+        return new PostSummary(id, title, mockAuthor.getId(), mockAuthor.getUsername(), null, createdAt, createdAt);
+    }
 }
@@ -154,6 +154,48 @@ class UserRepositoryTest {
         log.info("=== 사용자명 부분 검색 테스트 완료 ===");
     }
 
+    @Test
+    @DisplayName("사용자명/이메일 중복 시 INSERT 생략")
+    void insertIfAbsent() {
+        log.info("=== 중복 생략 INSERT 테스트 시작 ===");
+
+        // Given
+        Optional<User> inserted = userRepository.insertIfAbsent(User.of("insertuser", "insert@example.com"));
+
+        // When
+        Optional<User> sameUsername = userRepository.insertIfAbsent(User.of("insertuser", "other@example.com"));
+        Optional<User> sameEmail = userRepository.insertIfAbsent(User.of("otheruser", "insert@example.com"));
+
+        // Then
+        assertThat(inserted).isPresent();
+        assertThat(inserted.get().getId()).isNotNull();
+        assertThat(inserted.get().getCreatedAt()).isNotNull();
+        assertThat(sameUsername).isEmpty();
+        assertThat(sameEmail).isEmpty();
+        // 충돌 후에도 같은 트랜잭션에서 계속 조회할 수 있다
+        assertThat(userRepository.count()).isEqualTo(1);
+
+        log.info("=== 중복 생략 INSERT 테스트 완료 ===");
+    }
 
+    @Test
+    @DisplayName("패스워드 재해싱 저장은 기존 해시가 그대로일 때만 반영")
+    void updatePasswordIfUnchanged() {
+        log.info("=== 조건부 패스워드 갱신 테스트 시작 ===");
+
+        // Given
+        User user = userRepository.save(User.of("rehashuser", "rehash@example.com"));
+        String oldPassword = user.getPassword();
+
+        // When
+        int first = userRepository.updatePasswordIfUnchanged(user.getId(), oldPassword, "new-hash-1");
+        // 같은 이전 해시로 한 번 더 시도 (그 사이 다른 요청이 이미 바꾼 경우)
+        int second = userRepository.updatePasswordIfUnchanged(user.getId(), oldPassword, "new-hash-2");
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
 
+        log.info("=== 조건부 패스워드 갱신 테스트 완료 ===");
+    }
 }
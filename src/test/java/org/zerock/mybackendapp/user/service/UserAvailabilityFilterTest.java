@@ -0,0 +1,111 @@
+package org.zerock.mybackendapp.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.zerock.mybackendapp.user.domain.User;
+import org.zerock.mybackendapp.user.repository.UserRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@Slf4j
+@DisplayName("가입 가능 여부 필터 테스트")
+class UserAvailabilityFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserAvailabilityFilter userAvailabilityFilter;
+
+    @BeforeEach
+    void setUp() {
+        given(userRepository.findAllUsernames()).willReturn(List.of("takenuser"));
+        given(userRepository.findAllEmails()).willReturn(List.of("taken@example.com"));
+
+        userAvailabilityFilter = new UserAvailabilityFilter(userRepository, new SimpleMeterRegistry(), 1000, 0.001);
+        userAvailabilityFilter.load();
+    }
+
+    @Test
+    @DisplayName("filter에 없는 값은 DB 조회 없이 사용 가능")
+    void negativeSkipsDatabase() {
+        log.info("=== filter 음성 응답 테스트 시작 ===");
+
+        // When & Then
+        assertThat(userAvailabilityFilter.isUsernameAvailable("freshuser")).isTrue();
+        assertThat(userAvailabilityFilter.isEmailAvailable("fresh@example.com")).isTrue();
+
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userRepository, never()).existsByEmail(anyString());
+
+        log.info("=== filter 음성 응답 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("filter에 있는 값은 DB로 확인")
+    void positiveFallsBackToDatabase() {
+        log.info("=== filter 양성 응답 DB 확인 테스트 시작 ===");
+
+        // Given
+        given(userRepository.existsByUsername("takenuser")).willReturn(true);
+        given(userRepository.existsByEmail("taken@example.com")).willReturn(false); // 적재 후 변경된 경우
+
+        // When & Then
+        assertThat(userAvailabilityFilter.isUsernameAvailable("takenuser")).isFalse();
+        assertThat(userAvailabilityFilter.isEmailAvailable("taken@example.com")).isTrue();
+
+        verify(userRepository).existsByUsername("takenuser");
+        verify(userRepository).existsByEmail("taken@example.com");
+
+        log.info("=== filter 양성 응답 DB 확인 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("가입한 값은 바로 filter에 반영")
+    void markTakenUpdatesFilter() {
+        log.info("=== 가입 반영 테스트 시작 ===");
+
+        // Given
+        given(userRepository.existsByUsername("newuser")).willReturn(true);
+
+        // When
+        userAvailabilityFilter.markTaken(User.of("newuser", "new@example.com"));
+
+        // Then
+        assertThat(userAvailabilityFilter.isUsernameAvailable("newuser")).isFalse();
+        verify(userRepository).existsByUsername("newuser");
+
+        log.info("=== 가입 반영 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("재적재하면 더 이상 쓰이지 않는 값이 빠진다")
+    void rebuildDropsStaleValues() {
+        log.info("=== 재적재 테스트 시작 ===");
+
+        // Given
+        given(userRepository.findAllUsernames()).willReturn(List.of());
+        given(userRepository.findAllEmails()).willReturn(List.of());
+
+        // When
+        userAvailabilityFilter.rebuild();
+
+        // Then
+        assertThat(userAvailabilityFilter.isUsernameAvailable("takenuser")).isTrue();
+        verify(userRepository, never()).existsByUsername(anyString());
+
+        log.info("=== 재적재 테스트 완료 ===");
+    }
+}
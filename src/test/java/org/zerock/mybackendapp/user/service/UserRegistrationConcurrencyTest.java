@@ -0,0 +1,126 @@
+package org.zerock.mybackendapp.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.zerock.mybackendapp.user.domain.User;
+import org.zerock.mybackendapp.user.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 각 스레드가 자기 트랜잭션으로 커밋해야 하므로 @Transactional 없이 실행하고 직접 정리한다
+@SpringBootTest
+@TestPropertySource(properties = {
+        "jwt.secret=testSecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLongForTesting",
+        "jwt.access-token-expiration=3600000",
+        "jwt.refresh-token-expiration=604800000"
+})
+@Slf4j
+@DisplayName("동시 회원가입 테스트")
+class UserRegistrationConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByUsername("raceuser").ifPresent(userRepository::delete);
+        userRepository.findByEmail("race@example.com").ifPresent(userRepository::delete);
+    }
+
+    @Test
+    @DisplayName("같은 사용자명으로 동시에 가입하면 한 건만 성공")
+    void concurrentDuplicateUsername() throws Exception {
+        log.info("=== 동시 중복 사용자명 가입 테스트 시작 ===");
+
+        // Given
+        List<Callable<User>> tasks = new ArrayList<>();
+        for(int i = 0; i < THREADS; i++) {
+            String email = "race" + i + "@example.com";
+            tasks.add(() -> userService.createUser("raceuser", email));
+        }
+
+        // When
+        List<Throwable> failures = runTogether(tasks);
+
+        // Then
+        assertThat(failures).hasSize(THREADS - 1);
+        assertThat(failures).allSatisfy(failure -> assertThat(failure)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 존재하는 사용자명입니다: raceuser"));
+        assertThat(userRepository.existsByUsername("raceuser")).isTrue();
+
+        log.info("=== 동시 중복 사용자명 가입 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 동시에 가입하면 한 건만 성공")
+    void concurrentDuplicateEmail() throws Exception {
+        log.info("=== 동시 중복 이메일 가입 테스트 시작 ===");
+
+        // Given
+        List<Callable<User>> tasks = new ArrayList<>();
+        for(int i = 0; i < THREADS; i++) {
+            String username = "raceuser" + i;
+            tasks.add(() -> userService.createUser(username, "race@example.com"));
+        }
+
+        // When
+        List<Throwable> failures = runTogether(tasks);
+
+        // Then
+        assertThat(failures).hasSize(THREADS - 1);
+        assertThat(failures).allSatisfy(failure -> assertThat(failure)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 존재하는 이메일입니다: race@example.com"));
+        assertThat(userRepository.existsByEmail("race@example.com")).isTrue();
+
+        log.info("=== 동시 중복 이메일 가입 테스트 완료 ===");
+    }
+
+    // 모든 작업을 동시에 출발시키고 실패한 작업의 예외만 모은다
+    private List<Throwable> runTogether(List<Callable<User>> tasks) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<User>> futures = new ArrayList<>();
+            for(Callable<User> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<Throwable> failures = new ArrayList<>();
+            for(Future<User> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
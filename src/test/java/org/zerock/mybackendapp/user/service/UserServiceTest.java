@@ -29,6 +29,9 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserAvailabilityFilter userAvailabilityFilter;
+
     @InjectMocks
     private UserService userService;
 
@@ -46,12 +49,10 @@ class UserServiceTest {
         String username = "newuser";
         String email = "new@example.com";
 
-        given(userRepository.existsByUsername(username)).willReturn(false);
-        given(userRepository.existsByEmail(email)).willReturn(false);
-        given(userRepository.save(any(User.class))).willAnswer(invocation -> {
+        given(userRepository.insertIfAbsent(any(User.class))).willAnswer(invocation -> {
             User user = invocation.getArgument(0);
             // ID가 자동 생성되었다고 가정
-            return User.of(user.getUsername(), user.getEmail());
+            return Optional.of(User.of(user.getUsername(), user.getEmail()));
         });
 
         log.info("Mock 설정 완료: username={}, email={}", username, email);
@@ -65,9 +66,11 @@ class UserServiceTest {
         assertThat(createdUser.getUsername()).isEqualTo(username);
         assertThat(createdUser.getEmail()).isEqualTo(email);
 
-        verify(userRepository).existsByUsername(username);
-        verify(userRepository).existsByEmail(email);
-        verify(userRepository).save(any(User.class));
+        // 사전 중복 조회 없이 INSERT 한 번
+        verify(userRepository).insertIfAbsent(any(User.class));
+        verify(userRepository, never()).existsByUsername(username);
+        verify(userRepository, never()).existsByEmail(email);
+        verify(userAvailabilityFilter).markTaken(createdUser);
 
         log.info("=== 새 사용자 생성 성공 테스트 완료 ===");
     }
@@ -81,6 +84,7 @@ class UserServiceTest {
         String username = "duplicateuser";
         String email = "test@example.com";
 
+        given(userRepository.insertIfAbsent(any(User.class))).willReturn(Optional.empty());
         given(userRepository.existsByUsername(username)).willReturn(true);
 
         log.info("중복 사용자명 설정:　｛｝", username);
@@ -90,8 +94,8 @@ class UserServiceTest {
                 .isInstanceOf((IllegalArgumentException.class))
                 .hasMessageContaining("이미 존재하는 사용자명");
 
+        verify(userRepository).insertIfAbsent(any(User.class));
         verify(userRepository).existsByUsername(username);
-        verify(userRepository, never()).save(any(User.class));
 
         log.info("=== 중복 사용자명 생성 실패 테스트 완료 ===");
     }
@@ -105,8 +109,8 @@ class UserServiceTest {
         String username = "testuser";
         String email = "duplicate@example.com";
 
+        given(userRepository.insertIfAbsent(any(User.class))).willReturn(Optional.empty());
         given(userRepository.existsByUsername(username)).willReturn(false);
-        given(userRepository.existsByEmail(email)).willReturn(true);
 
         log.info("중복 이메일 설정: {}", email);
 
@@ -115,9 +119,8 @@ class UserServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("이미 존재하는 이메일");
 
+        verify(userRepository).insertIfAbsent(any(User.class));
         verify(userRepository).existsByUsername(username);
-        verify(userRepository).existsByEmail(email);
-        verify(userRepository, never()).save(any(User.class));
 
         log.info("=== 중복 이메일 생성 실패 테스트 완료 ===");
     }
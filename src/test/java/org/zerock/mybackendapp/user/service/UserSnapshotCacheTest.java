@@ -0,0 +1,155 @@
+package org.zerock.mybackendapp.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.zerock.mybackendapp.user.domain.User;
+import org.zerock.mybackendapp.user.dto.UserSnapshot;
+import org.zerock.mybackendapp.user.repository.UserRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@Slf4j
+@DisplayName("사용자 스냅샷 캐시 테스트")
+class UserSnapshotCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserSnapshotCache userSnapshotCache;
+    private User mockUser;
+
+    @BeforeEach
+    void setUp() {
+        userSnapshotCache = new UserSnapshotCache(userRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
+        mockUser = User.of("cacheuser", "cache@example.com");
+        ReflectionTestUtils.setField(mockUser, "id", 1L);
+    }
+
+    @Test
+    @DisplayName("id로 조회한 스냅샷은 DB를 다시 조회하지 않음")
+    void getByIdCachesSnapshot() {
+        log.info("=== id 스냅샷 캐시 적중 테스트 시작 ===");
+
+        // Given
+        given(userRepository.findById(1L)).willReturn(Optional.of(mockUser));
+
+        // When
+        Optional<UserSnapshot> first = userSnapshotCache.getById(1L);
+        Optional<UserSnapshot> second = userSnapshotCache.getById(1L);
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(second).contains(first.get());
+        assertThat(second.get().email()).isEqualTo("cache@example.com");
+
+        verify(userRepository, times(1)).findById(1L);
+
+        log.info("=== id 스냅샷 캐시 적중 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("id로 적재한 스냅샷은 username으로도 조회 가능")
+    void getByIdPopulatesUsernameKey() {
+        log.info("=== username 키 동시 적재 테스트 시작 ===");
+
+        // Given
+        given(userRepository.findById(1L)).willReturn(Optional.of(mockUser));
+
+        // When
+        userSnapshotCache.getById(1L);
+        Optional<UserSnapshot> byUsername = userSnapshotCache.getByUsername("cacheuser");
+
+        // Then
+        assertThat(byUsername).isPresent();
+        assertThat(byUsername.get().id()).isEqualTo(1L);
+
+        verify(userRepository, never()).findByUsername("cacheuser");
+
+        log.info("=== username 키 동시 적재 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("교차 적재된 스냅샷은 어느 키로 다시 조회해도 DB를 조회하지 않음")
+    void crossFilledSnapshotHitsWithoutRepository() {
+        log.info("=== 교차 적재 적중 테스트 시작 ===");
+
+        // Given: id로 한 번만 적재
+        given(userRepository.findById(1L)).willReturn(Optional.of(mockUser));
+        Optional<UserSnapshot> loaded = userSnapshotCache.getById(1L);
+
+        // When: 두 키로 번갈아 조회
+        Optional<UserSnapshot> byUsername = userSnapshotCache.getByUsername("cacheuser");
+        Optional<UserSnapshot> byId = userSnapshotCache.getById(1L);
+        Optional<UserSnapshot> byUsernameAgain = userSnapshotCache.getByUsername("cacheuser");
+
+        // Then: 같은 스냅샷이 반환되고 저장소는 처음 한 번만 조회됨
+        assertThat(byUsername).isEqualTo(loaded);
+        assertThat(byId).isEqualTo(loaded);
+        assertThat(byUsernameAgain).isEqualTo(loaded);
+
+        verify(userRepository, times(1)).findById(1L);
+        verify(userRepository, never()).findByUsername("cacheuser");
+
+        log.info("=== 교차 적재 적중 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 변경된 사용자 정보를 다시 조회")
+    void invalidateReloadsSnapshot() {
+        log.info("=== 스냅샷 무효화 테스트 시작 ===");
+
+        // Given
+        given(userRepository.findById(1L)).willReturn(Optional.of(mockUser));
+        userSnapshotCache.getById(1L);
+
+        // When
+        mockUser.updateEmail("changed@example.com");
+        userSnapshotCache.invalidate(mockUser);
+        Optional<UserSnapshot> reloaded = userSnapshotCache.getById(1L);
+
+        // Then
+        assertThat(reloaded).isPresent();
+        assertThat(reloaded.get().email()).isEqualTo("changed@example.com");
+
+        verify(userRepository, times(2)).findById(1L);
+
+        log.info("=== 스냅샷 무효화 테스트 완료 ===");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 캐싱하지 않음")
+    void missingUserIsNotCached() {
+        log.info("=== 존재하지 않는 사용자 캐싱 방지 테스트 시작 ===");
+
+        // Given
+        given(userRepository.findById(999L)).willReturn(Optional.empty());
+
+        // When
+        Optional<UserSnapshot> first = userSnapshotCache.getById(999L);
+        Optional<UserSnapshot> second = userSnapshotCache.getById(999L);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+
+        verify(userRepository, times(2)).findById(999L);
+
+        log.info("=== 존재하지 않는 사용자 캐싱 방지 테스트 완료 ===");
+    }
+}